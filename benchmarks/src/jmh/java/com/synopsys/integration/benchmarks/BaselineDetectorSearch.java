@@ -0,0 +1,281 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluatorListener;
+import com.synopsys.integration.detector.result.DetectorResult;
+import com.synopsys.integration.detector.result.ExcludedDetectorResult;
+import com.synopsys.integration.detector.result.ForcedNestedPassedDetectorResult;
+import com.synopsys.integration.detector.result.MaxDepthExceededDetectorResult;
+import com.synopsys.integration.detector.result.NotNestableDetectorResult;
+import com.synopsys.integration.detector.result.NotSelfNestableDetectorResult;
+import com.synopsys.integration.detector.result.PassedDetectorResult;
+import com.synopsys.integration.detector.result.YieldedDetectorResult;
+import com.synopsys.integration.detector.rule.DetectorRule;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+
+// The search and applicable phase as DetectorEvaluator ran it before rules were tracked in bit sets, kept as the baseline for DetectorSearchBenchmark.
+// Every directory copies the rules applied in its parents into a new HashSet, every rule gets its own search environment and the yield and nesting checks stream over those sets.
+// Only the directory listing differs from the original, it comes from the same cache the evaluator reads so the two searches differ in nothing else.
+public class BaselineDetectorSearch {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final DetectorEvaluationOptions evaluationOptions;
+    private final DirectoryListingCache directoryListingCache;
+    private final Object listenerLock = new Object();
+    // Never set, like the evaluator in the benchmark. Notifying still allocated a lambda per call.
+    private DetectorEvaluatorListener detectorEvaluatorListener;
+
+    private final Map<String, Set<DetectorRule>> rulesByFileName = new HashMap<>();
+    private final Map<String, Set<DetectorRule>> rulesByExtension = new HashMap<>();
+    private final Map<String, Set<DetectorRule>> rulesByWildcard = new HashMap<>();
+
+    public BaselineDetectorSearch(final DetectorEvaluationOptions evaluationOptions, final DirectoryListingCache directoryListingCache, final DetectorRuleSet detectorRuleSet) {
+        this.evaluationOptions = evaluationOptions;
+        this.directoryListingCache = directoryListingCache;
+        for (final DetectorRule rule : detectorRuleSet.getOrderedDetectorRules()) {
+            final List<String> patterns = rule.getTriggerFilePatterns();
+            for (final String pattern : patterns) {
+                if (!hasWildcard(pattern)) {
+                    rulesByFileName.computeIfAbsent(pattern, key -> new HashSet<>()).add(rule);
+                } else if (pattern.startsWith("*.") && pattern.lastIndexOf('.') == 1 && !hasWildcard(pattern.substring(1))) {
+                    rulesByExtension.computeIfAbsent(pattern.substring(1), key -> new HashSet<>()).add(rule);
+                } else {
+                    rulesByWildcard.computeIfAbsent(pattern, key -> new HashSet<>()).add(rule);
+                }
+            }
+        }
+    }
+
+    public void searchAndApplicableEvaluation(final DetectorEvaluationTree detectorEvaluationTree, final Set<DetectorRule> appliedInParent) {
+        final Set<DetectorRule> nextAppliedInParent = searchAndApplicableDirectory(detectorEvaluationTree, appliedInParent);
+
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            searchAndApplicableEvaluation(childDetectorEvaluationTree, nextAppliedInParent);
+        }
+    }
+
+    private Set<DetectorRule> searchAndApplicableDirectory(final DetectorEvaluationTree detectorEvaluationTree, final Set<DetectorRule> appliedInParent) {
+        logger.trace("Determining applicable detectors on the directory: " + detectorEvaluationTree.getDirectory().toString());
+
+        final Set<DetectorRule> appliedSoFar = new HashSet<>();
+        final Set<DetectorRule> triggeredRules = findTriggeredRules(detectorEvaluationTree);
+
+        for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
+            notifyListener(it -> it.applicableStarted(detectorEvaluation));
+
+            final DetectorRule detectorRule = detectorEvaluation.getDetectorRule();
+            logger.trace("Evaluating detector: " + detectorRule.getDescriptiveName());
+
+            final SearchEnvironment searchEnvironment = new SearchEnvironment(detectorEvaluationTree.getDepthFromRoot(), evaluationOptions.getDetectorFilter(), evaluationOptions.isForceNested(), appliedInParent, appliedSoFar);
+
+            final DetectorResult searchableResult = evaluateSearchable(detectorEvaluationTree.getDetectorRuleSet(), detectorEvaluation.getDetectorRule(), searchEnvironment);
+            detectorEvaluation.setSearchable(searchableResult);
+
+            if (detectorEvaluation.isSearchable() && !isTriggered(detectorRule, triggeredRules)) {
+                logger.trace("Searchable passed, but no trigger files were found so the detectable will not be created.");
+                final DetectableResult notTriggered = new FilesNotFoundDetectableResult(detectorRule.getTriggerFilePatterns());
+                detectorEvaluation.setApplicable(new DetectorResult(notTriggered.getPassed(), notTriggered.toDescription(), notTriggered.getClass()));
+            } else if (detectorEvaluation.isSearchable()) {
+                logger.trace("Searchable passed, will continue evaluating.");
+                final DetectableEnvironment detectableEnvironment = new DetectableEnvironment(detectorEvaluationTree.getDirectory());
+                detectorEvaluation.setDetectableEnvironment(detectableEnvironment);
+
+                final Detectable detectable = detectorRule.createDetectable(detectableEnvironment);
+                detectorEvaluation.setDetectable(detectable);
+
+                final DetectableResult applicable = detectable.applicable();
+                final DetectorResult applicableResult = new DetectorResult(applicable.getPassed(), applicable.toDescription(), applicable.getClass());
+                detectorEvaluation.setApplicable(applicableResult);
+
+                if (detectorEvaluation.isApplicable()) {
+                    logger.trace("Found applicable detector: " + detectorRule.getDescriptiveName());
+                    appliedSoFar.add(detectorRule);
+                } else {
+                    logger.trace("Applicable did not pass: " + detectorEvaluation.getApplicabilityMessage());
+                }
+            } else {
+                logger.trace("Searchable did not pass: " + detectorEvaluation.getSearchabilityMessage());
+            }
+
+            notifyListener(it -> it.applicableEnded(detectorEvaluation));
+        }
+
+        if (!appliedSoFar.isEmpty()) {
+            logger.debug("Found (" + appliedSoFar.size() + ") applicable detectors in: " + detectorEvaluationTree.getDirectory().toString());
+        }
+
+        final Set<DetectorRule> nextAppliedInParent = new HashSet<>();
+        nextAppliedInParent.addAll(appliedInParent);
+        nextAppliedInParent.addAll(appliedSoFar);
+        return nextAppliedInParent;
+    }
+
+    private DetectorResult evaluateSearchable(final DetectorRuleSet detectorRuleSet, final DetectorRule detectorRule, final SearchEnvironment environment) {
+        if (!environment.getDetectorFilter().test(detectorRule)) {
+            return new ExcludedDetectorResult();
+        }
+
+        final int maxDepth = detectorRule.getMaxDepth();
+        if (environment.getDepth() > maxDepth) {
+            return new MaxDepthExceededDetectorResult(environment.getDepth(), maxDepth);
+        }
+
+        final Set<DetectorRule> yieldTo = environment.getAppliedSoFar().stream()
+                                              .filter(it -> detectorRuleSet.getYieldsTo(detectorRule).contains(it))
+                                              .collect(Collectors.toSet());
+
+        if (yieldTo.size() > 0) {
+            return new YieldedDetectorResult(yieldTo.stream().map(DetectorRule::getName).collect(Collectors.toSet()));
+        }
+
+        final boolean nestable = detectorRule.isNestable();
+        final boolean selfNestable = detectorRule.isSelfNestable();
+        if (environment.isForceNestedSearch()) {
+            return new ForcedNestedPassedDetectorResult();
+        } else if (nestable) {
+            if (!selfNestable && environment.getAppliedToParent().stream().anyMatch(parentApplied -> parentApplied.equals(detectorRule))) {
+                return new NotSelfNestableDetectorResult();
+            }
+        } else if (environment.getAppliedToParent().stream().anyMatch(it -> !it.isNestInvisible())) {
+            return new NotNestableDetectorResult();
+        }
+
+        return new PassedDetectorResult();
+    }
+
+    private Set<DetectorRule> findTriggeredRules(final DetectorEvaluationTree detectorEvaluationTree) {
+        final Set<DetectorRule> triggered = new HashSet<>();
+        final String[] fileNames = listFileNames(detectorEvaluationTree.getDirectory());
+        if (fileNames == null) {
+            return triggered;
+        }
+        for (final String fileName : fileNames) {
+            final Set<DetectorRule> byName = rulesByFileName.get(fileName);
+            if (byName != null) {
+                triggered.addAll(byName);
+            }
+            final int extensionIndex = fileName.lastIndexOf('.');
+            if (extensionIndex >= 0) {
+                final Set<DetectorRule> byExtension = rulesByExtension.get(fileName.substring(extensionIndex));
+                if (byExtension != null) {
+                    triggered.addAll(byExtension);
+                }
+            }
+            for (final Map.Entry<String, Set<DetectorRule>> wildcard : rulesByWildcard.entrySet()) {
+                if (FilenameUtils.wildcardMatch(fileName, wildcard.getKey(), IOCase.SENSITIVE)) {
+                    triggered.addAll(wildcard.getValue());
+                }
+            }
+        }
+        return triggered;
+    }
+
+    // Stands in for File.list(), which the search used to call.
+    private String[] listFileNames(final File directory) {
+        final File[] files = directoryListingCache.listFiles(directory);
+        if (files == null) {
+            return null;
+        }
+        final String[] fileNames = new String[files.length];
+        for (int i = 0; i < files.length; i++) {
+            fileNames[i] = files[i].getName();
+        }
+        return fileNames;
+    }
+
+    private boolean isTriggered(final DetectorRule detectorRule, final Set<DetectorRule> triggeredRules) {
+        return detectorRule.getTriggerFilePatterns().isEmpty() || triggeredRules.contains(detectorRule);
+    }
+
+    private boolean hasWildcard(final String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0;
+    }
+
+    private void notifyListener(final Consumer<DetectorEvaluatorListener> notification) {
+        synchronized (listenerLock) {
+            Optional.ofNullable(detectorEvaluatorListener).ifPresent(notification);
+        }
+    }
+
+    private static class SearchEnvironment {
+        private final int depth;
+        private final Predicate<DetectorRule> detectorFilter;
+        private final boolean forceNestedSearch;
+        private final Set<DetectorRule> appliedToParent;
+        private final Set<DetectorRule> appliedSoFar;
+
+        private SearchEnvironment(final int depth, final Predicate<DetectorRule> detectorFilter, final boolean forceNestedSearch, final Set<DetectorRule> appliedToParent,
+            final Set<DetectorRule> appliedSoFar) {
+            this.depth = depth;
+            this.detectorFilter = detectorFilter;
+            this.forceNestedSearch = forceNestedSearch;
+            this.appliedToParent = appliedToParent;
+            this.appliedSoFar = appliedSoFar;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public Predicate<DetectorRule> getDetectorFilter() {
+            return detectorFilter;
+        }
+
+        public boolean isForceNestedSearch() {
+            return forceNestedSearch;
+        }
+
+        public Set<DetectorRule> getAppliedToParent() {
+            return appliedToParent;
+        }
+
+        public Set<DetectorRule> getAppliedSoFar() {
+            return appliedSoFar;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.configuration.enumeration.DefaultDetectorExcludedDirectories;
+import com.synopsys.integration.detect.tool.detector.file.DetectDetectorFileFilter;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+import com.synopsys.integration.detectable.detectables.cargo.CargoDetectable;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmPackageLockDetectable;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.GemlockDetectable;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockDetectable;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
+import com.synopsys.integration.detectable.factory.DetectableFactory;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.finder.DetectorFinderOptions;
+import com.synopsys.integration.detector.rule.DetectorRule;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+import com.synopsys.integration.detector.rule.DetectorRuleSetBuilder;
+
+// The lock file rules of the real rule set, whose detectables only look for files while searching and need no executables.
+public class BenchmarkFixtures {
+    public static DetectorRuleSet createRuleSet() {
+        return createRuleSet(new WildcardFileFinder());
+    }
+
+    // Detectables look for their files in the cached listings, so the rules also apply in directories that only exist in the cache.
+    public static DetectorRuleSet createRuleSet(final DirectoryListingCache directoryListingCache) {
+        return createRuleSet(new WildcardFileFinder(directoryListingCache));
+    }
+
+    private static DetectorRuleSet createRuleSet(final WildcardFileFinder fileFinder) {
+        final DetectableFactory detectableFactory = new DetectableFactory(fileFinder, null, new ExternalIdFactory(), new Gson());
+        final NpmLockfileOptions npmLockfileOptions = new NpmLockfileOptions(true);
+        final YarnLockOptions yarnLockOptions = new YarnLockOptions(false);
+
+        final DetectorRuleSetBuilder ruleSet = new DetectorRuleSetBuilder();
+        ruleSet.addDetector(DetectorType.CARGO, "Cargo", CargoDetectable.class, detectableFactory::createCargoDetectable).triggeredBy(CargoDetectable.CARGO_LOCK_FILENAME, CargoDetectable.CARGO_TOML_FILENAME).defaults().build();
+        final DetectorRule yarnLock = ruleSet.addDetector(DetectorType.YARN, "Yarn Lock", YarnLockDetectable.class, environment -> detectableFactory.createYarnLockDetectable(environment, yarnLockOptions))
+                                          .triggeredBy(YarnLockDetectable.YARN_LOCK_FILENAME).defaultLock().build();
+        final DetectorRule npmPackageLock = ruleSet.addDetector(DetectorType.NPM, "Package Lock", NpmPackageLockDetectable.class, environment -> detectableFactory.createNpmPackageLockDetectable(environment, npmLockfileOptions))
+                                                .triggeredBy(NpmPackageLockDetectable.PACKAGE_LOCK_JSON).defaultLock().build();
+        ruleSet.addDetector(DetectorType.RUBYGEMS, "Gemlock", GemlockDetectable.class, detectableFactory::createGemlockDetectable).triggeredBy(GemlockDetectable.GEMFILE_LOCK_FILENAME).defaults().build();
+        ruleSet.yield(npmPackageLock).to(yarnLock);
+        return ruleSet.build();
+    }
+
+    public static DetectDetectorFileFilter createFileFilter(final Path sourcePath) {
+        final List<String> excludedDirectories = Arrays.stream(DefaultDetectorExcludedDirectories.values())
+                                                     .map(DefaultDetectorExcludedDirectories::getDirectoryName)
+                                                     .collect(Collectors.toList());
+        return new DetectDetectorFileFilter(sourcePath, excludedDirectories, new ArrayList<>(), new ArrayList<>());
+    }
+
+    public static DetectorFinderOptions createFinderOptions(final File root, final int depth, final int parallelism) {
+        return new DetectorFinderOptions(createFileFilter(root.toPath()), depth, parallelism);
+    }
+}
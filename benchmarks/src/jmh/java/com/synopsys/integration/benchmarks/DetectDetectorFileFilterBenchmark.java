@@ -0,0 +1,62 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.synopsys.integration.detect.tool.detector.file.DetectDetectorFileFilter;
+
+@State(Scope.Benchmark)
+public class DetectDetectorFileFilterBenchmark {
+    private DetectDetectorFileFilter fileFilter;
+    private List<File> directories;
+
+    @Setup
+    public void setup(final SyntheticSourceTree tree) throws IOException {
+        fileFilter = BenchmarkFixtures.createFileFilter(tree.getRoot().toPath());
+        try (final Stream<Path> paths = Files.walk(tree.getRoot().toPath())) {
+            directories = paths.map(Path::toFile)
+                              .filter(File::isDirectory)
+                              .collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public void test(final Blackhole blackhole) {
+        for (final File directory : directories) {
+            blackhole.consume(fileFilter.test(directory));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluator;
+import com.synopsys.integration.detector.finder.DetectorFinder;
+import com.synopsys.integration.detector.finder.DetectorFinderDirectoryListException;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+
+// Evaluations are recorded on the tree, so each invocation searches a freshly found tree.
+// As in a detect run, the evaluator matches rule triggers against the listings the finder cached. Run with -prof gc to see what the search allocates per directory.
+@State(Scope.Thread)
+public class DetectorEvaluatorBenchmark {
+    private DetectorRuleSet detectorRuleSet;
+    private DirectoryListingCache directoryListingCache;
+    private DetectorEvaluationTree detectorEvaluationTree;
+
+    @Setup(Level.Trial)
+    public void setupRuleSet() {
+        detectorRuleSet = BenchmarkFixtures.createRuleSet();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupTree(final SyntheticSourceTree tree) throws DetectorFinderDirectoryListException {
+        directoryListingCache = new DirectoryListingCache();
+        detectorEvaluationTree = new DetectorFinder(directoryListingCache).findDetectors(tree.getRoot(), detectorRuleSet, BenchmarkFixtures.createFinderOptions(tree.getRoot(), tree.depth, 1))
+                                     .orElseThrow(() -> new IllegalStateException("The synthetic source tree produced no detector evaluation tree."));
+    }
+
+    @Benchmark
+    public DetectorEvaluationTree searchAndApplicableEvaluation() {
+        final DetectorEvaluator detectorEvaluator = new DetectorEvaluator(new DetectorEvaluationOptions(false, rule -> true), directoryListingCache);
+        detectorEvaluator.searchAndApplicableEvaluation(detectorEvaluationTree);
+        return detectorEvaluationTree;
+    }
+}
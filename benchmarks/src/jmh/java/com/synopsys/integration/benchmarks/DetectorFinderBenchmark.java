@@ -0,0 +1,55 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.finder.DetectorFinder;
+import com.synopsys.integration.detector.finder.DetectorFinderDirectoryListException;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+
+@State(Scope.Benchmark)
+public class DetectorFinderBenchmark {
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    private DetectorRuleSet detectorRuleSet;
+
+    @Setup
+    public void setup() {
+        detectorRuleSet = BenchmarkFixtures.createRuleSet();
+    }
+
+    @Benchmark
+    public Optional<DetectorEvaluationTree> findDetectors(final SyntheticSourceTree tree) throws DetectorFinderDirectoryListException {
+        final DetectorFinder detectorFinder = new DetectorFinder();
+        return detectorFinder.findDetectors(tree.getRoot(), detectorRuleSet, BenchmarkFixtures.createFinderOptions(tree.getRoot(), tree.depth, parallelism));
+    }
+}
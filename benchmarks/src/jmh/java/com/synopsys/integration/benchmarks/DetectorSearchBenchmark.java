@@ -0,0 +1,55 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.util.HashSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluator;
+
+// Searches the synthetic evaluation tree with the evaluator and with the HashSet based search it replaced.
+// Run with -prof gc and compare gc.alloc.rate.norm, the bytes each search of the whole tree allocates. Searching again overwrites the results on the tree, so it is only built once per trial.
+@State(Scope.Thread)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class DetectorSearchBenchmark {
+    @Benchmark
+    public DetectorEvaluationTree bitSetSearch(final SyntheticEvaluationTree tree) {
+        final DetectorEvaluator detectorEvaluator = new DetectorEvaluator(new DetectorEvaluationOptions(false, rule -> true), tree.getDirectoryListingCache());
+        detectorEvaluator.searchAndApplicableEvaluation(tree.getRoot());
+        return tree.getRoot();
+    }
+
+    @Benchmark
+    public DetectorEvaluationTree hashSetBaselineSearch(final SyntheticEvaluationTree tree) {
+        final DetectorEvaluationTree root = tree.getRoot();
+        final BaselineDetectorSearch baselineDetectorSearch = new BaselineDetectorSearch(new DetectorEvaluationOptions(false, rule -> true), tree.getDirectoryListingCache(), root.getDetectorRuleSet());
+        baselineDetectorSearch.searchAndApplicableEvaluation(root, new HashSet<>());
+        return root;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser;
+
+// Generates a Gemfile.lock of gems specs, each depending on a few of its neighbours by fuzzy or pinned version, a few of which are never specced.
+@State(Scope.Benchmark)
+public class GemlockParserBenchmark {
+    @Param({ "2000", "20000" })
+    public int gems;
+
+    private List<String> gemfileLockLines;
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Setup(Level.Trial)
+    public void generate() {
+        gemfileLockLines = new ArrayList<>();
+        gemfileLockLines.add("GEM");
+        gemfileLockLines.add("  remote: https://rubygems.org/");
+        gemfileLockLines.add("  specs:");
+        for (int i = 0; i < gems; i++) {
+            gemfileLockLines.add("    gem" + i + " (1.0." + i + ")");
+            for (int r = 1; r <= 3; r++) {
+                int dependency = (i + r * 7) % gems;
+                gemfileLockLines.add(r == 3 ? "      gem" + dependency + " (= 1.0." + dependency + ")" : "      gem" + dependency + " (~> 1.0, >= 1.0." + dependency + ")");
+            }
+            if (i % 100 == 0) {
+                gemfileLockLines.add("      unspecced" + i + " (>= 0)");
+            }
+        }
+        gemfileLockLines.add("");
+        gemfileLockLines.add("PLATFORMS");
+        gemfileLockLines.add("  ruby");
+        gemfileLockLines.add("");
+        gemfileLockLines.add("DEPENDENCIES");
+        for (int i = 0; i < gems; i += 10) {
+            gemfileLockLines.add("  gem" + i + " (~> 1.0)");
+        }
+        gemfileLockLines.add("");
+        gemfileLockLines.add("BUNDLED WITH");
+        gemfileLockLines.add("   2.1.4");
+    }
+
+    @Benchmark
+    public DependencyGraph parse() throws MissingExternalIdException {
+        return new GemlockParser(externalIdFactory).parseProjectDependencies(gemfileLockLines);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+
+// Generates an inspector report of configurations, each a tree of nested dependencies with replacements, omitted repeats and project references.
+@State(Scope.Benchmark)
+public class GradleReportParserBenchmark {
+    @Param({ "10", "100" })
+    public int configurations;
+
+    @Param({ "2000" })
+    public int dependencies;
+
+    private File directory;
+    private File report;
+
+    private final GradleReportParser gradleReportParser = new GradleReportParser();
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        directory = Files.createTempDirectory("gradle-report").toFile();
+        report = new File(directory, "root_dependencyGraph.txt");
+        try (Writer writer = Files.newBufferedWriter(report.toPath(), StandardCharsets.UTF_8)) {
+            for (int c = 0; c < configurations; c++) {
+                writer.write("configuration" + c + " - Generated configuration " + c + ".\n");
+                for (int i = 0; i < dependencies; i++) {
+                    int level = i % 4;
+                    for (int l = 0; l < level; l++) {
+                        writer.write("|    ");
+                    }
+                    writer.write(i % 9 == 8 ? "\\--- " : "+--- ");
+                    if (i % 50 == 0) {
+                        writer.write("project :module" + i + "\n");
+                    } else if (i % 7 == 0) {
+                        writer.write("org.example:artifact" + i + ":1." + i + " -> 2." + i + "\n");
+                    } else {
+                        writer.write("org.example:artifact" + i + ":1." + i + (i % 5 == 0 ? " (*)" : "") + "\n");
+                    }
+                }
+                writer.write("\n");
+            }
+            writer.write(GradleReportParser.DETECT_META_DATA_HEADER + "\n");
+            writer.write(GradleReportParser.PROJECT_PATH_PREFIX + directory.getAbsolutePath() + "\n");
+            writer.write(GradleReportParser.PROJECT_GROUP_PREFIX + "org.example\n");
+            writer.write(GradleReportParser.PROJECT_NAME_PREFIX + "root\n");
+            writer.write(GradleReportParser.PROJECT_VERSION_PREFIX + "1.0.0\n");
+            writer.write(GradleReportParser.DETECT_META_DATA_FOOTER + "\n");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public Optional<GradleReport> parse() {
+        return gradleReportParser.parseReport(report);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+
+// Generates a flat package-lock.json of entries packages, each requiring a few of its neighbours and carrying one nested package.
+@State(Scope.Benchmark)
+public class NpmLockfileBenchmark {
+    @Param({ "10000", "100000" })
+    public int entries;
+
+    private File directory;
+    private File lockfile;
+
+    private final NpmLockfilePackager npmLockfilePackager = new NpmLockfilePackager(new Gson(), new ExternalIdFactory());
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        directory = Files.createTempDirectory("npm-lockfile").toFile();
+        lockfile = new File(directory, "package-lock.json");
+        try (Writer writer = Files.newBufferedWriter(lockfile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("{\"name\":\"benchmark\",\"version\":\"1.0.0\",\"lockfileVersion\":1,\"requires\":true,\"dependencies\":{");
+            for (int i = 0; i < entries; i++) {
+                if (i > 0) {
+                    writer.write(",");
+                }
+                writer.write("\"dep" + i + "\":{\"version\":\"1.0." + i + "\",\"dev\":" + (i % 4 == 0) + ",\"requires\":{");
+                for (int r = 1; r <= 3; r++) {
+                    if (r > 1) {
+                        writer.write(",");
+                    }
+                    writer.write("\"dep" + ((i + r * 7) % entries) + "\":\"^1.0.0\"");
+                }
+                writer.write("},\"dependencies\":{\"nested" + i + "\":{\"version\":\"2.0.0\"}}}");
+            }
+            writer.write("}}");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public NpmParseResult parse() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
+            return npmLockfilePackager.parse(null, reader, true);
+        }
+    }
+}
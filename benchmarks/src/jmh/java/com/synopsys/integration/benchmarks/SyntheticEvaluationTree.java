@@ -0,0 +1,113 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.rule.DetectorRule;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+
+// Builds a detector evaluation tree in memory, by default 10 wide and 6 deep for about 1.1M directories, which is more than is practical to create on disk.
+// None of the directories exist. Their listings are put in a DirectoryListingCache the way the detector finder leaves them, with build files spread like SyntheticSourceTree.
+@State(Scope.Benchmark)
+public class SyntheticEvaluationTree {
+    @Param({ "10" })
+    public int width;
+
+    @Param({ "6" })
+    public int depth;
+
+    private DirectoryListingCache directoryListingCache;
+    private DetectorRuleSet detectorRuleSet;
+    private DetectorEvaluationTree root;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        directoryListingCache = new DirectoryListingCache();
+        detectorRuleSet = BenchmarkFixtures.createRuleSet(directoryListingCache);
+        root = generate(new File("synthetic-evaluation-tree"), 0, 0);
+    }
+
+    public DirectoryListingCache getDirectoryListingCache() {
+        return directoryListingCache;
+    }
+
+    public DetectorEvaluationTree getRoot() {
+        return root;
+    }
+
+    private DetectorEvaluationTree generate(final File directory, final int level, final int index) {
+        final List<File> files = new ArrayList<>();
+        files.add(new File(directory, "README.md"));
+        files.add(new File(directory, "Main.java"));
+        if (index % 5 == 0) {
+            files.add(new File(directory, "pom.xml"));
+        }
+        if (index % 7 == 0) {
+            files.add(new File(directory, "package.json"));
+            files.add(new File(directory, "package-lock.json"));
+        }
+        if (index % 11 == 0) {
+            files.add(new File(directory, "build.gradle"));
+        }
+        if (index % 13 == 0) {
+            files.add(new File(directory, "Gemfile.lock"));
+        }
+        if (index % 17 == 0) {
+            files.add(new File(directory, "yarn.lock"));
+        }
+        if (index % 19 == 0) {
+            files.add(new File(directory, "Cargo.toml"));
+            files.add(new File(directory, "Cargo.lock"));
+        }
+
+        final Set<DetectorEvaluationTree> children = new HashSet<>();
+        if (level < depth) {
+            for (int i = 0; i < width; i++) {
+                final File childDirectory = new File(directory, "module-" + i);
+                files.add(childDirectory);
+                children.add(generate(childDirectory, level + 1, index * width + i + 1));
+            }
+        }
+        directoryListingCache.put(directory, files.toArray(new File[0]));
+
+        final List<DetectorEvaluation> evaluations = new ArrayList<>();
+        for (final DetectorRule rule : detectorRuleSet.getOrderedDetectorRules()) {
+            evaluations.add(new DetectorEvaluation(rule));
+        }
+        return new DetectorEvaluationTree(directory, level, detectorRuleSet, evaluations, children);
+    }
+}
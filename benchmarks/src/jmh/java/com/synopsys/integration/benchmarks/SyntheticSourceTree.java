@@ -0,0 +1,99 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Generates a source tree where every directory has width subdirectories down to depth levels.
+// Build files are spread deterministically so every trial searches the same tree, and some directories carry default exclusions like node_modules.
+@State(Scope.Benchmark)
+public class SyntheticSourceTree {
+    @Param({ "4", "8" })
+    public int width;
+
+    @Param({ "4", "5" })
+    public int depth;
+
+    private File root;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        root = Files.createTempDirectory("synthetic-source-tree").toFile();
+        generate(root, 0, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        FileUtils.deleteDirectory(root);
+    }
+
+    public File getRoot() {
+        return root;
+    }
+
+    private void generate(final File directory, final int level, final int index) throws IOException {
+        touch(directory, "README.md");
+        touch(directory, "Main.java");
+        if (index % 5 == 0) {
+            touch(directory, "pom.xml");
+        }
+        if (index % 7 == 0) {
+            touch(directory, "package.json");
+            touch(directory, "package-lock.json");
+            touch(new File(directory, "node_modules/dependency"), "package.json");
+        }
+        if (index % 11 == 0) {
+            touch(directory, "build.gradle");
+            touch(new File(directory, "build/classes"), "Main.class");
+        }
+        if (index % 13 == 0) {
+            touch(directory, "Gemfile.lock");
+        }
+        if (index % 17 == 0) {
+            touch(directory, "yarn.lock");
+        }
+
+        if (level < depth) {
+            for (int i = 0; i < width; i++) {
+                generate(new File(directory, "module-" + i), level + 1, index * width + i + 1);
+            }
+        }
+    }
+
+    private void touch(final File directory, final String fileName) throws IOException {
+        final Path path = new File(directory, fileName).toPath();
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[0]);
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+
+@State(Scope.Benchmark)
+public class WildcardFileFinderBenchmark {
+    private static final List<String> PATTERNS = Arrays.asList("*.lock", "package-lock.json", "pom.xml", "*.gradle");
+
+    private final WildcardFileFinder wildcardFileFinder = new WildcardFileFinder();
+
+    @Benchmark
+    public List<File> findFiles(final SyntheticSourceTree tree) {
+        return wildcardFileFinder.findFiles(tree.getRoot(), PATTERNS, tree.depth, false);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * benchmarks
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+
+// Generates a v1 yarn.lock of entries packages, each resolved from two ranges and depending on a few of its neighbours.
+@State(Scope.Benchmark)
+public class YarnLockParserBenchmark {
+    @Param({ "10000", "100000" })
+    public int entries;
+
+    private File directory;
+    private File yarnLock;
+
+    private final YarnLockParser yarnLockParser = new YarnLockParser();
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        directory = Files.createTempDirectory("yarn-lock").toFile();
+        yarnLock = new File(directory, "yarn.lock");
+        try (Writer writer = Files.newBufferedWriter(yarnLock.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# yarn lockfile v1\n\n\n");
+            for (int i = 0; i < entries; i++) {
+                writer.write("pkg" + i + "@^1.0." + i + ", \"pkg" + i + "@>= 1.0.0 < 2\":\n");
+                writer.write("  version \"1.0." + i + "\"\n");
+                writer.write("  resolved \"https://registry.yarnpkg.com/pkg" + i + "/-/pkg" + i + "-1.0." + i + ".tgz\"\n");
+                writer.write("  dependencies:\n");
+                for (int r = 1; r <= 3; r++) {
+                    int dependency = (i + r * 7) % entries;
+                    writer.write("    pkg" + dependency + " \"^1.0." + dependency + "\"\n");
+                }
+                writer.write("\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public YarnLock parse() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(yarnLock.toPath(), StandardCharsets.UTF_8)) {
+            return yarnLockParser.parseYarnLock(reader);
+        }
+    }
+}
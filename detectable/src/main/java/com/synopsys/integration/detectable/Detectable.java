@@ -69,4 +69,12 @@ public abstract class Detectable {
     public List<File> getFoundRelevantFiles() {
         return relevantFiles;
     }
+
+    /*
+     * Whether the extraction is determined by the found relevant files alone, so it may be reused while they are unchanged.
+     * Detectables that run executables also depend on installed packages and tool versions they do not report, so they must not be reused.
+     */
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return false;
+    }
 }
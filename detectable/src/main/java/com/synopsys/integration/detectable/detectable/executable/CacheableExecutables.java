@@ -0,0 +1,112 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.apache.commons.io.FilenameUtils;
+import org.jetbrains.annotations.Nullable;
+
+// The commands whose output may be reused instead of running them again. Only read-only queries belong here: anything that changes files,
+// or whose output can change while Detect runs, must keep running every time.
+public class CacheableExecutables {
+    private final List<CacheableCommand> cacheableCommands = new ArrayList<>();
+
+    public static CacheableExecutables standard() {
+        final CacheableExecutables cacheableExecutables = new CacheableExecutables();
+        // Version queries are answered by the executable alone, so their output also holds across runs.
+        cacheableExecutables.addExecutableQuery(null, "--version");
+        cacheableExecutables.addExecutableQuery("go", "version");
+        cacheableExecutables.addExecutableQuery("dotnet", "--list-runtimes");
+
+        cacheableExecutables.addRunQuery("go", "list", "-m");
+        cacheableExecutables.addRunQuery("go", "env");
+        cacheableExecutables.addRunQuery("git", "rev-parse");
+        cacheableExecutables.addRunQuery("git", "config", "--get");
+        cacheableExecutables.addRunQuery("git", "log");
+        cacheableExecutables.addRunQuery("conda", "info", "--json");
+        cacheableExecutables.addRunQuery("bazel", "query");
+        cacheableExecutables.addRunQuery("bazel", "cquery");
+        return cacheableExecutables;
+    }
+
+    // Cacheable for the rest of the run when the arguments start with the given ones. A null executable name matches any executable.
+    public void addRunQuery(@Nullable final String executableName, final String... argumentPrefix) {
+        cacheableCommands.add(new CacheableCommand(executableName, Arrays.asList(argumentPrefix), false));
+    }
+
+    // Cacheable across runs, for as long as the executable file is unchanged, when the arguments are exactly the given ones.
+    public void addExecutableQuery(@Nullable final String executableName, final String... arguments) {
+        cacheableCommands.add(new CacheableCommand(executableName, Arrays.asList(arguments), true));
+    }
+
+    public Optional<CacheableCommand> find(final Executable executable) {
+        final List<String> command = executable.getCommand();
+        if (command.isEmpty()) {
+            return Optional.empty();
+        }
+        final String executableName = toExecutableName(command.get(0));
+        final List<String> arguments = command.subList(1, command.size());
+        return cacheableCommands.stream()
+                   .filter(cacheableCommand -> cacheableCommand.matches(executableName, arguments))
+                   .findFirst();
+    }
+
+    // The file name without its extension, so gradlew.bat, python3.exe and /usr/bin/python3 all name the same executable as gradlew and python3.
+    private static String toExecutableName(final String executablePath) {
+        return FilenameUtils.getBaseName(new File(executablePath).getName()).toLowerCase(Locale.ROOT);
+    }
+
+    public static class CacheableCommand {
+        @Nullable
+        private final String executableName;
+        private final List<String> arguments;
+        private final boolean dependsOnlyOnExecutable;
+
+        private CacheableCommand(@Nullable final String executableName, final List<String> arguments, final boolean dependsOnlyOnExecutable) {
+            this.executableName = executableName;
+            this.arguments = arguments;
+            this.dependsOnlyOnExecutable = dependsOnlyOnExecutable;
+        }
+
+        private boolean matches(final String candidateExecutableName, final List<String> candidateArguments) {
+            if (executableName != null && !executableName.equals(candidateExecutableName)) {
+                return false;
+            }
+            if (dependsOnlyOnExecutable) {
+                return arguments.equals(candidateArguments);
+            }
+            return candidateArguments.size() >= arguments.size() && arguments.equals(candidateArguments.subList(0, arguments.size()));
+        }
+
+        // When true the output may be kept across runs, keyed on the executable file instead of the working directory.
+        public boolean dependsOnlyOnExecutable() {
+            return dependsOnlyOnExecutable;
+        }
+    }
+}
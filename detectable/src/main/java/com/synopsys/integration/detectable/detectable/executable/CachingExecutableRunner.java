@@ -0,0 +1,162 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Reuses the output of cacheable commands that were already run with the same working directory, environment and arguments in this run.
+// With a disk cache, commands that depend only on their executable also reuse output from earlier runs.
+// Only successful runs are kept, so a failure is always retried.
+public class CachingExecutableRunner implements ExecutableRunner {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExecutableRunner executableRunner;
+    private final CacheableExecutables cacheableExecutables;
+    @Nullable
+    private final DiskExecutableOutputCache diskExecutableOutputCache;
+    private final Map<Executable, ExecutableOutput> runOutputs = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public CachingExecutableRunner(final ExecutableRunner executableRunner, final CacheableExecutables cacheableExecutables, @Nullable final DiskExecutableOutputCache diskExecutableOutputCache) {
+        this.executableRunner = executableRunner;
+        this.cacheableExecutables = cacheableExecutables;
+        this.diskExecutableOutputCache = diskExecutableOutputCache;
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final File workingDirectory, final String exeCmd, final String... args) throws ExecutableRunnerException {
+        return execute(new Executable(workingDirectory, new HashMap<>(), exeCmd, Arrays.asList(args)));
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final File workingDirectory, final String exeCmd, final List<String> args) throws ExecutableRunnerException {
+        return execute(new Executable(workingDirectory, new HashMap<>(), exeCmd, args));
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final File workingDirectory, final File exeFile, final String... args) throws ExecutableRunnerException {
+        return execute(new Executable(workingDirectory, new HashMap<>(), exeFile.getAbsolutePath(), Arrays.asList(args)));
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final File workingDirectory, final File exeFile, final List<String> args) throws ExecutableRunnerException {
+        return execute(new Executable(workingDirectory, new HashMap<>(), exeFile.getAbsolutePath(), args));
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final Executable executable) throws ExecutableRunnerException {
+        final Optional<CacheableExecutables.CacheableCommand> cacheableCommand = cacheableExecutables.find(executable);
+        if (!cacheableCommand.isPresent()) {
+            return executableRunner.execute(executable);
+        }
+
+        final ExecutableOutput runOutput = runOutputs.get(executable);
+        if (runOutput != null) {
+            return cacheHit(executable, runOutput);
+        }
+
+        final Optional<File> entryFile = findEntryFile(executable, cacheableCommand.get());
+        if (entryFile.isPresent()) {
+            final Optional<ExecutableOutput> diskOutput = diskExecutableOutputCache.read(entryFile.get());
+            if (diskOutput.isPresent()) {
+                runOutputs.put(executable, diskOutput.get());
+                return cacheHit(executable, diskOutput.get());
+            }
+        }
+
+        misses.incrementAndGet();
+        final ExecutableOutput executableOutput = executableRunner.execute(executable);
+        if (executableOutput.getReturnCode() == 0) {
+            runOutputs.put(executable, executableOutput);
+            entryFile.ifPresent(file -> diskExecutableOutputCache.write(file, executableOutput));
+        }
+        return executableOutput;
+    }
+
+    // A cacheable command's output has to be kept whole anyway, so it is run without streaming and then replayed.
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        if (!cacheableExecutables.find(executable).isPresent()) {
+            return executableRunner.execute(executable, standardOutputConsumer);
+        }
+        return ExecutableRunner.super.execute(executable, standardOutputConsumer);
+    }
+
+    @NotNull
+    @Override
+    public <T> Callable<T> propagateContext(final Callable<T> task) {
+        return executableRunner.propagateContext(task);
+    }
+
+    private Optional<File> findEntryFile(final Executable executable, final CacheableExecutables.CacheableCommand cacheableCommand) {
+        if (diskExecutableOutputCache == null || !cacheableCommand.dependsOnlyOnExecutable()) {
+            return Optional.empty();
+        }
+        return diskExecutableOutputCache.findEntryFile(executable);
+    }
+
+    private ExecutableOutput cacheHit(final Executable executable, final ExecutableOutput executableOutput) {
+        hits.incrementAndGet();
+        logger.debug(String.format("Reusing the output of an earlier run of >%s", executable.getMaskedExecutableDescription()));
+        return executableOutput;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    public ExecutableRunner getExecutableRunner() {
+        return executableRunner;
+    }
+
+    @NotNull
+    @Override
+    public Executable translate(final File workingDirectory, final File exeFile, final List<String> args) {
+        return executableRunner.translate(workingDirectory, exeFile, args);
+    }
+}
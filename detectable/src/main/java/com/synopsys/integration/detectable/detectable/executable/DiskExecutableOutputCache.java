@@ -0,0 +1,136 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.detectable.util.DigestUtil;
+
+// Stores the output of commands that depend only on their executable as json named by the SHA-256 of the executable's path, size and
+// modification time, its arguments and its environment. Replacing or updating the executable changes the key, so stale entries are never read.
+public class DiskExecutableOutputCache {
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File cacheDirectory;
+    private final int maxEntries;
+    private final Gson gson;
+
+    public DiskExecutableOutputCache(final File cacheDirectory, final int maxEntries, final Gson gson) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxEntries = maxEntries;
+        this.gson = gson;
+    }
+
+    // Empty when the executable is not an existing file named by an absolute path, since only then can it be told apart from a different one.
+    public Optional<File> findEntryFile(final Executable executable) {
+        final List<String> command = executable.getCommand();
+        final File executableFile = new File(command.get(0));
+        if (!executableFile.isAbsolute() || !executableFile.isFile()) {
+            return Optional.empty();
+        }
+        final MessageDigest digest = DigestUtil.createSha256();
+        DigestUtil.update(digest, executableFile.getAbsolutePath());
+        DigestUtil.update(digest, Long.toString(executableFile.length()));
+        DigestUtil.update(digest, Long.toString(executableFile.lastModified()));
+        for (final String argument : command.subList(1, command.size())) {
+            DigestUtil.update(digest, argument);
+        }
+        for (final Map.Entry<String, String> environmentVariable : new TreeMap<>(executable.getEnvironmentVariables()).entrySet()) {
+            DigestUtil.update(digest, environmentVariable.getKey());
+            DigestUtil.update(digest, environmentVariable.getValue());
+        }
+        return Optional.of(new File(cacheDirectory, DigestUtil.toHex(digest.digest()) + ENTRY_SUFFIX));
+    }
+
+    public Optional<ExecutableOutput> read(final File entryFile) {
+        if (!entryFile.isFile()) {
+            return Optional.empty();
+        }
+        try (final Reader reader = Files.newBufferedReader(entryFile.toPath(), StandardCharsets.UTF_8)) {
+            final ExecutableOutput executableOutput = gson.fromJson(reader, ExecutableOutput.class);
+            if (executableOutput == null) {
+                return Optional.empty();
+            }
+            // Touching the entry is what keeps it out of the eviction order.
+            entryFile.setLastModified(System.currentTimeMillis());
+            return Optional.of(executableOutput);
+        } catch (final IOException | JsonParseException e) {
+            logger.debug(String.format("Discarding the unreadable executable cache entry %s: %s", entryFile.getName(), e.getMessage()));
+            entryFile.delete();
+            return Optional.empty();
+        }
+    }
+
+    public void write(final File entryFile, final ExecutableOutput executableOutput) {
+        // What the run cost says nothing about a later run that reads the entry.
+        final ExecutableOutput storedOutput = new ExecutableOutput(executableOutput.getCommandDescription(), executableOutput.getReturnCode(), executableOutput.getStandardOutput(), executableOutput.getErrorOutput());
+        try {
+            final Path directory = cacheDirectory.toPath();
+            Files.createDirectories(directory);
+            // Written next to the entry and moved into place so concurrent runs never read a partial entry.
+            final Path temporaryPath = Files.createTempFile(directory, entryFile.getName(), ".tmp");
+            try (final Writer writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+                gson.toJson(storedOutput, writer);
+            }
+            Files.move(temporaryPath, entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to write the executable cache entry %s: %s", entryFile.getName(), e.getMessage()));
+            return;
+        }
+        evict();
+    }
+
+    private synchronized void evict() {
+        final File[] entries = cacheDirectory.listFiles((directory, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (entries == null || entries.length <= maxEntries) {
+            return;
+        }
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        final int excess = entries.length - maxEntries;
+        for (int i = 0; i < excess; i++) {
+            if (!entries[i].delete()) {
+                logger.debug(String.format("Unable to evict the executable cache entry %s.", entries[i].getName()));
+            }
+        }
+    }
+}
@@ -86,6 +86,10 @@ public class Executable {
         return command;
     }
 
+    public Map<String, String> getEnvironmentVariables() {
+        return environmentVariables;
+    }
+
     private List<String> createProcessBuilderArguments() {
         // ProcessBuilder can only be called with a List<java.lang.String> so do any needed conversion
         final List<String> processBuilderArguments = new ArrayList<>(command);
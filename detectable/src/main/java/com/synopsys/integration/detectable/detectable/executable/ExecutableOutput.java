@@ -24,18 +24,28 @@ package com.synopsys.integration.detectable.detectable.executable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
 
 public class ExecutableOutput {
     private int returnCode = 0;
     private final String standardOutput;
     private final String errorOutput;
     private final String commandDescription;
+    @Nullable
+    private final ExecutableResourceUsage resourceUsage;
 
     public ExecutableOutput(final String commandDescription, final int returnCode, final String standardOutput, final String errorOutput) {
+        this(commandDescription, returnCode, standardOutput, errorOutput, null);
+    }
+
+    public ExecutableOutput(final String commandDescription, final int returnCode, final String standardOutput, final String errorOutput, @Nullable final ExecutableResourceUsage resourceUsage) {
         this.commandDescription = commandDescription;
         this.returnCode = returnCode;
         this.standardOutput = standardOutput;
         this.errorOutput = errorOutput;
+        this.resourceUsage = resourceUsage;
     }
 
     public List<String> getStandardOutputAsList() {
@@ -61,4 +71,8 @@ public class ExecutableOutput {
     public String getCommandDescription() {
         return commandDescription;
     }
+
+    public Optional<ExecutableResourceUsage> getResourceUsage() {
+        return Optional.ofNullable(resourceUsage);
+    }
 }
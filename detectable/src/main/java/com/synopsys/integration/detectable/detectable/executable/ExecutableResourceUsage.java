@@ -0,0 +1,61 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+// What an executable cost to run. CPU time and peak resident set size are sampled from the process tree while it runs, so they are only
+// known on platforms that expose them and may miss processes that start and finish between samples.
+public class ExecutableResourceUsage {
+    private final long wallTimeMillis;
+    @Nullable
+    private final Long cpuTimeMillis;
+    @Nullable
+    private final Long peakResidentSetKilobytes;
+    private final boolean timedOut;
+
+    public ExecutableResourceUsage(final long wallTimeMillis, @Nullable final Long cpuTimeMillis, @Nullable final Long peakResidentSetKilobytes, final boolean timedOut) {
+        this.wallTimeMillis = wallTimeMillis;
+        this.cpuTimeMillis = cpuTimeMillis;
+        this.peakResidentSetKilobytes = peakResidentSetKilobytes;
+        this.timedOut = timedOut;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    public Optional<Long> getCpuTimeMillis() {
+        return Optional.ofNullable(cpuTimeMillis);
+    }
+
+    public Optional<Long> getPeakResidentSetKilobytes() {
+        return Optional.ofNullable(peakResidentSetKilobytes);
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
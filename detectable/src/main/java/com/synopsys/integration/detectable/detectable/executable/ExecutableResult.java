@@ -26,6 +26,7 @@ import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -54,6 +55,16 @@ public class ExecutableResult {
         }
     }
 
+    public static ExecutableResult wrap(final ExecutableRunner executableRunner, final File directory, final File exe, final List<String> arguments, final Consumer<String> standardOutputConsumer) {
+        Executable executable = executableRunner.translate(directory, exe, arguments);
+        try {
+            ExecutableOutput executableOutput = executableRunner.execute(executable, standardOutputConsumer);
+            return ExecutableResult.success(executable, executableOutput);
+        } catch (ExecutableRunnerException e) {
+            return ExecutableResult.exception(executable, e);
+        }
+    }
+
     public static ExecutableResult success(Executable target, ExecutableOutput executableOutput) {
         return new ExecutableResult(target, null, executableOutput);
     }
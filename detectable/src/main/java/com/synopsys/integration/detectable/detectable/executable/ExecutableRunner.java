@@ -24,6 +24,8 @@ package com.synopsys.integration.detectable.detectable.executable;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -43,6 +45,25 @@ public interface ExecutableRunner {
     @NotNull
     ExecutableOutput execute(Executable executable) throws ExecutableRunnerException;
 
+    // Hands each line of standard output to the consumer as it is read instead of keeping all of it, so the returned output's standard output may only be its tail.
+    // Runners that cannot stream run the executable to completion and then replay its standard output.
+    @NotNull
+    default ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        final ExecutableOutput executableOutput = execute(executable);
+        try {
+            executableOutput.getStandardOutputAsList().forEach(standardOutputConsumer);
+        } catch (final RuntimeException e) {
+            throw new ExecutableRunnerException(executableOutput.getCommandDescription(), e);
+        }
+        return executableOutput;
+    }
+
+    // Work that runs executables on other threads should be wrapped with this, so those executables are still attributed to whatever the calling thread runs them for.
+    @NotNull
+    default <T> Callable<T> propagateContext(final Callable<T> task) {
+        return task;
+    }
+
     @NotNull
     Executable translate(final File workingDirectory, final File exeFile, final List<String> args);
 }
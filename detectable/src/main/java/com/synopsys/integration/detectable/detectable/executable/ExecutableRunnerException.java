@@ -28,4 +28,8 @@ public class ExecutableRunnerException extends Exception {
     public ExecutableRunnerException(String command, final Throwable innerException) {
         super(innerException);
     }
+
+    public ExecutableRunnerException(final String message) {
+        super(message);
+    }
 }
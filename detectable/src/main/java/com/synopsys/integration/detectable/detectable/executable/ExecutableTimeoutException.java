@@ -0,0 +1,45 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+// Thrown when an executable ran past its time limit and its process tree was killed. Holds whatever output was read before that.
+public class ExecutableTimeoutException extends ExecutableRunnerException {
+    private static final long serialVersionUID = 5204356253461985470L;
+
+    private final transient ExecutableOutput executableOutput;
+    private final long timeoutSeconds;
+
+    public ExecutableTimeoutException(final ExecutableOutput executableOutput, final long timeoutSeconds) {
+        super(String.format("The executable %s did not finish within %d seconds and was stopped.", executableOutput.getCommandDescription(), timeoutSeconds));
+        this.executableOutput = executableOutput;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public ExecutableOutput getExecutableOutput() {
+        return executableOutput;
+    }
+
+    public long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.file;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.Nullable;
+
+// Holds the listing of every directory the detector search visited so detectables asking about the same directory do not list it again.
+// The listings are only valid while detectors are searched, see stopServing.
+public class DirectoryListingCache {
+    private final Map<File, File[]> listings = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean serving = true;
+    private volatile int servedDirectoryCount = 0;
+
+    public void put(final File directory, final File[] files) {
+        if (serving) {
+            listings.put(directory, files);
+        }
+    }
+
+    // Directories that were never snapshotted are listed from disk but not stored, so the cache only ever holds the searched tree.
+    @Nullable
+    public File[] listFiles(final File directory) {
+        if (serving) {
+            final File[] cached = listings.get(directory);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        misses.incrementAndGet();
+        return directory.listFiles();
+    }
+
+    // Discovery and extraction run build tools that create files, such as bitbake's task-depends.dot, which a detector then looks for.
+    // So once they start the listings are dropped and every directory is listed from disk again.
+    public void stopServing() {
+        if (serving) {
+            serving = false;
+            servedDirectoryCount = listings.size();
+            listings.clear();
+        }
+    }
+
+    public void clear() {
+        listings.clear();
+    }
+
+    // The number of directories held before the cache stopped serving, or held now while it still serves.
+    public int getDirectoryCount() {
+        return serving ? listings.size() : servedDirectoryCount;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
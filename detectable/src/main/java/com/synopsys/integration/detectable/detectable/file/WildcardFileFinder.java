@@ -30,8 +30,19 @@ import java.util.List;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class WildcardFileFinder implements FileFinder {
+    @Nullable
+    private final DirectoryListingCache directoryListingCache;
+
+    public WildcardFileFinder() {
+        this(null);
+    }
+
+    public WildcardFileFinder(@Nullable final DirectoryListingCache directoryListingCache) {
+        this.directoryListingCache = directoryListingCache;
+    }
 
     private List<File> findFiles(final File directoryToSearch, final FilenameFilter filenameFilter, final int depth, final boolean findInsideMatchingDirectories) {
         final List<File> foundFiles = new ArrayList<>();
@@ -41,7 +52,7 @@ public class WildcardFileFinder implements FileFinder {
         if (Files.isSymbolicLink(directoryToSearch.toPath())) {
             return foundFiles;
         }
-        final File[] allFiles = directoryToSearch.listFiles();
+        final File[] allFiles = listFiles(directoryToSearch);
         if (allFiles == null) {
             return foundFiles;
         }
@@ -60,6 +71,14 @@ public class WildcardFileFinder implements FileFinder {
         return foundFiles;
     }
 
+    @Nullable
+    private File[] listFiles(final File directory) {
+        if (directoryListingCache != null) {
+            return directoryListingCache.listFiles(directory);
+        }
+        return directory.listFiles();
+    }
+
     @NotNull
     @Override
     public List<File> findFiles(final File directoryToSearch, final List<String> filenamePatterns, final int depth, final boolean findInsideMatchingDirectories) {
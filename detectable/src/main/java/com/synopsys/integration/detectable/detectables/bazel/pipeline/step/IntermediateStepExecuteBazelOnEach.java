@@ -23,23 +23,35 @@
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
 import com.synopsys.integration.exception.IntegrationException;
 
 public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
+    private static final String UNION_OPERATOR = " + ";
+
     private final BazelCommandExecutor bazelCommandExecutor;
     private final BazelVariableSubstitutor bazelVariableSubstitutor;
     private final List<String> bazelCommandArgs;
     private final boolean inputIsExpected;
+    private final int batchSize;
 
     public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
         BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected) {
+        this(bazelCommandExecutor, bazelVariableSubstitutor, bazelCommandArgs, inputIsExpected, 1);
+    }
+
+    // With a batchSize above 1, up to batchSize distinct items are combined into one union ("a + b") per bazel command.
+    // Only use it for query expressions that distribute over union, such as kind(rule, ${input.item}), where the combined query returns what the individual queries would.
+    public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
+        BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected, int batchSize) {
         this.bazelCommandExecutor = bazelCommandExecutor;
         this.bazelVariableSubstitutor = bazelVariableSubstitutor;
         this.bazelCommandArgs = bazelCommandArgs;
         this.inputIsExpected = inputIsExpected;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -54,7 +66,7 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
             adjustedInput = new ArrayList<>(1);
             adjustedInput.add(null);
         } else {
-            adjustedInput = input;
+            adjustedInput = batch(input);
         }
         for (String inputItem : adjustedInput) {
             List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, inputItem);
@@ -65,4 +77,17 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
         }
         return results;
     }
+
+    private List<String> batch(List<String> input) {
+        if (batchSize <= 1) {
+            return input;
+        }
+        List<String> uniqueItems = new ArrayList<>(new LinkedHashSet<>(input));
+        List<String> batches = new ArrayList<>();
+        for (int start = 0; start < uniqueItems.size(); start += batchSize) {
+            int end = Math.min(start + batchSize, uniqueItems.size());
+            batches.add(String.join(UNION_OPERATOR, uniqueItems.subList(start, end)));
+        }
+        return batches;
+    }
 }
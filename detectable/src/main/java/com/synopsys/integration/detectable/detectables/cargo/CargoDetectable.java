@@ -60,6 +60,12 @@ public class CargoDetectable extends Detectable {
         if (cargoLock == null && cargoToml == null) {
             return new FilesNotFoundDetectableResult(CARGO_LOCK_FILENAME, CARGO_TOML_FILENAME);
         }
+        if (cargoLock != null) {
+            relevantFiles.add(cargoLock);
+        }
+        if (cargoToml != null) {
+            relevantFiles.add(cargoToml);
+        }
         return new PassedDetectableResult();
     }
 
@@ -75,4 +81,9 @@ public class CargoDetectable extends Detectable {
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         return cargoExtractor.extract(cargoLock, Optional.ofNullable(cargoToml));
     }
+
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
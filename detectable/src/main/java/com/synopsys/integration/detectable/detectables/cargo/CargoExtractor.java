@@ -27,6 +27,8 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,7 @@ import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectables.cargo.parse.CargoLockParser;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 import com.synopsys.integration.util.NameVersion;
 
 public class CargoExtractor {
@@ -46,14 +49,21 @@ public class CargoExtractor {
     private static final String NAME_KEY = "name";
     private static final String VERSION_KEY = "version";
     private static final String PACKAGE_KEY = "package";
+    private static final String EXTRACTION_CACHE_NAME = "CargoExtractor";
 
     private final CargoLockParser cargoLockParser;
+    private final ExtractionCache extractionCache;
 
-    public CargoExtractor(CargoLockParser cargoLockParser) {
+    public CargoExtractor(CargoLockParser cargoLockParser, ExtractionCache extractionCache) {
         this.cargoLockParser = cargoLockParser;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(File cargoLock, Optional<File> cargoToml) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Arrays.asList(cargoLock, cargoToml.orElse(null)), Collections.emptyList(), () -> extractUncached(cargoLock, cargoToml));
+    }
+
+    private Extraction extractUncached(File cargoLock, Optional<File> cargoToml) {
         try {
             String cargoLockAsString = getFileAsString(cargoLock, StandardCharsets.UTF_8);
             DependencyGraph graph = cargoLockParser.parseLockFile(cargoLockAsString);
@@ -47,7 +47,7 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.Clan
 public class ClangDetectable extends Detectable {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private static final String JSON_COMPILATION_DATABASE_FILENAME = "compile_commands.json";
+    public static final String JSON_COMPILATION_DATABASE_FILENAME = "compile_commands.json";
     private final ClangExtractor clangExtractor;
     private final ClangDetectableOptions options;
     private File jsonCompilationDatabaseFile = null;
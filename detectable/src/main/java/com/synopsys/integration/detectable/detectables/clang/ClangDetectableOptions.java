@@ -24,12 +24,28 @@ package com.synopsys.integration.detectable.detectables.clang;
 
 public class ClangDetectableOptions {
     private final boolean cleanup;
+    private final int ownershipQueryBatchSize;
+    private final int ownershipQueryThreads;
 
     public ClangDetectableOptions(final boolean cleanup) {
+        this(cleanup, 1, 1);
+    }
+
+    public ClangDetectableOptions(final boolean cleanup, final int ownershipQueryBatchSize, final int ownershipQueryThreads) {
         this.cleanup = cleanup;
+        this.ownershipQueryBatchSize = ownershipQueryBatchSize;
+        this.ownershipQueryThreads = ownershipQueryThreads;
     }
 
     public boolean isCleanup() {
         return cleanup;
     }
+
+    public int getOwnershipQueryBatchSize() {
+        return ownershipQueryBatchSize;
+    }
+
+    public int getOwnershipQueryThreads() {
+        return ownershipQueryThreads;
+    }
 }
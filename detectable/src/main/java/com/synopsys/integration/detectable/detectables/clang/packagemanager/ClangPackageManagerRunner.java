@@ -23,12 +23,21 @@
 package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +49,21 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.reso
 
 public class ClangPackageManagerRunner {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final int ownershipQueryBatchSize;
+    private final int ownershipQueryThreads;
+    private final Consumer<ClangPackageResolutionProgress> progressListener;
+
+    public ClangPackageManagerRunner() {
+        this(1, 1, progress -> {});
+    }
+
+    // With a batch size above one, each ownership query names that many dependency files instead of one.
+    // With more than one thread, that many ownership queries run at once.
+    public ClangPackageManagerRunner(final int ownershipQueryBatchSize, final int ownershipQueryThreads, final Consumer<ClangPackageResolutionProgress> progressListener) {
+        this.ownershipQueryBatchSize = ownershipQueryBatchSize;
+        this.ownershipQueryThreads = ownershipQueryThreads;
+        this.progressListener = progressListener;
+    }
 
     public boolean applies(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executor) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
@@ -61,17 +85,71 @@ public class ClangPackageManagerRunner {
     }
 
     public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executableRunner, final Set<File> dependencyFiles) {
+        final List<File> uniqueDependencyFiles = removeDuplicatePaths(dependencyFiles);
+        final int batchSize = Math.max(1, ownershipQueryBatchSize);
+        final List<List<File>> batches = new ArrayList<>();
+        for (int batchStart = 0; batchStart < uniqueDependencyFiles.size(); batchStart += batchSize) {
+            batches.add(uniqueDependencyFiles.subList(batchStart, Math.min(uniqueDependencyFiles.size(), batchStart + batchSize)));
+        }
+        final ProgressReporter progressReporter = new ProgressReporter(uniqueDependencyFiles.size());
+
+        final List<PackageDetailsResult> batchResults = new ArrayList<>();
+        if (ownershipQueryThreads > 1 && batches.size() > 1) {
+            final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(ownershipQueryThreads, batches.size()));
+            try {
+                final List<Future<PackageDetailsResult>> futures = new ArrayList<>();
+                for (final List<File> batch : batches) {
+                    futures.add(executorService.submit(executableRunner.propagateContext(() -> getBatchPackages(currentPackageManager, workingDirectory, executableRunner, batch, progressReporter))));
+                }
+                for (final Future<PackageDetailsResult> future : futures) {
+                    batchResults.add(future.get());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while querying the linux package manager for dependency file owners.", e);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("Failed to query the linux package manager for dependency file owners.", e.getCause());
+            } finally {
+                executorService.shutdownNow();
+            }
+        } else {
+            for (final List<File> batch : batches) {
+                batchResults.add(getBatchPackages(currentPackageManager, workingDirectory, executableRunner, batch, progressReporter));
+            }
+        }
+
         final Set<PackageDetails> packageDetails = new HashSet<>();
         final Set<File> unRecognizedDependencyFiles = new HashSet<>();
-        for (final File dependencyFile : dependencyFiles) {
-            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile);
-            packageDetails.addAll(packageDetailsResult.getFoundPackages());
-            unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+        for (final PackageDetailsResult batchResult : batchResults) {
+            packageDetails.addAll(batchResult.getFoundPackages());
+            unRecognizedDependencyFiles.addAll(batchResult.getUnRecognizedDependencyFiles());
         }
-
         return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
     }
 
+    private PackageDetailsResult getBatchPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executableRunner, final List<File> batch, final ProgressReporter progressReporter) {
+        final PackageDetailsResult packageDetailsResult;
+        if (batch.size() == 1) {
+            packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, batch.get(0));
+        } else {
+            packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, batch);
+        }
+        progressReporter.filesResolved(batch.size());
+        return packageDetailsResult;
+    }
+
+    // The compiler can name one header through different relative paths, which would otherwise each be queried.
+    private List<File> removeDuplicatePaths(final Set<File> dependencyFiles) {
+        final Set<Path> seenPaths = new HashSet<>();
+        final List<File> uniqueDependencyFiles = new ArrayList<>();
+        for (final File dependencyFile : dependencyFiles) {
+            if (seenPaths.add(dependencyFile.getAbsoluteFile().toPath().normalize())) {
+                uniqueDependencyFiles.add(dependencyFile);
+            }
+        }
+        return uniqueDependencyFiles;
+    }
+
     public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executableRunner, final File dependencyFile) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
         final Set<PackageDetails> dependencyDetails = new HashSet<>();
@@ -99,4 +177,104 @@ public class ClangPackageManagerRunner {
         return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
     }
 
+    // Queries the owners of many files at once. Output lines are resolved one at a time so a file that no package owns only marks that file as unrecognized.
+    // Owned lines are only taken from standard output; error output is only searched for files no package owns.
+    public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executableRunner, final List<File> dependencyFiles) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        for (final File dependencyFile : dependencyFiles) {
+            getOwnerArgs.add(dependencyFile.getAbsolutePath());
+        }
+
+        final ExecutableOutput queryPackageResult;
+        try {
+            queryPackageResult = executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs);
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error querying the owners of %d dependency files with %s, querying them one at a time: %s", dependencyFiles.size(), packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            final Set<PackageDetails> dependencyDetails = new HashSet<>();
+            final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+            for (final File dependencyFile : dependencyFiles) {
+                final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile);
+                dependencyDetails.addAll(packageDetailsResult.getFoundPackages());
+                unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+            }
+            return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+        }
+
+        final Set<PackageDetails> dependencyDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        for (final String line : queryPackageResult.getStandardOutput().split("\n")) {
+            resolveOwnershipLine(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, line, dependencyDetails, unRecognizedDependencyFiles);
+        }
+        for (final String line : queryPackageResult.getErrorOutput().split("\n")) {
+            resolveOwnershipLine(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, line, null, unRecognizedDependencyFiles);
+        }
+        return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+    }
+
+    private void resolveOwnershipLine(final ClangPackageManager currentPackageManager, final File workingDirectory, final ExecutableRunner executableRunner, final List<File> dependencyFiles, final String line,
+        @Nullable final Set<PackageDetails> dependencyDetails, final Set<File> unRecognizedDependencyFiles) {
+        if (StringUtils.isBlank(line)) {
+            return;
+        }
+        // Error output that names none of the files cannot say one is unowned, and resolving it could run further queries.
+        if (dependencyDetails == null && !findNamedFile(dependencyFiles, line).isPresent()) {
+            return;
+        }
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        try {
+            final List<PackageDetails> packageDetails = currentPackageManager.getPackageResolver().resolvePackages(packageManagerInfo, executableRunner, workingDirectory, line);
+            if (dependencyDetails != null) {
+                dependencyDetails.addAll(packageDetails);
+            }
+        } catch (final NotOwnedByAnyPkgException notOwnedException) {
+            final Optional<File> dependencyFile = findNamedFile(dependencyFiles, line);
+            if (dependencyFile.isPresent()) {
+                logger.debug(String.format("%s is not recognized by the linux package manager (%s)", dependencyFile.get().getAbsolutePath(), notOwnedException.getMessage()));
+                unRecognizedDependencyFiles.add(dependencyFile.get());
+            } else {
+                logger.debug(String.format("Unable to tell which dependency file is not recognized by the linux package manager (%s)", notOwnedException.getMessage()));
+            }
+        } catch (final ExecutableRunnerException e) {
+            logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+        }
+    }
+
+    // The longest path wins so /usr/include/a.hpp is not mistaken for /usr/include/a.h.
+    private Optional<File> findNamedFile(final List<File> dependencyFiles, final String line) {
+        File namedFile = null;
+        int namedPathLength = 0;
+        for (final File dependencyFile : dependencyFiles) {
+            final String path = dependencyFile.getAbsolutePath();
+            if (path.length() > namedPathLength && line.contains(path)) {
+                namedFile = dependencyFile;
+                namedPathLength = path.length();
+            }
+        }
+        return Optional.ofNullable(namedFile);
+    }
+
+    // Reports each whole percent of progress once, however many batches finish within it.
+    private class ProgressReporter {
+        private final int totalFileCount;
+        private final AtomicInteger resolvedFileCount = new AtomicInteger();
+        private final AtomicInteger reportedPercent = new AtomicInteger(-1);
+
+        private ProgressReporter(final int totalFileCount) {
+            this.totalFileCount = totalFileCount;
+        }
+
+        private void filesResolved(final int fileCount) {
+            final int resolved = resolvedFileCount.addAndGet(fileCount);
+            final int percent = (int) ((resolved * 100L) / totalFileCount);
+            int previousPercent = reportedPercent.get();
+            while (percent > previousPercent) {
+                if (reportedPercent.compareAndSet(previousPercent, percent)) {
+                    progressListener.accept(new ClangPackageResolutionProgress(resolved, totalFileCount));
+                    return;
+                }
+                previousPercent = reportedPercent.get();
+            }
+        }
+    }
 }
@@ -35,7 +35,8 @@ public class ApkArchitectureResolver {
     private Optional<String> architecture = Optional.empty();
     private boolean hasAttemptedResolution = false;
 
-    public Optional<String> resolveArchitecture(ClangPackageManagerInfo currentPackageManager, File workingDirectory, ExecutableRunner executableRunner) throws ExecutableRunnerException {
+    // Synchronized because ownership queries may be resolved on several threads at once.
+    public synchronized Optional<String> resolveArchitecture(ClangPackageManagerInfo currentPackageManager, File workingDirectory, ExecutableRunner executableRunner) throws ExecutableRunnerException {
         if (hasAttemptedResolution) {
             return architecture;
         }
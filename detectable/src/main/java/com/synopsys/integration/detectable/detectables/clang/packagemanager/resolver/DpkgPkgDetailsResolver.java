@@ -25,7 +25,9 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager.res
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,12 +44,21 @@ public class DpkgPkgDetailsResolver {
     private static final int PKG_INFO_LINE_LABEL_POSITION = 0;
     private static final int PKG_INFO_LINE_VALUE_POSITION = 1;
 
+    // Many dependency files belong to the same package, so each package is only looked up once.
+    private final Map<String, Optional<PackageDetails>> resolvedPackageDetails = new ConcurrentHashMap<>();
+
     public Optional<PackageDetails> resolvePackageDetails(ClangPackageManagerInfo currentPackageManager, ExecutableRunner executableRunner, File workingDirectory, String packageName) {
+        Optional<PackageDetails> previouslyResolved = resolvedPackageDetails.get(packageName);
+        if (previouslyResolved != null) {
+            return previouslyResolved;
+        }
         try {
             List<String> args = new ArrayList<>(currentPackageManager.getPkgInfoArgs().get());
             args.add(packageName);
             ExecutableOutput packageInfoOutput = executableRunner.execute(workingDirectory, currentPackageManager.getPkgMgrCmdString(), args);
-            return parsePackageDetailsFromInfoOutput(packageName, packageInfoOutput.getStandardOutput());
+            Optional<PackageDetails> packageDetails = parsePackageDetailsFromInfoOutput(packageName, packageInfoOutput.getStandardOutput());
+            resolvedPackageDetails.putIfAbsent(packageName, packageDetails);
+            return packageDetails;
         } catch (ExecutableRunnerException e) {
             logger.warn(String.format("Error executing %s to get package info: %s", currentPackageManager.getPkgMgrName(), e.getMessage()));
         }
@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "Objective C", forge = "COCOAPODS and NPMJS", requirementsMarkdown = "Files: Podfile.lock")
 public class PodlockDetectable extends Detectable {
-    private static final String PODFILE_LOCK_FILENAME = "Podfile.lock";
+    public static final String PODFILE_LOCK_FILENAME = "Podfile.lock";
 
     private final FileFinder fileFinder;
     private final PodlockExtractor podlockExtractor;
@@ -55,6 +55,7 @@ public class PodlockDetectable extends Detectable {
         if (foundPodlock == null) {
             return new FileNotFoundDetectableResult(PODFILE_LOCK_FILENAME);
         }
+        relevantFiles.add(foundPodlock);
 
         return new PassedDetectableResult();
     }
@@ -69,4 +70,8 @@ public class PodlockDetectable extends Detectable {
         return podlockExtractor.extract(foundPodlock);
     }
 
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
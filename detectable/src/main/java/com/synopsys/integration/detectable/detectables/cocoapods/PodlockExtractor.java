@@ -25,6 +25,7 @@ package com.synopsys.integration.detectable.detectables.cocoapods;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -35,16 +36,25 @@ import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.cocoapods.parser.PodlockParser;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 
 public class PodlockExtractor {
+    private static final String EXTRACTION_CACHE_NAME = "PodlockExtractor";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final PodlockParser podlockParser;
+    private final ExtractionCache extractionCache;
 
-    public PodlockExtractor(final PodlockParser podlockParser) {
+    public PodlockExtractor(final PodlockParser podlockParser, final ExtractionCache extractionCache) {
         this.podlockParser = podlockParser;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File podlock) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Collections.singletonList(podlock), Collections.emptyList(), () -> extractUncached(podlock));
+    }
+
+    private Extraction extractUncached(final File podlock) {
         final String podLockText;
         try {
             logger.trace(String.format("Reading from the pod lock file %s", podlock.getAbsolutePath()));
@@ -40,7 +40,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "Perl", forge = "CPAN", requirementsMarkdown = "File: Makefile.PL. <br /><br /> Executable: cpan.")
 public class CpanCliDetectable extends Detectable {
-    private static final String MAKEFILE = "Makefile.PL";
+    public static final String MAKEFILE = "Makefile.PL";
 
     private final FileFinder fileFinder;
     private final CpanResolver cpanResolver;
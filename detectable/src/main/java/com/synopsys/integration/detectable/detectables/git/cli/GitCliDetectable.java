@@ -39,7 +39,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "various", forge = "N/A", requirementsMarkdown = "Directory: .git. <br /><br /> Executable: git.")
 public class GitCliDetectable extends Detectable {
-    private static final String GIT_DIRECTORY_NAME = ".git";
+    public static final String GIT_DIRECTORY_NAME = ".git";
 
     private final FileFinder fileFinder;
     private final GitCliExtractor gitCliExtractor;
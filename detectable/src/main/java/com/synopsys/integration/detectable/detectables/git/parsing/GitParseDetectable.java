@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "various", forge = "N/A", requirementsMarkdown = "Files: .git/config, .git/HEAD.")
 public class GitParseDetectable extends Detectable {
-    private static final String GIT_DIRECTORY_NAME = ".git";
+    public static final String GIT_DIRECTORY_NAME = ".git";
     private static final String GIT_CONFIG_FILENAME = "config";
     private static final String GIT_HEAD_FILENAME = "HEAD";
 
@@ -65,15 +65,17 @@ public class GradleInspectorExtractor {
     }
 
     public Extraction extract(File directory, File gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) {
+        return extract(directory, gradleExe, gradleCommand, proxyInfo, gradleInspector, outputDirectory, false);
+    }
+
+    public Extraction extract(File directory, File gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory, boolean reuseDaemon) {
         try {
-            ExecutableOutput gradleExecutableOutput = gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+            ExecutableOutput gradleExecutableOutput = gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory, reuseDaemon);
 
             if (gradleExecutableOutput.getReturnCode() != 0) {
                 throw new IntegrationException("The gradle inspector returned a non-zero exit code: " + gradleExecutableOutput.getReturnCode());
             }
 
-            List<CodeLocation> codeLocations = new ArrayList<>();
-
             String projectName = null;
             String projectVersion = null;
             File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
@@ -98,6 +100,8 @@ public class GradleInspectorExtractor {
                 .map(GradleReport::getConfigurations)
                 .ifPresent(configurations -> configurations.forEach(configuration -> gradleReplacementDiscoverer.populateFromTreeNodes(rootReplacementResolver, configuration.getChildren())));
 
+            // The parser already spreads each report's configurations over its own bounded pool, so the reports themselves are parsed one at a time.
+            List<CodeLocation> codeLocations = new ArrayList<>();
             List<File> reportFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
             if (reportFiles != null) {
                 reportFiles.stream()
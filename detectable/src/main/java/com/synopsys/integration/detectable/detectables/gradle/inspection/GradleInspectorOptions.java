@@ -31,11 +31,17 @@ public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final ProxyInfo proxyInfo;
+    private final boolean reuseDaemon;
 
     public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, false);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final boolean reuseDaemon) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.proxyInfo = proxyInfo;
+        this.reuseDaemon = reuseDaemon;
     }
 
     public Optional<String> getGradleBuildCommand() {
@@ -49,4 +55,8 @@ public class GradleInspectorOptions {
     public ProxyInfo getproxyInfo() {
         return proxyInfo;
     }
+
+    public boolean shouldReuseDaemon() {
+        return reuseDaemon;
+    }
 }
@@ -24,12 +24,21 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
@@ -37,6 +46,13 @@ import com.synopsys.integration.detectable.detectable.executable.ExecutableRunne
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 public class GradleRunner {
+    private static final String WRAPPER_PROPERTIES_PATH = "gradle/wrapper/gradle-wrapper.properties";
+    private static final String DISTRIBUTION_URL_PROPERTY = "distributionUrl";
+
+    // A daemon only serves one build at a time, so builds sharing a Gradle distribution take turns to keep using the same warm daemon.
+    private static final Map<String, Lock> daemonLocks = new ConcurrentHashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExecutableRunner executableRunner;
 
     public GradleRunner(ExecutableRunner executableRunner) {
@@ -44,6 +60,11 @@ public class GradleRunner {
     }
 
     public ExecutableOutput runGradleDependencies(File directory, File gradleExe, File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory) throws IOException, ExecutableRunnerException {
+        return runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory, false);
+    }
+
+    public ExecutableOutput runGradleDependencies(File directory, File gradleExe, File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory, boolean reuseDaemon)
+        throws IOException, ExecutableRunnerException {
         List<String> arguments = new ArrayList<>();
         if (StringUtils.isNotBlank(gradleCommand)) {
             gradleCommand = gradleCommand.replace("dependencies", "").trim();
@@ -55,6 +76,9 @@ public class GradleRunner {
         arguments.add(String.format("--init-script=%s", gradleInspector));
         arguments.add(String.format("-DGRADLEEXTRACTIONDIR=%s", outputDirectory.getCanonicalPath()));
         arguments.add("--info");
+        if (reuseDaemon) {
+            arguments.add("--daemon");
+        }
 
         if (proxyInfo.getHost().isPresent()) {
             arguments.add("-Dhttps.proxyHost=" + proxyInfo.getHost().get());
@@ -63,6 +87,34 @@ public class GradleRunner {
             arguments.add("-Dhttps.proxyPort=" + proxyInfo.getPort());
         }
 
-        return executableRunner.execute(directory, gradleExe, arguments);
+        if (!reuseDaemon) {
+            return executableRunner.execute(directory, gradleExe, arguments);
+        }
+
+        String distribution = findDistribution(directory, gradleExe);
+        Lock daemonLock = daemonLocks.computeIfAbsent(distribution, key -> new ReentrantLock());
+        daemonLock.lock();
+        try {
+            return executableRunner.execute(directory, gradleExe, arguments);
+        } finally {
+            daemonLock.unlock();
+        }
+    }
+
+    // Wrappers name their distribution in gradle-wrapper.properties; otherwise the executable itself identifies the distribution.
+    String findDistribution(File directory, File gradleExe) throws IOException {
+        File wrapperProperties = new File(directory, WRAPPER_PROPERTIES_PATH);
+        if (gradleExe.getName().startsWith("gradlew") && wrapperProperties.isFile()) {
+            Properties properties = new Properties();
+            try (InputStream inputStream = Files.newInputStream(wrapperProperties.toPath())) {
+                properties.load(inputStream);
+            }
+            String distributionUrl = properties.getProperty(DISTRIBUTION_URL_PROPERTY);
+            if (StringUtils.isNotBlank(distributionUrl)) {
+                return distributionUrl.trim();
+            }
+            logger.debug(String.format("No %s found in %s.", DISTRIBUTION_URL_PROPERTY, wrapperProperties));
+        }
+        return gradleExe.getCanonicalPath();
     }
 }
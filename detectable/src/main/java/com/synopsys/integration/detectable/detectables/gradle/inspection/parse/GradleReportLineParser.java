@@ -23,11 +23,9 @@
 package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
-import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,105 +34,171 @@ import com.synopsys.integration.detectable.detectables.gradle.inspection.model.G
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.ReplacedGradleGav;
 
+// Scans each line in place by index, so only the pieces kept in the node are copied out of it.
+// The parser holds no state, so one instance can parse several configurations at once.
 public class GradleReportLineParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private static final String[] TREE_LEVEL_TERMINALS = new String[] { "+---", "\\---" };
-    private static final String[] PROJECT_INDICATORS = new String[] { "--- project " };
+    private static final String[] TREE_LEVEL_INDENTS = new String[] { "|    ", "     " };
+    private static final int TREE_LEVEL_WIDTH = 5;
+    private static final String PROJECT_INDICATOR = "--- project ";
     private static final String COMPONENT_PREFIX = "--- ";
     private static final String[] REMOVE_SUFFIXES = new String[] { " (*)", " (c)", " (n)" };
     private static final String WINNING_INDICATOR = " -> ";
+    private static final char GAV_SEPARATOR = ':';
 
     public GradleTreeNode parseLine(String line) {
         int level = parseTreeLevel(line);
-        if (!line.contains(COMPONENT_PREFIX)) {
+        int componentPrefixIndex = line.indexOf(COMPONENT_PREFIX);
+        if (componentPrefixIndex == -1) {
             return GradleTreeNode.newUnknown(level);
-        } else if (StringUtils.containsAny(line, PROJECT_INDICATORS)) {
-            String projectName = parseProjectName(line);
-            return GradleTreeNode.newProject(level, projectName);
-        } else {
-            GradleGavPieces gav = parseGav(line);
-            if (gav.getGavPieces().size() != 3) {
-                logger.trace(String.format("The line can not be reasonably split in to the necessary parts: %s", line)); //All project lines: +--- org.springframework.boot:spring-boot-starter-activemq (n)
-                return GradleTreeNode.newUnknown(level);
+        }
+
+        int lineEnd = trimmedEnd(line);
+        int projectIndicatorIndex = line.indexOf(PROJECT_INDICATOR, componentPrefixIndex);
+        if (projectIndicatorIndex != -1) {
+            int start = Math.min(projectIndicatorIndex + PROJECT_INDICATOR.length(), lineEnd);
+            return GradleTreeNode.newProject(level, line.substring(start, removeSuffixes(line, start, lineEnd)));
+        }
+
+        int start = Math.min(componentPrefixIndex + COMPONENT_PREFIX.length(), lineEnd);
+        int end = removeSuffixes(line, start, lineEnd);
+        int winningIndicatorIndex = indexOf(line, WINNING_INDICATOR, start, end);
+        if (winningIndicatorIndex == -1) {
+            return createGavNode(line, level, split(line, start, end), null);
+        }
+
+        // WINNING_INDICATOR can point to an entire GAV not just a version
+        int winningStart = winningIndicatorIndex + WINNING_INDICATOR.length();
+        List<String> losingPieces = rawSplit(line, start, winningIndicatorIndex);
+        List<String> gavPieces;
+        if (indexOf(line, GAV_SEPARATOR, winningStart, end) != -1) {
+            gavPieces = split(line, winningStart, end);
+        } else if (losingPieces.size() > 1) {
+            // the WINNING_INDICATOR is not always preceded by a : so the winning version takes the place of whatever follows the artifact
+            gavPieces = new ArrayList<>(losingPieces);
+            String winningVersion = line.substring(winningStart, end);
+            if (gavPieces.size() == 2) {
+                gavPieces.add(winningVersion);
             } else {
-                String group = gav.getGavPieces().get(0);
-                String artifact = gav.getGavPieces().get(1);
-                String version = gav.getGavPieces().get(2);
-                GradleGav resolvedGradleGav = new GradleGav(group, artifact, version);
-
-                if (gav.getReplacedGavPieces().isEmpty()) {
-                    return GradleTreeNode.newGav(level, resolvedGradleGav);
-                } else if (gav.getReplacedGavPieces().size() == 2) {
-                    String replacedGroup = gav.getReplacedGavPieces().get(0);
-                    String replacedArtifact = gav.getReplacedGavPieces().get(1);
-                    ReplacedGradleGav replacedGradleGav = new ReplacedGradleGav(replacedGroup, replacedArtifact);
-                    return GradleTreeNode.newGavWithReplacement(level, resolvedGradleGav, replacedGradleGav);
-                } else if (gav.getReplacedGavPieces().size() == 3) {
-                    String replacedGroup = gav.getReplacedGavPieces().get(0);
-                    String replacedArtifact = gav.getReplacedGavPieces().get(1);
-                    String replacedVersion = gav.getReplacedGavPieces().get(2);
-                    ReplacedGradleGav replacedGradleGav = new ReplacedGradleGav(replacedGroup, replacedArtifact, replacedVersion);
-                    return GradleTreeNode.newGavWithReplacement(level, resolvedGradleGav, replacedGradleGav);
-                } else {
-                    logger.warn(String.format("The replacement gav is an unknown format: %s", line));
-                    return GradleTreeNode.newGav(level, resolvedGradleGav);
-                }
+                gavPieces.set(2, winningVersion);
             }
+        } else {
+            logger.trace(String.format("The line can not be reasonably split in to the necessary parts: %s", line));
+            return GradleTreeNode.newUnknown(level);
         }
+        return createGavNode(line, level, gavPieces, removeTrailingEmptyPieces(losingPieces));
     }
 
-    @Nullable
-    private String parseProjectName(String line) {
-        String cleanedOutput = StringUtils.trimToEmpty(line);
-        for (String projectIndicator : PROJECT_INDICATORS) {
-            cleanedOutput = cleanedOutput.substring(cleanedOutput.indexOf(projectIndicator) + projectIndicator.length());
+    private GradleTreeNode createGavNode(String line, int level, List<String> gavPieces, List<String> replacedGavPieces) {
+        if (gavPieces.size() != 3) {
+            logger.trace(String.format("The line can not be reasonably split in to the necessary parts: %s", line)); //All project lines: +--- org.springframework.boot:spring-boot-starter-activemq (n)
+            return GradleTreeNode.newUnknown(level);
         }
-        cleanedOutput = removeSuffixes(cleanedOutput);
 
-        return cleanedOutput;
+        String group = gavPieces.get(0);
+        String artifact = gavPieces.get(1);
+        String version = gavPieces.get(2);
+        GradleGav resolvedGradleGav = new GradleGav(group, artifact, version);
+
+        if (replacedGavPieces == null || replacedGavPieces.isEmpty()) {
+            return GradleTreeNode.newGav(level, resolvedGradleGav);
+        } else if (replacedGavPieces.size() == 2) {
+            String replacedGroup = replacedGavPieces.get(0);
+            String replacedArtifact = replacedGavPieces.get(1);
+            ReplacedGradleGav replacedGradleGav = new ReplacedGradleGav(replacedGroup, replacedArtifact);
+            return GradleTreeNode.newGavWithReplacement(level, resolvedGradleGav, replacedGradleGav);
+        } else if (replacedGavPieces.size() == 3) {
+            String replacedGroup = replacedGavPieces.get(0);
+            String replacedArtifact = replacedGavPieces.get(1);
+            String replacedVersion = replacedGavPieces.get(2);
+            ReplacedGradleGav replacedGradleGav = new ReplacedGradleGav(replacedGroup, replacedArtifact, replacedVersion);
+            return GradleTreeNode.newGavWithReplacement(level, resolvedGradleGav, replacedGradleGav);
+        } else {
+            logger.warn(String.format("The replacement gav is an unknown format: %s", line));
+            return GradleTreeNode.newGav(level, resolvedGradleGav);
+        }
     }
 
-    private String removeSuffixes(String line) {
+    // Returns the end of the region once the marker suffixes are removed from it, in the order they are listed.
+    private int removeSuffixes(String line, int start, int end) {
         for (String suffix : REMOVE_SUFFIXES) {
-            if (line.endsWith(suffix)) {
-                int lastSeenElsewhereIndex = line.lastIndexOf(suffix);
-                line = line.substring(0, lastSeenElsewhereIndex);
+            if (end - start >= suffix.length() && line.startsWith(suffix, end - suffix.length())) {
+                end -= suffix.length();
             }
         }
-        return line;
+        return end;
     }
 
-    private GradleGavPieces parseGav(String line) {
-        String cleanedOutput = StringUtils.trimToEmpty(line);
-        cleanedOutput = cleanedOutput.substring(cleanedOutput.indexOf(COMPONENT_PREFIX) + COMPONENT_PREFIX.length());
-
-        cleanedOutput = removeSuffixes(cleanedOutput);
+    // Splits the region at every separator, the way String.split does: trailing empty pieces are dropped unless there is no separator at all.
+    private List<String> split(String line, int start, int end) {
+        return removeTrailingEmptyPieces(rawSplit(line, start, end));
+    }
 
-        // we might need to modify the returned list, so it needs to be an actual ArrayList
-        List<String> gavPieces = new ArrayList<>(Arrays.asList(cleanedOutput.split(":")));
-        if (cleanedOutput.contains(WINNING_INDICATOR)) {
-            // WINNING_INDICATOR can point to an entire GAV not just a version
-            String winningSection = cleanedOutput.substring(cleanedOutput.indexOf(WINNING_INDICATOR) + WINNING_INDICATOR.length());
-            String losingSection = cleanedOutput.substring(0, cleanedOutput.indexOf(WINNING_INDICATOR));
-            if (winningSection.contains(":")) {
-                gavPieces = Arrays.asList(winningSection.split(":"));
-            } else {
-                // the WINNING_INDICATOR is not always preceded by a : so if isn't, we need to clean up from the original split
-                if (gavPieces.get(1).contains(WINNING_INDICATOR)) {
-                    String withoutWinningIndicator = gavPieces.get(1).substring(0, gavPieces.get(1).indexOf(WINNING_INDICATOR));
-                    gavPieces.set(1, withoutWinningIndicator);
-                    // since there was no : we don't have a gav piece for version yet
-                    gavPieces.add("");
-                }
-                gavPieces.set(2, winningSection);
+    private List<String> rawSplit(String line, int start, int end) {
+        List<String> pieces = new ArrayList<>(3);
+        int pieceStart = start;
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == GAV_SEPARATOR) {
+                pieces.add(line.substring(pieceStart, i));
+                pieceStart = i + 1;
             }
-            return GradleGavPieces.createGavWithReplacement(gavPieces, Arrays.asList(losingSection.split(":")));
-        } else {
-            return GradleGavPieces.createGav(gavPieces);
         }
+        pieces.add(line.substring(pieceStart, end));
+        return pieces;
     }
 
+    private List<String> removeTrailingEmptyPieces(List<String> pieces) {
+        if (pieces.size() == 1) {
+            return pieces;
+        }
+        int size = pieces.size();
+        while (size > 0 && pieces.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return size == pieces.size() ? pieces : new ArrayList<>(pieces.subList(0, size));
+    }
+
+    private int trimmedEnd(String line) {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private int indexOf(String line, String target, int start, int end) {
+        int index = line.indexOf(target, start);
+        return index != -1 && index + target.length() <= end ? index : -1;
+    }
+
+    private int indexOf(String line, char target, int start, int end) {
+        int index = line.indexOf(target, start);
+        return index != -1 && index < end ? index : -1;
+    }
+
+    // Tree lines are indented by a run of five character indents before the terminal, so the level is the number of indents.
     private int parseTreeLevel(String line) {
+        int position = 0;
+        while (isTreeLevelIndent(line, position)) {
+            position += TREE_LEVEL_WIDTH;
+        }
+        if (line.startsWith(TREE_LEVEL_TERMINALS[1], position) || (line.startsWith(TREE_LEVEL_TERMINALS[0], position) && !line.contains(TREE_LEVEL_TERMINALS[1]))) {
+            return position / TREE_LEVEL_WIDTH;
+        }
+        return parseIrregularTreeLevel(line);
+    }
+
+    private boolean isTreeLevelIndent(String line, int position) {
+        for (String indent : TREE_LEVEL_INDENTS) {
+            if (line.startsWith(indent, position)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int parseIrregularTreeLevel(String line) {
         if (StringUtils.startsWithAny(line, TREE_LEVEL_TERMINALS)) {
             return 0;
         }
@@ -31,7 +31,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -53,14 +57,27 @@ public class GradleReportParser {
     public static final String DETECT_META_DATA_FOOTER = "DETECT META DATA END";
 
     private final GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
+    private final int parserThreads;
+
+    public GradleReportParser() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public GradleReportParser(final int parserThreads) {
+        this.parserThreads = Math.max(1, parserThreads);
+    }
 
     public Optional<GradleReport> parseReport(final File reportFile) {
         GradleReport gradleReport = new GradleReport();
         boolean processingMetaData = false;
-        final List<String> configurationLines = new ArrayList<>();
+        List<String> configurationLines = new ArrayList<>();
+        // Configurations are parsed on a dedicated pool as soon as their section has been read, and added to the report in the order they appear.
+        // Only a few sections may wait for a parser; once they are queued the reading thread parses the next section itself, so the file is never read far ahead of the parsers.
+        final ExecutorService executorService = new ThreadPoolExecutor(parserThreads, parserThreads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(parserThreads), new ThreadPoolExecutor.CallerRunsPolicy());
+        final List<Future<GradleConfiguration>> configurations = new ArrayList<>();
         try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /*
                   The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -78,18 +95,27 @@ public class GradleReportParser {
                 }
 
                 if (StringUtils.isBlank(line)) {
-                    parseConfigurationLines(configurationLines, gradleReport);
-                    configurationLines.clear();
+                    parseConfigurationLines(configurationLines, executorService, configurations);
+                    configurationLines = new ArrayList<>();
                 } else {
                     configurationLines.add(line);
                 }
 
             }
 
-            parseConfigurationLines(configurationLines, gradleReport);
+            parseConfigurationLines(configurationLines, executorService, configurations);
+            for (final Future<GradleConfiguration> configuration : configurations) {
+                gradleReport.getConfigurations().add(configuration.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug(String.format("Interrupted while parsing report file: %s", reportFile.getAbsolutePath()), e);
+            gradleReport = null;
         } catch (final Exception e) {
             logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
             gradleReport = null;
+        } finally {
+            executorService.shutdownNow();
         }
 
         return Optional.ofNullable(gradleReport);
@@ -107,12 +133,11 @@ public class GradleReportParser {
         }
     }
 
-    private void parseConfigurationLines(final List<String> configurationLines, final GradleReport gradleReport) {
+    private void parseConfigurationLines(final List<String> configurationLines, final ExecutorService executorService, final List<Future<GradleConfiguration>> configurations) {
         if (configurationLines.size() > 1 && isConfigurationHeader(configurationLines)) {
             final String header = configurationLines.get(0);
-            final List<String> dependencyTree = configurationLines.stream().skip(1).collect(Collectors.toList());
-            final GradleConfiguration configuration = gradleReportConfigurationParser.parse(header, dependencyTree);
-            gradleReport.getConfigurations().add(configuration);
+            final List<String> dependencyTree = configurationLines.subList(1, configurationLines.size());
+            configurations.add(executorService.submit(() -> gradleReportConfigurationParser.parse(header, dependencyTree)));
         }
     }
 
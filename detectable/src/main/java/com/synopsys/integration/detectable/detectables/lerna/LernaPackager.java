@@ -25,7 +25,9 @@ package com.synopsys.integration.detectable.detectables.lerna;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -150,9 +152,10 @@ public class LernaPackager {
     private LernaResult extractFromNpmLockfile(File packageJsonFile, File npmLockfile, LernaMissingDependencyHandler lernaMissingDependencyHandler) {
         try {
             String packageJsonText = FileUtils.readFileToString(packageJsonFile, StandardCharsets.UTF_8);
-            String lockfileText = FileUtils.readFileToString(npmLockfile, StandardCharsets.UTF_8);
-
-            NpmParseResult npmParseResult = npmLockfileParser.parse(packageJsonText, lockfileText, npmLockfileOptions.shouldIncludeDeveloperDependencies(), lernaMissingDependencyHandler::handleMissingNpmDependency);
+            NpmParseResult npmParseResult;
+            try (Reader lockfileReader = Files.newBufferedReader(npmLockfile.toPath(), StandardCharsets.UTF_8)) {
+                npmParseResult = npmLockfileParser.parse(packageJsonText, lockfileReader, npmLockfileOptions.shouldIncludeDeveloperDependencies(), lernaMissingDependencyHandler::handleMissingNpmDependency);
+            }
 
             return LernaResult.success(npmParseResult.getProjectName(), npmParseResult.getProjectVersion(), Collections.singletonList(npmParseResult.getCodeLocation()));
         } catch (IOException exception) {
@@ -163,9 +166,10 @@ public class LernaPackager {
     private LernaResult extractFromYarnLock(File packageJsonFile, File yarnLockFile, LernaMissingDependencyHandler lernaMissingDependencyHandler) {
         try {
             String packageJsonText = FileUtils.readFileToString(packageJsonFile, StandardCharsets.UTF_8);
-            List<String> yarnLockLines = FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8);
-
-            YarnResult yarnResult = yarnPackager.generateYarnResult(packageJsonText, yarnLockLines, yarnLockFile.getAbsolutePath(), lernaMissingDependencyHandler::handleMissingYarnDependency);
+            YarnResult yarnResult;
+            try (Reader yarnLockReader = Files.newBufferedReader(yarnLockFile.toPath(), StandardCharsets.UTF_8)) {
+                yarnResult = yarnPackager.generateYarnResult(packageJsonText, yarnLockReader, yarnLockFile.getAbsolutePath(), lernaMissingDependencyHandler::handleMissingYarnDependency);
+            }
 
             if (yarnResult.getException().isPresent()) {
                 throw yarnResult.getException().get();
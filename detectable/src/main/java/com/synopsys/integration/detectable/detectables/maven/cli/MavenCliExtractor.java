@@ -37,6 +37,8 @@ import com.synopsys.integration.detectable.detectable.executable.ExecutableRunne
 import com.synopsys.integration.detectable.extraction.Extraction;
 
 public class MavenCliExtractor {
+    private static final String MAVEN_DAEMON_EXECUTABLE = "mvnd";
+
     private final ExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
 
@@ -56,18 +58,23 @@ public class MavenCliExtractor {
         List<String> arguments = new ArrayList<>(Arrays.asList(mavenCommand));
         arguments.add("dependency:tree");
         arguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
-
-        ExecutableResult mvnExecutableResult = ExecutableResult.wrap(executableRunner, directory, mavenExe, arguments);
-        if (!mvnExecutableResult.isSuccessful()) {
-            return Extraction.fromFailedExecutable(mvnExecutableResult);
+        if (isMavenDaemon(mavenExe)) {
+            arguments.add("-B"); // Without batch mode the Maven Daemon draws a rich console, so force the plain log lines the packager parses.
         }
 
-        List<String> mavenOutput = mvnExecutableResult.getStandardOutputAsList();
+        // The tree output can be very large, so it is parsed as maven writes it rather than held in memory.
         List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
         List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
         List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
         List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
-        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules);
+        mavenCodeLocationPackager.startCodeLocations(directory.toString(), excludedScopes, includedScopes, excludedModules, includedModules);
+
+        ExecutableResult mvnExecutableResult = ExecutableResult.wrap(executableRunner, directory, mavenExe, arguments, mavenCodeLocationPackager::parseLine);
+        if (!mvnExecutableResult.isSuccessful()) {
+            return Extraction.fromFailedExecutable(mvnExecutableResult);
+        }
+
+        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.finishCodeLocations();
 
         List<CodeLocation> codeLocations = Bds.of(mavenResults)
                                                .map(MavenParseResult::getCodeLocation)
@@ -83,4 +90,9 @@ public class MavenCliExtractor {
         }
         return builder.build();
     }
+
+    private boolean isMavenDaemon(File mavenExe) {
+        String executableName = mavenExe.getName();
+        return MAVEN_DAEMON_EXECUTABLE.equals(executableName) || executableName.startsWith(MAVEN_DAEMON_EXECUTABLE + ".");
+    }
 }
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Stack;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -45,6 +44,7 @@ import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
 // TODO: Re-write. Some fields could be local variables. Includes many code smells. A component none:Additional_Components:none appears in the graph.
 public class MavenCodeLocationPackager {
     private static final List<String> indentationStrings = Arrays.asList("+- ", "|  ", "\\- ", "   ");
+    private static final int INDENTATION_WIDTH = 3;
     private static final List<String> KNOWN_SCOPES = Arrays.asList("compile", "provided", "runtime", "test", "system", "import");
 
     private static final Logger logger = LoggerFactory.getLogger(MavenCodeLocationPackager.class);
@@ -52,10 +52,12 @@ public class MavenCodeLocationPackager {
     public static final String ORPHAN_LIST_PARENT_NODE_GROUP = "none";
     public static final String ORPHAN_LIST_PARENT_NODE_VERSION = "none";
 
-    private static final String END_OF_TREE_PATTERN_STRING = "^-*< .* >-*$";
-    private final Pattern endOfTreePattern = Pattern.compile(END_OF_TREE_PATTERN_STRING);
+    private static final String END_OF_TREE_START = "< ";
+    private static final String END_OF_TREE_END = " >";
     private final ExternalIdFactory externalIdFactory;
     private List<MavenParseResult> codeLocations = new ArrayList<>();
+    // the last project started, held until its graph can no longer change
+    private MavenParseResult pendingMavenProject = null;
     private MavenParseResult currentMavenProject = null;
     private Stack<Dependency> dependencyParentStack = new Stack<>();
     // in-scope components found in an out-of-scope tree go in the orphans list
@@ -64,6 +66,9 @@ public class MavenCodeLocationPackager {
     private int level;
     private boolean inOutOfScopeTree = false;
     private MutableDependencyGraph currentGraph = null;
+    private String sourcePath;
+    private ExcludedIncludedWildcardFilter modulesFilter;
+    private ExcludedIncludedWildcardFilter scopeFilter;
 
     public MavenCodeLocationPackager(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -71,59 +76,85 @@ public class MavenCodeLocationPackager {
 
     // mavenTextOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(String sourcePath, List<String> mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
-        ExcludedIncludedWildcardFilter modulesFilter = new ExcludedIncludedWildcardFilter(StringUtils.joinWith(",", excludedModules.toArray()), StringUtils.joinWith(",", includedModules.toArray()));
-        ExcludedIncludedWildcardFilter scopeFilter = new ExcludedIncludedWildcardFilter(StringUtils.joinWith(",", excludedScopes.toArray()),
+        startCodeLocations(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        for (String currentLine : mavenOutput) {
+            parseLine(currentLine);
+        }
+        return finishCodeLocations();
+    }
+
+    // Lets mvn dependency:tree output be parsed a line at a time as it is produced: start, parse each line, then finish.
+    public void startCodeLocations(String sourcePath, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        modulesFilter = new ExcludedIncludedWildcardFilter(StringUtils.joinWith(",", excludedModules.toArray()), StringUtils.joinWith(",", includedModules.toArray()));
+        scopeFilter = new ExcludedIncludedWildcardFilter(StringUtils.joinWith(",", excludedScopes.toArray()),
             StringUtils.joinWith(",", includedScopes.toArray())); // TODO: Replace when INTCMN-469 is completed.
+        this.sourcePath = sourcePath;
         codeLocations = new ArrayList<>();
+        pendingMavenProject = null;
         currentMavenProject = null;
         dependencyParentStack = new Stack<>();
+        orphans.clear();
+        inOutOfScopeTree = false;
         parsingProjectSection = false;
         currentGraph = new MutableMapDependencyGraph();
 
         level = 0;
-        for (String currentLine : mavenOutput) {
-            String line = currentLine.trim();
+    }
 
-            if (shouldSkipLine(line)) {
-                continue;
-            }
+    public void parseLine(String currentLine) {
+        String line = currentLine.trim();
 
-            line = trimLogLevel(line);
+        // the log level is located once per line, and the content after it is only copied once the line is known to be relevant
+        int logLevelEnd = indexOfEndOfSegments(line, "[", "INFO", "]");
+        if (!isContentRelevant(line, logLevelEnd)) {
+            return;
+        }
+        line = trimLogLevel(line, logLevelEnd);
 
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
+        if (shouldSkipContent(line)) {
+            return;
+        }
 
-            boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(modulesFilter, sourcePath, line);
+            return;
+        }
 
-            int previousLevel = level;
-            String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
-                continue;
-            }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
+        boolean finished = line.contains("--------") || isEndOfTree(line);
+        if (finished) {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+            level = 0;
+            return;
         }
+
+        int previousLevel = level;
+        String cleanedLine = calculateCurrentLevelAndCleanLine(line);
+        ScopedDependency dependency = textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(scopeFilter, dependency, previousLevel);
+        }
+    }
+
+    public List<MavenParseResult> finishCodeLocations() {
         addOrphansToGraph(currentGraph, orphans);
+        handOffPendingMavenProject();
 
         return codeLocations;
     }
 
-    private boolean shouldSkipLine(String line) {
-        if (!isLineRelevant(line)) {
-            return true;
+    private void handOffPendingMavenProject() {
+        if (pendingMavenProject != null) {
+            codeLocations.add(pendingMavenProject);
+            pendingMavenProject = null;
         }
-        line = trimLogLevel(line);
+    }
+
+    private boolean shouldSkipContent(String line) {
         if (StringUtils.isBlank(line)) {
             return true;
         }
@@ -142,12 +173,14 @@ public class MavenCodeLocationPackager {
 
     private void initializeCurrentMavenProject(ExcludedIncludedWildcardFilter modulesFilter, String sourcePath, String line) {
         // this is the first line of a new code location, the following lines will be the tree of dependencies for this code location
+        // the previous project's graph is never modified again once a new graph is started, so its result can be handed off
+        handOffPendingMavenProject();
         currentGraph = new MutableMapDependencyGraph();
         MavenParseResult mavenProject = createMavenParseResult(sourcePath, line, currentGraph);
         if (null != mavenProject && modulesFilter.shouldInclude(mavenProject.getProjectName())) {
             logger.trace(String.format("Project: %s", mavenProject.getProjectName()));
             this.currentMavenProject = mavenProject;
-            codeLocations.add(mavenProject);
+            pendingMavenProject = mavenProject;
         } else {
             logger.trace("Project: unknown");
             currentMavenProject = null;
@@ -240,15 +273,35 @@ public class MavenCodeLocationPackager {
 
     public String calculateCurrentLevelAndCleanLine(String line) {
         level = 0;
-        String cleanedLine = line;
-        for (String pattern : indentationStrings) {
-            while (cleanedLine.contains(pattern)) {
-                level++;
-                cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
+        int start = 0;
+        while (isIndentation(line, start)) {
+            level++;
+            start += INDENTATION_WIDTH;
+        }
+
+        return line.substring(start);
+    }
+
+    private boolean isIndentation(String line, int start) {
+        for (String indentation : indentationStrings) {
+            if (line.startsWith(indentation, start)) {
+                return true;
             }
         }
+        return false;
+    }
 
-        return cleanedLine;
+    // Matches the "-----< group:artifact >-----" line that follows a module's tree.
+    private boolean isEndOfTree(String line) {
+        int start = 0;
+        while (start < line.length() && line.charAt(start) == '-') {
+            start++;
+        }
+        int end = line.length();
+        while (end > start && line.charAt(end - 1) == '-') {
+            end--;
+        }
+        return end - start >= END_OF_TREE_START.length() + END_OF_TREE_END.length() && line.startsWith(END_OF_TREE_START, start) && line.startsWith(END_OF_TREE_END, end - END_OF_TREE_END.length());
     }
 
     private Dependency createOrphanListParentDependency() {
@@ -298,31 +351,40 @@ public class MavenCodeLocationPackager {
     }
 
     public boolean isLineRelevant(String line) {
-        String editableLine = line;
-        if (!doesLineContainSegmentsInOrder(line, "[", "INFO", "]")) {
+        return isContentRelevant(line, indexOfEndOfSegments(line, "[", "INFO", "]"));
+    }
+
+    private boolean isContentRelevant(String line, int logLevelEnd) {
+        if (logLevelEnd == -1) {
             // Does not contain [INFO]
             return false;
         }
-        int index = indexOfEndOfSegments(line, "[", "INFO", "]");
-        String trimmedLine = editableLine.substring(index);
-
-        if (StringUtils.isBlank(trimmedLine) || trimmedLine.contains("Downloaded") || trimmedLine.contains("Downloading")) {
+        if (isBlankFrom(line, logLevelEnd) || line.indexOf("Downloaded", logLevelEnd) != -1 || line.indexOf("Downloading", logLevelEnd) != -1) {
             // Does not have content or this a line about download information
             return false;
         }
         return true;
     }
 
-    public String trimLogLevel(String line) {
-        String editableLine = line;
+    private boolean isBlankFrom(String line, int start) {
+        for (int i = start; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        int index = indexOfEndOfSegments(line, "[", "INFO", "]");
-        String trimmedLine = editableLine.substring(index);
+    public String trimLogLevel(String line) {
+        return trimLogLevel(line, indexOfEndOfSegments(line, "[", "INFO", "]"));
+    }
 
-        if (trimmedLine.startsWith(" ")) {
-            trimmedLine = trimmedLine.substring(1);
+    private String trimLogLevel(String line, int logLevelEnd) {
+        int start = logLevelEnd;
+        if (line.startsWith(" ", start)) {
+            start++;
         }
-        return trimmedLine;
+        return line.substring(start);
     }
 
     public boolean isProjectSection(String line) {
@@ -366,24 +428,19 @@ public class MavenCodeLocationPackager {
     }
 
     public int indexOfEndOfSegments(String line, String... segments) {
-        int endOfSegments = -1;
-        if (segments.length > 0) {
-            endOfSegments = 0;
+        if (segments.length == 0) {
+            return -1;
         }
 
-        String editableLine = line;
+        int endOfSegments = 0;
         for (String segment : segments) {
-            int index = editableLine.indexOf(segment);
+            // only look at the remainder of the line after the segment we just found for the next segment
+            int index = line.indexOf(segment, endOfSegments);
             // If the string does not contain the segment indexOf returns -1
             if (index == -1) {
-                endOfSegments = -1;
-                break;
+                return -1;
             }
-            // Add the index to the total to keep track of the index in the original String
-            endOfSegments += (index + segment.length());
-
-            // cut the string off right after the segment we just found so we are only looking at the remainder of the line for the next segment
-            editableLine = editableLine.substring(index + segment.length());
+            endOfSegments = index + segment.length();
         }
         return endOfSegments;
     }
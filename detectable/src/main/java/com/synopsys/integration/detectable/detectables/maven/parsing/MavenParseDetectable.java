@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "various", forge = "Maven Central", requirementsMarkdown = "File: pom.xml.")
 public class MavenParseDetectable extends Detectable {
-    private static final String POM_XML_FILENAME = "pom.xml";
+    public static final String POM_XML_FILENAME = "pom.xml";
 
     private final FileFinder fileFinder;
     private final MavenParseExtractor mavenParseExtractor;
@@ -24,33 +24,49 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.apache.commons.io.FileUtils;
 
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 
 public class NpmLockfileExtractor {
+    private static final String EXTRACTION_CACHE_NAME = "NpmLockfileExtractor";
+
     private final NpmLockfilePackager npmLockfileParser;
+    private final ExtractionCache extractionCache;
 
-    public NpmLockfileExtractor(NpmLockfilePackager npmLockfileParser) {
+    public NpmLockfileExtractor(NpmLockfilePackager npmLockfileParser, ExtractionCache extractionCache) {
         this.npmLockfileParser = npmLockfileParser;
+        this.extractionCache = extractionCache;
     }
 
     /*
     packageJson is optional
      */
     public Extraction extract(File lockfile, File packageJson, boolean includeDevDependencies) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Arrays.asList(lockfile, packageJson), Collections.singletonList(String.valueOf(includeDevDependencies)), () -> extractUncached(lockfile, packageJson, includeDevDependencies));
+    }
+
+    private Extraction extractUncached(File lockfile, File packageJson, boolean includeDevDependencies) {
         try {
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
             String packageText = null;
             if (packageJson != null) {
                 packageText = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
             }
 
-            NpmParseResult result = npmLockfileParser.parse(packageText, lockText, includeDevDependencies);
+            // The lockfile can be very large, so it is read as it is parsed rather than held in memory.
+            NpmParseResult result;
+            try (Reader lockReader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
+                result = npmLockfileParser.parse(packageText, lockReader, includeDevDependencies);
+            }
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
@@ -86,4 +86,8 @@ public class NpmPackageLockDetectable extends Detectable {
         return npmLockfileExtractor.extract(lockfile, packageJson, includeDevDependencies);
     }
 
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
@@ -87,4 +87,8 @@ public class NpmShrinkwrapDetectable extends Detectable {
         return npmLockfileExtractor.extract(lockfile, packageJson, includeDevDependencies);
     }
 
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
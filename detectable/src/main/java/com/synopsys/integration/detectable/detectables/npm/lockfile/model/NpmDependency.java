@@ -24,9 +24,13 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 
 public class NpmDependency {
@@ -45,6 +49,8 @@ public class NpmDependency {
     private NpmDependency parent;
     private final List<NpmRequires> requires = new ArrayList<>();
     private final List<NpmDependency> dependencies = new ArrayList<>();
+    // Resolving a requirement looks up names at every scope level on the way to the root, so each level is indexed by name.
+    private final Map<String, NpmDependency> dependenciesByName = new HashMap<>();
 
     public Optional<NpmDependency> getParent() {
         return Optional.ofNullable(parent);
@@ -60,6 +66,7 @@ public class NpmDependency {
 
     public void addAllDependencies(final Collection<NpmDependency> dependencies) {
         this.dependencies.addAll(dependencies);
+        dependencies.forEach(dependency -> dependenciesByName.putIfAbsent(dependency.getName(), dependency));
     }
 
     public List<NpmRequires> getRequires() {
@@ -70,6 +77,11 @@ public class NpmDependency {
         return dependencies;
     }
 
+    @Nullable
+    public NpmDependency getDependencyWithName(final String name) {
+        return dependenciesByName.get(name);
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,54 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+public class NpmLockfileContents {
+    private final String name;
+    private final String version;
+    @Nullable
+    private final List<NpmDependency> resolvedDependencies;
+
+    public NpmLockfileContents(String name, String version, @Nullable List<NpmDependency> resolvedDependencies) {
+        this.name = name;
+        this.version = version;
+        this.resolvedDependencies = resolvedDependencies;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    // Empty when the lockfile has no dependencies section, rather than an empty one.
+    public Optional<List<NpmDependency>> getResolvedDependencies() {
+        return Optional.ofNullable(resolvedDependencies);
+    }
+}
@@ -24,7 +24,11 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
 
 public class NpmProject {
     private final String name;
@@ -34,6 +38,7 @@ public class NpmProject {
     private final List<NpmRequires> declaredDependencies = new ArrayList<>();
 
     private final List<NpmDependency> resolvedDependencies = new ArrayList<>();
+    private final Map<String, NpmDependency> resolvedDependenciesByName = new HashMap<>();
 
     public NpmProject(String name, String version) {
         this.name = name;
@@ -50,6 +55,7 @@ public class NpmProject {
 
     public void addAllResolvedDependencies(Collection<NpmDependency> resolvedDependencies) {
         this.resolvedDependencies.addAll(resolvedDependencies);
+        resolvedDependencies.forEach(dependency -> resolvedDependenciesByName.putIfAbsent(dependency.getName(), dependency));
     }
 
     public String getName() {
@@ -71,4 +77,9 @@ public class NpmProject {
     public List<NpmDependency> getResolvedDependencies() {
         return resolvedDependencies;
     }
+
+    @Nullable
+    public NpmDependency getResolvedDependencyWithName(String name) {
+        return resolvedDependenciesByName.get(name);
+    }
 }
@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,10 +41,10 @@ import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.npm.MissingNpmDependencyHandler;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 
 public class NpmLockfilePackager {
@@ -55,24 +57,27 @@ public class NpmLockfilePackager {
         this.externalIdFactory = externalIdFactory;
     }
 
-    public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies) {
-        return parse(packageJsonText, lockFileText, includeDevDependencies, NpmLockfilePackager::handleMissingDependency);
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies) throws IOException {
+        return parse(packageJsonText, lockFileReader, includeDevDependencies, NpmLockfilePackager::handleMissingDependency);
     }
 
-    public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, MissingNpmDependencyHandler missingNpmDependencyHandler) {
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, MissingNpmDependencyHandler missingNpmDependencyHandler) throws IOException {
         MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
 
         Optional<PackageJson> packageJson = Optional.ofNullable(packageJsonText)
                                                 .map(content -> gson.fromJson(content, PackageJson.class));
 
-        PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        NpmLockfileContents packageLock = new NpmLockfileReader(dependencyConverter).read(lockFileReader);
 
         logger.debug("Processing project.");
-        if (packageLock.dependencies != null) {
-            logger.debug(String.format("Found %d dependencies in the lockfile.", packageLock.dependencies.size()));
+        Optional<List<NpmDependency>> resolvedDependencies = packageLock.getResolvedDependencies();
+        if (resolvedDependencies.isPresent()) {
+            logger.debug(String.format("Found %d dependencies in the lockfile.", resolvedDependencies.get().size()));
             //Convert to our custom format
-            NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmProject project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+            NpmProject project = new NpmProject(packageLock.getName(), packageLock.getVersion());
+            project.addAllResolvedDependencies(resolvedDependencies.get());
+            dependencyConverter.addDeclaredDependencies(project, packageJson.orElse(null));
 
             //First we will recreate the graph from the resolved npm dependencies
             for (NpmDependency resolved : project.getResolvedDependencies()) {
@@ -82,9 +87,9 @@ public class NpmLockfilePackager {
             //Then we will add relationships between the project (root) and the graph
             boolean atLeastOneRequired = !project.getDeclaredDependencies().isEmpty() || !project.getDeclaredDevDependencies().isEmpty();
             if (atLeastOneRequired) {
-                addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDependencies(), dependencyGraph, missingNpmDependencyHandler);
+                addRootDependencies(project, project.getDeclaredDependencies(), dependencyGraph, missingNpmDependencyHandler);
                 if (includeDevDependencies) {
-                    addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDevDependencies(), dependencyGraph, missingNpmDependencyHandler);
+                    addRootDependencies(project, project.getDeclaredDevDependencies(), dependencyGraph, missingNpmDependencyHandler);
                 }
             } else {
                 project.getResolvedDependencies()
@@ -98,18 +103,18 @@ public class NpmLockfilePackager {
             logger.debug("Lock file did not have a 'dependencies' section.");
         }
         logger.debug("Finished processing.");
-        ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageLock.name, packageLock.version);
+        ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageLock.getName(), packageLock.getVersion());
         CodeLocation codeLocation = new CodeLocation(dependencyGraph, projectId);
-        return new NpmParseResult(packageLock.name, packageLock.version, codeLocation);
+        return new NpmParseResult(packageLock.getName(), packageLock.getVersion(), codeLocation);
     }
 
     public static void handleMissingDependency(Logger missingDependencyLogger, NpmRequires missingDependency) {
         missingDependencyLogger.error(String.format("No dependency found for package: %s", missingDependency.getName()));
     }
 
-    private void addRootDependencies(List<NpmDependency> resolvedDependencies, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, MissingNpmDependencyHandler missingNpmDependencyHandler) {
+    private void addRootDependencies(NpmProject project, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, MissingNpmDependencyHandler missingNpmDependencyHandler) {
         for (NpmRequires dependency : requires) {
-            NpmDependency resolved = firstDependencyWithName(resolvedDependencies, dependency.getName());
+            NpmDependency resolved = project.getResolvedDependencyWithName(dependency.getName());
             if (resolved != null) {
                 dependencyGraph.addChildToRoot(resolved.getGraphDependency());
             } else {
@@ -138,26 +143,13 @@ public class NpmLockfilePackager {
 
     //returns the first dependency in the following order: directly under this dependency, under a parent, under the project
     private NpmDependency lookupDependency(NpmDependency npmDependency, NpmProject project, String name) {
-        NpmDependency resolved = firstDependencyWithName(npmDependency.getDependencies(), name);
-
-        if (resolved != null) {
-            return resolved;
-        } else {
-            if (npmDependency.getParent().isPresent()) {
-                return lookupDependency(npmDependency.getParent().get(), project, name);
-            } else {
-                return firstDependencyWithName(project.getResolvedDependencies(), name);
-            }
-        }
-    }
-
-    private NpmDependency firstDependencyWithName(List<NpmDependency> dependencies, String name) {
-        for (NpmDependency current : dependencies) {
-            if (current.getName().equals(name)) {
-                return current;
+        for (NpmDependency scope = npmDependency; scope != null; scope = scope.getParent().orElse(null)) {
+            NpmDependency resolved = scope.getDependencyWithName(name);
+            if (resolved != null) {
+                return resolved;
             }
         }
-        return null;
+        return project.getResolvedDependencyWithName(name);
     }
 
     private boolean shouldIncludeDependency(NpmDependency packageLockDependency, boolean includeDevDependencies) {
@@ -0,0 +1,174 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
+
+// Reads a package-lock.json token by token, building the dependency tree directly instead of holding the lockfile text and a Gson object tree for it.
+public class NpmLockfileReader {
+    private final NpmDependencyConverter npmDependencyConverter;
+
+    public NpmLockfileReader(NpmDependencyConverter npmDependencyConverter) {
+        this.npmDependencyConverter = npmDependencyConverter;
+    }
+
+    public NpmLockfileContents read(Reader lockfileReader) throws IOException {
+        String name = null;
+        String version = null;
+        List<NpmDependency> resolvedDependencies = null;
+
+        JsonReader jsonReader = new JsonReader(lockfileReader);
+        jsonReader.setLenient(true);
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case "name":
+                    name = nextNullableString(jsonReader);
+                    break;
+                case "version":
+                    version = nextNullableString(jsonReader);
+                    break;
+                case "dependencies":
+                    resolvedDependencies = readDependencies(jsonReader);
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+
+        return new NpmLockfileContents(name, version, resolvedDependencies);
+    }
+
+    @Nullable
+    private List<NpmDependency> readDependencies(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        }
+
+        List<NpmDependency> dependencies = new ArrayList<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String packageName = jsonReader.nextName();
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+            } else {
+                dependencies.add(readDependency(jsonReader, packageName));
+            }
+        }
+        jsonReader.endObject();
+        return dependencies;
+    }
+
+    private NpmDependency readDependency(JsonReader jsonReader, String packageName) throws IOException {
+        String version = null;
+        Boolean dev = null;
+        List<NpmRequires> requires = new ArrayList<>();
+        List<NpmDependency> children = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case "version":
+                    version = nextNullableString(jsonReader);
+                    break;
+                case "dev":
+                    dev = nextNullableBoolean(jsonReader);
+                    break;
+                case "requires":
+                    readRequires(jsonReader, requires);
+                    break;
+                case "dependencies":
+                    children = readDependencies(jsonReader);
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+
+        // Nested dependencies may be read before this dependency's version, so they are attached once it exists.
+        NpmDependency dependency = npmDependencyConverter.createNpmDependency(packageName, version, dev);
+        dependency.addAllRequires(requires);
+        if (children != null) {
+            children.forEach(child -> child.setParent(dependency));
+            dependency.addAllDependencies(children);
+        }
+        return dependency;
+    }
+
+    private void readRequires(JsonReader jsonReader, List<NpmRequires> requires) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return;
+        }
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String requiredName = jsonReader.nextName();
+            requires.add(new NpmRequires(requiredName, nextNullableString(jsonReader)));
+        }
+        jsonReader.endObject();
+    }
+
+    // Scalars are read the way Gson reads them into a String or Boolean field.
+    @Nullable
+    private String nextNullableString(JsonReader jsonReader) throws IOException {
+        switch (jsonReader.peek()) {
+            case STRING:
+            case NUMBER:
+                return jsonReader.nextString();
+            case BOOLEAN:
+                return String.valueOf(jsonReader.nextBoolean());
+            default:
+                jsonReader.skipValue();
+                return null;
+        }
+    }
+
+    @Nullable
+    private Boolean nextNullableBoolean(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.peek();
+        if (token == JsonToken.BOOLEAN) {
+            return jsonReader.nextBoolean();
+        } else if (token == JsonToken.STRING) {
+            return Boolean.valueOf(jsonReader.nextString());
+        }
+        jsonReader.skipValue();
+        return null;
+    }
+}
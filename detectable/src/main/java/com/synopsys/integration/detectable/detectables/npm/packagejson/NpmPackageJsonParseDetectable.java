@@ -80,4 +80,9 @@ public class NpmPackageJsonParseDetectable extends Detectable {
             return new Extraction.Builder().exception(e).failure(String.format("Failed to parse %s", PACKAGE_JSON)).build();
         }
     }
+
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
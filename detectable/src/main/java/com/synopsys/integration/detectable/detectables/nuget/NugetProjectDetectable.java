@@ -47,7 +47,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
                                ".sfproj, .njsproj, .vcxproj, .vcproj, .xproj, .pyproj, .hiveproj, .pigproj, .jsproj, .usqlproj, .deployproj, " +
                                ".msbuildproj, .sqlproj, .dbproj, .rproj")
 public class NugetProjectDetectable extends Detectable {
-    static final List<String> SUPPORTED_PROJECT_PATTERNS = Arrays.asList(
+    public static final List<String> SUPPORTED_PROJECT_PATTERNS = Arrays.asList(
         // C#
         "*.csproj",
         // F#
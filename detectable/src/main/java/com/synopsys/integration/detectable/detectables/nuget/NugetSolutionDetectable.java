@@ -44,7 +44,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "C#", forge = "NuGet.org", requirementsMarkdown = "File: a solution file with a .sln extension.")
 public class NugetSolutionDetectable extends Detectable {
-    private static final List<String> SUPPORTED_SOLUTION_PATTERNS = Collections.singletonList("*.sln");
+    public static final List<String> SUPPORTED_SOLUTION_PATTERNS = Collections.singletonList("*.sln");
 
     private final FileFinder fileFinder;
     private final NugetInspectorResolver nugetInspectorResolver;
@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "PHP", forge = "Packagist.org", requirementsMarkdown = "Files: composer.lock, composer.json.")
 public class ComposerLockDetectable extends Detectable {
-    private static final String COMPOSER_LOCK = "composer.lock";
+    public static final String COMPOSER_LOCK = "composer.lock";
     private static final String COMPOSER_JSON = "composer.json";
 
     private final FileFinder fileFinder;
@@ -59,11 +59,13 @@ public class ComposerLockDetectable extends Detectable {
         if (composerLock == null) {
             return new FileNotFoundDetectableResult(COMPOSER_LOCK);
         }
+        relevantFiles.add(composerLock);
 
         composerJson = fileFinder.findFile(environment.getDirectory(), COMPOSER_JSON);
         if (composerJson == null) {
             return new FileNotFoundDetectableResult(COMPOSER_JSON);
         }
+        relevantFiles.add(composerJson);
 
         return new PassedDetectableResult();
     }
@@ -78,4 +80,8 @@ public class ComposerLockDetectable extends Detectable {
         return composerLockExtractor.extract(composerJson, composerLock, composerLockDetectableOptions.shouldIncludeDevDependencies());
     }
 
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
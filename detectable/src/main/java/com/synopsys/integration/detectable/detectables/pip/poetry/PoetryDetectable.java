@@ -38,8 +38,8 @@ import com.synopsys.integration.detectable.detectable.result.PoetryLockfileNotFo
 
 @DetectableInfo(language = "Python", forge = "pypi", requirementsMarkdown = "Files: Poetry.lock, pyproject.toml")
 public class PoetryDetectable extends Detectable {
-    private static final String PYPROJECT_TOML_FILE_NAME = "pyproject.toml";
-    private static final String POETRY_LOCK = "poetry.lock";
+    public static final String PYPROJECT_TOML_FILE_NAME = "pyproject.toml";
+    public static final String POETRY_LOCK = "poetry.lock";
 
     private final FileFinder fileFinder;
     private final PoetryExtractor poetryExtractor;
@@ -60,6 +60,12 @@ public class PoetryDetectable extends Detectable {
         if (poetryLock == null && pyprojectToml == null) {
             return new FilesNotFoundDetectableResult(PYPROJECT_TOML_FILE_NAME, POETRY_LOCK);
         }
+        if (poetryLock != null) {
+            relevantFiles.add(poetryLock);
+        }
+        if (pyprojectToml != null) {
+            relevantFiles.add(pyprojectToml);
+        }
         return new PassedDetectableResult();
     }
 
@@ -75,4 +81,9 @@ public class PoetryDetectable extends Detectable {
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         return poetryExtractor.extract(poetryLock, Optional.ofNullable(pyprojectToml));
     }
+
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
@@ -27,6 +27,8 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,7 @@ import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.pip.poetry.parser.PoetryLockParser;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 import com.synopsys.integration.util.NameVersion;
 
 public class PoetryExtractor {
@@ -46,14 +49,21 @@ public class PoetryExtractor {
     private static final String NAME_KEY = "name";
     private static final String VERSION_KEY = "version";
     private static final String TOOL_KEY = "tool.poetry";
+    private static final String EXTRACTION_CACHE_NAME = "PoetryExtractor";
 
     private final PoetryLockParser poetryLockParser;
+    private final ExtractionCache extractionCache;
 
-    public PoetryExtractor(final PoetryLockParser poetryLockParser) {
+    public PoetryExtractor(final PoetryLockParser poetryLockParser, final ExtractionCache extractionCache) {
         this.poetryLockParser = poetryLockParser;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(File poetryLock, Optional<File> pyprojectToml) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Arrays.asList(poetryLock, pyprojectToml.orElse(null)), Collections.emptyList(), () -> extractUncached(poetryLock, pyprojectToml));
+    }
+
+    private Extraction extractUncached(File poetryLock, Optional<File> pyprojectToml) {
         try {
             final DependencyGraph graph = poetryLockParser.parseLockFile(FileUtils.readFileToString(poetryLock, StandardCharsets.UTF_8));
             final CodeLocation codeLocation = new CodeLocation(graph);
@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "Ruby", forge = "RubyGems", requirementsMarkdown = "File: Gemfile.lock.")
 public class GemlockDetectable extends Detectable {
-    private static final String GEMFILE_LOCK_FILENAME = "Gemfile.lock";
+    public static final String GEMFILE_LOCK_FILENAME = "Gemfile.lock";
 
     private final FileFinder fileFinder;
     private final GemlockExtractor gemlockExtractor;
@@ -56,6 +56,7 @@ public class GemlockDetectable extends Detectable {
         if (gemlock == null) {
             return new FileNotFoundDetectableResult(GEMFILE_LOCK_FILENAME);
         }
+        relevantFiles.add(gemlock);
 
         return new PassedDetectableResult();
     }
@@ -70,4 +71,8 @@ public class GemlockDetectable extends Detectable {
         return gemlockExtractor.extract(gemlock);
     }
 
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
@@ -25,6 +25,7 @@ package com.synopsys.integration.detectable.detectables.rubygems.gemlock;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -35,19 +36,30 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 
 public class GemlockExtractor {
+    private static final String EXTRACTION_CACHE_NAME = "GemlockExtractor";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExternalIdFactory externalIdFactory;
+    private final ExtractionCache extractionCache;
 
-    public GemlockExtractor(final ExternalIdFactory externalIdFactory) {
+    public GemlockExtractor(final ExternalIdFactory externalIdFactory, final ExtractionCache extractionCache) {
         this.externalIdFactory = externalIdFactory;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(final File gemlock) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Collections.singletonList(gemlock), Collections.emptyList(), () -> extractUncached(gemlock));
+    }
+
+    private Extraction extractUncached(final File gemlock) {
         try {
             final List<String> gemlockText = Files.readAllLines(gemlock.toPath(), StandardCharsets.UTF_8);
-            logger.debug(String.join(System.lineSeparator(), gemlockText));
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.join(System.lineSeparator(), gemlockText));
+            }
 
             final GemlockParser gemlockParser = new GemlockParser(externalIdFactory);
             final DependencyGraph dependencyGraph = gemlockParser.parseProjectDependencies(gemlockText);
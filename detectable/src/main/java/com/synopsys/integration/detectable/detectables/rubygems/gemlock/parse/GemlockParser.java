@@ -27,10 +27,11 @@ import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.p
 import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser.GemfileLockSection.NONE;
 import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser.GemfileLockSection.SPECS;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -58,6 +59,7 @@ public class GemlockParser {
     public static final String VERSION_CHARACTERS = "()<>=~";
     public static final String FUZZY_VERSION_CHARACTERS = "<>";
     public static final String VERSION_PREFIX_PATTERN = " \\(";
+    private static final String VERSION_PREFIX = " (";
     public static final String VERSION_SUFFIX = ")";
 
     private final Logger logger = LoggerFactory.getLogger(GemlockParser.class);
@@ -68,16 +70,19 @@ public class GemlockParser {
 
     private GemfileLockSection currentSection = NONE;
 
-    private List<String> encounteredDependencies = new ArrayList<>();
-    private List<String> resolvedDependencies = new ArrayList<>();
+    // Names are looked up once per spec line, so they are kept in hashed sets rather than lists.
+    private Set<String> encounteredDependencies = new LinkedHashSet<>();
+    private Set<String> resolvedDependencies = new HashSet<>();
+    private Set<NameVersionDependencyId> discoveredDependencies = new HashSet<>();
 
     public GemlockParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public DependencyGraph parseProjectDependencies(final List<String> gemfileLockLines) throws MissingExternalIdException {
-        encounteredDependencies = new ArrayList<>();
-        resolvedDependencies = new ArrayList<>();
+        encounteredDependencies = new LinkedHashSet<>();
+        resolvedDependencies = new HashSet<>();
+        discoveredDependencies = new HashSet<>();
         lazyBuilder = new LazyExternalIdDependencyGraphBuilder();
         currentParent = null;
 
@@ -101,8 +106,10 @@ public class GemlockParser {
             }
         }
 
-        final List<String> missingDependencies = encounteredDependencies.stream().filter(it -> !resolvedDependencies.contains(it)).collect(Collectors.toList());
-        for (final String missingName : missingDependencies) {
+        for (final String missingName : encounteredDependencies) {
+            if (resolvedDependencies.contains(missingName)) {
+                continue;
+            }
             final String missingVersion = "";
             final DependencyId dependencyId = new NameDependencyId(missingName);
             final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, missingName, missingVersion);
@@ -115,12 +122,15 @@ public class GemlockParser {
     private void discoveredDependencyInfo(final NameVersionDependencyId id) {
         final NameDependencyId nameOnlyId = new NameDependencyId(id.getName());
 
-        //regardless we found the external id for this specific dependency.
+        //regardless we found the external id for this specific dependency, but it only needs to be set the first time.
+        if (!discoveredDependencies.add(id)) {
+            lazyBuilder.addChildWithParent(id, nameOnlyId);
+            return;
+        }
         final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, id.getName(), id.getVersion());
         lazyBuilder.setDependencyInfo(id, id.getName(), id.getVersion(), externalId);
 
-        if (!resolvedDependencies.contains(id.getName())) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
-            resolvedDependencies.add(id.getName());
+        if (resolvedDependencies.add(id.getName())) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
             lazyBuilder.setDependencyInfo(nameOnlyId, id.getName(), id.getVersion(), externalId);
         } else {//otherwise, add us as a child to the version-less
             lazyBuilder.addChildWithParent(id, nameOnlyId);
@@ -187,12 +197,15 @@ public class GemlockParser {
     }
 
     private NameVersion parseNameVersion(final String trimmedLine) {
-        final String[] pieces = trimmedLine.split(VERSION_PREFIX_PATTERN);
-        String name = pieces[0].trim();
+        // Equivalent to splitting on VERSION_PREFIX_PATTERN and taking the first two pieces, without compiling the pattern per line.
+        final int versionStart = trimmedLine.indexOf(VERSION_PREFIX);
+        String name = versionStart < 0 ? trimmedLine.trim() : trimmedLine.substring(0, versionStart).trim();
         String version = "";
 
-        if (pieces.length > 1) {
-            final Optional<String> validVersion = parseValidVersion(pieces[1].trim());
+        if (versionStart >= 0) {
+            final int pieceStart = versionStart + VERSION_PREFIX.length();
+            final int pieceEnd = trimmedLine.indexOf(VERSION_PREFIX, pieceStart);
+            final Optional<String> validVersion = parseValidVersion(trimmedLine.substring(pieceStart, pieceEnd < 0 ? trimmedLine.length() : pieceEnd).trim());
             version = validVersion.orElse("");
         }
 
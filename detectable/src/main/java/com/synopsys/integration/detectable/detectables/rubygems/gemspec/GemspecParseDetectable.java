@@ -36,7 +36,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "Ruby", forge = "RubyGems", requirementsMarkdown = "File: A gemspec file (with .gemspec extension).")
 public class GemspecParseDetectable extends Detectable {
-    private static final String GEMSPEC_FILENAME = "*.gemspec";
+    public static final String GEMSPEC_FILENAME = "*.gemspec";
 
     private final FileFinder fileFinder;
     private final GemspecParseExtractor gemspecParseExtractor;
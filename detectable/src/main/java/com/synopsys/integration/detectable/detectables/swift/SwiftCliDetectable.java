@@ -39,7 +39,7 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 @DetectableInfo(language = "Swift", forge = "Swift.org", requirementsMarkdown = "File: Package.swift.<br/><br/> Executables: swift.")
 public class SwiftCliDetectable extends Detectable {
-    private static final String PACKAGE_SWIFT_FILENAME = "Package.swift";
+    public static final String PACKAGE_SWIFT_FILENAME = "Package.swift";
 
     private final FileFinder fileFinder;
     private final SwiftExtractor swiftExtractor;
@@ -57,11 +57,13 @@ public class YarnLockDetectable extends Detectable {
         if (yarnLock == null) {
             return new FileNotFoundDetectableResult(YARN_LOCK_FILENAME);
         }
+        relevantFiles.add(yarnLock);
 
         packageJson = fileFinder.findFile(environment.getDirectory(), YARN_PACKAGE_JSON);
         if (packageJson == null) {
             return new FileNotFoundDetectableResult(YARN_PACKAGE_JSON);
         }
+        relevantFiles.add(packageJson);
 
         return new PassedDetectableResult();
     }
@@ -75,4 +77,9 @@ public class YarnLockDetectable extends Detectable {
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         return yarnLockExtractor.extract(yarnLock, packageJson);
     }
+
+    @Override
+    public boolean isExtractionDeterminedByRelevantFiles() {
+        return true;
+    }
 }
@@ -23,26 +23,42 @@
 package com.synopsys.integration.detectable.detectables.yarn;
 
 import java.io.File;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.apache.commons.io.FileUtils;
 
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnTransformer;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
 
 public class YarnLockExtractor {
+    private static final String EXTRACTION_CACHE_NAME = "YarnLockExtractor";
+
     private final YarnPackager yarnPackager;
+    private final YarnLockOptions yarnLockOptions;
+    private final ExtractionCache extractionCache;
 
-    public YarnLockExtractor(YarnPackager yarnPackager) {
+    public YarnLockExtractor(YarnPackager yarnPackager, YarnLockOptions yarnLockOptions, ExtractionCache extractionCache) {
         this.yarnPackager = yarnPackager;
+        this.yarnLockOptions = yarnLockOptions;
+        this.extractionCache = extractionCache;
     }
 
     public Extraction extract(File yarnLockFile, File packageJsonFile) {
+        return extractionCache.extract(EXTRACTION_CACHE_NAME, Arrays.asList(yarnLockFile, packageJsonFile), Collections.singletonList(String.valueOf(yarnLockOptions.useProductionOnly())), () -> extractUncached(yarnLockFile, packageJsonFile));
+    }
+
+    private Extraction extractUncached(File yarnLockFile, File packageJsonFile) {
         try {
             String packageJsonText = FileUtils.readFileToString(packageJsonFile, StandardCharsets.UTF_8);
-            List<String> yarnLockLines = FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8);
-            YarnResult yarnResult = yarnPackager.generateYarnResult(packageJsonText, yarnLockLines, yarnLockFile.getAbsolutePath(), YarnTransformer::handleMissingExternalIds);
+            YarnResult yarnResult;
+            try (Reader yarnLockReader = Files.newBufferedReader(yarnLockFile.toPath(), StandardCharsets.UTF_8)) {
+                yarnResult = yarnPackager.generateYarnResult(packageJsonText, yarnLockReader, yarnLockFile.getAbsolutePath(), YarnTransformer::handleMissingExternalIds);
+            }
 
             if (yarnResult.getException().isPresent()) {
                 throw yarnResult.getException().get();
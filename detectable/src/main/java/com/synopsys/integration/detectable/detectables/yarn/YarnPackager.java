@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 
 import com.google.gson.Gson;
@@ -49,8 +51,15 @@ public class YarnPackager {
     }
 
     public YarnResult generateYarnResult(String packageJsonText, List<String> yarnLockLines, String yarnLockFilePath, MissingYarnDependencyHandler missingYarnDependencyHandler) {
+        return generateYarnResult(packageJsonText, yarnLockParser.parseYarnLock(yarnLockLines), yarnLockFilePath, missingYarnDependencyHandler);
+    }
+
+    public YarnResult generateYarnResult(String packageJsonText, Reader yarnLockReader, String yarnLockFilePath, MissingYarnDependencyHandler missingYarnDependencyHandler) throws IOException {
+        return generateYarnResult(packageJsonText, yarnLockParser.parseYarnLock(yarnLockReader), yarnLockFilePath, missingYarnDependencyHandler);
+    }
+
+    private YarnResult generateYarnResult(String packageJsonText, YarnLock yarnLock, String yarnLockFilePath, MissingYarnDependencyHandler missingYarnDependencyHandler) {
         PackageJson packageJson = gson.fromJson(packageJsonText, PackageJson.class);
-        YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockLines);
         YarnLockResult yarnLockResult = new YarnLockResult(packageJson, yarnLockFilePath, yarnLock);
 
         try {
@@ -22,127 +22,288 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
-import org.jetbrains.annotations.NotNull;
 
+// Lexes a yarn.lock (v1, or the YAML-like berry format) line by line in a single pass, scanning each line's characters in place.
+// Only the tokens kept in the result become strings, and those are interned so that a name or version shared by many entries is held once.
 public class YarnLockParser {
-    private static final String COMMENT_PREFIX = "#";
-    private static final String VERSION_PREFIX = "version \"";
-    private static final String VERSION_SUFFIX = "\"";
-    private static final String OPTIONAL_DEPENDENCIES_TOKEN = "optionalDependencies:";
+    private static final char COMMENT_PREFIX = '#';
+    private static final char QUOTE = '"';
+    private static final String VERSION_KEY = "version";
+    private static final String DEPENDENCIES_KEY = "dependencies";
+    private static final String OPTIONAL_DEPENDENCIES_KEY = "optionalDependencies";
+    private static final String BERRY_METADATA_KEY = "__metadata";
+    private static final String BERRY_NPM_PROTOCOL = "npm:";
+    private static final int READ_BUFFER_SIZE = 8192;
 
     public YarnLock parseYarnLock(List<String> yarnLockFileAsList) {
-        List<YarnLockEntry> entries = new ArrayList<>();
-        String resolvedVersion = "";
-        List<YarnLockDependency> dependencies = new ArrayList<>();
-        List<YarnLockEntryId> ids;
-        boolean inOptionalDependencies = false;
-
-        List<String> cleanedYarnLockFileAsList = cleanList(yarnLockFileAsList);
-
-        int indexOfFirstLevelZeroLine = findIndexOfFirstLevelZeroLine(cleanedYarnLockFileAsList);
-
-        if (indexOfFirstLevelZeroLine == -1 || indexOfFirstLevelZeroLine == cleanedYarnLockFileAsList.size() - 1) {
-            return new YarnLock(entries);
+        YarnLockLexer lexer = new YarnLockLexer();
+        for (String line : yarnLockFileAsList) {
+            lexer.lexLine(line);
         }
+        return lexer.finish();
+    }
 
-        // We need to set ids with the first level zero line
-        ids = parseMultipleEntryLine(cleanedYarnLockFileAsList.get(indexOfFirstLevelZeroLine));
-
-        List<String> yarnLinesThatMatter = cleanedYarnLockFileAsList.subList(indexOfFirstLevelZeroLine + 1, cleanedYarnLockFileAsList.size());
-
-        for (String line : yarnLinesThatMatter) {
-
-            String trimmedLine = line.trim();
-            int level = countIndent(line);
-            if (level == 0) {
-                entries.add(new YarnLockEntry(ids, resolvedVersion, dependencies));
-                resolvedVersion = "";
-                dependencies = new ArrayList<>();
-                inOptionalDependencies = false;
-                ids = parseMultipleEntryLine(line);
-            } else if (level == 1 && trimmedLine.startsWith(VERSION_PREFIX)) {
-                resolvedVersion = parseVersionFromLine(trimmedLine);
-            } else if (level == 1 && trimmedLine.startsWith(OPTIONAL_DEPENDENCIES_TOKEN)) {
-                inOptionalDependencies = true;
-            } else if (level == 2) {
-                dependencies.add(parseDependencyFromLine(trimmedLine, inOptionalDependencies));
+    public YarnLock parseYarnLock(Reader yarnLockReader) throws IOException {
+        YarnLockLexer lexer = new YarnLockLexer();
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int read;
+        while ((read = yarnLockReader.read(buffer)) != -1) {
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    line.append(buffer, lineStart, i - lineStart);
+                    lexer.lexLine(line);
+                    line.setLength(0);
+                    lineStart = i + 1;
+                }
             }
+            line.append(buffer, lineStart, read - lineStart);
         }
-        if (StringUtils.isNotBlank(resolvedVersion)) {
-            entries.add(new YarnLockEntry(ids, resolvedVersion, dependencies));
-        }
+        lexer.lexLine(line);
+        return lexer.finish();
+    }
 
-        return new YarnLock(entries);
+    public int countIndent(CharSequence line) {
+        return countLeadingSpaces(line) / 2;
     }
 
-    @NotNull
-    private Integer findIndexOfFirstLevelZeroLine(List<String> cleanedYarnLockFileAsList) {
-        return cleanedYarnLockFileAsList
-                   .stream()
-                   .filter(line -> countIndent(line) == 0)
-                   .findFirst()
-                   .map(line -> cleanedYarnLockFileAsList.indexOf(line))
-                   .orElse(-1);
+    //Takes a line of the form "entry \"entry\" entry:"
+    public List<YarnLockEntryId> parseMultipleEntryLine(String line) {
+        return new YarnLockLexer().lexEntryIds(line);
     }
 
-    @NotNull
-    private List<String> cleanList(List<String> yarnLockFileAsList) {
-        return yarnLockFileAsList
-                   .stream()
-                   .filter(StringUtils::isNotBlank)
-                   .filter(line -> !line.trim().startsWith(COMMENT_PREFIX))
-                   .collect(Collectors.toList());
+    //Takes an entry of format "name@version" or "@name@version" where name has an @ symbol.
+    public YarnLockEntryId parseSingleEntry(String entry) {
+        return new YarnLockLexer().lexEntryId(entry, 0, entry.length());
     }
 
-    public int countIndent(String line) {
+    private static int countLeadingSpaces(CharSequence line) {
         int count = 0;
-        while (line.startsWith("  ")) {
+        while (count < line.length() && line.charAt(count) == ' ') {
             count++;
-            line = line.substring(2);
         }
         return count;
     }
 
-    private YarnLockDependency parseDependencyFromLine(String line, boolean optional) {
-        String[] pieces = StringUtils.split(line, " ", 2);
-        return new YarnLockDependency(removeWrappingQuotes(pieces[0]), removeWrappingQuotes(pieces[1]), optional);
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
     }
 
-    private String removeWrappingQuotes(String s) {
-        return StringUtils.removeStart(StringUtils.removeEnd(s.trim(), "\""), "\"");
+    private static boolean regionEquals(CharSequence line, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (line.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    //Takes a line of the form "entry \"entry\" entry:"
-    public List<YarnLockEntryId> parseMultipleEntryLine(String line) {
-        List<YarnLockEntryId> ids = new ArrayList<>();
-        String[] entries = line.split(",");
-        for (String entryRaw : entries) {
-            String entryNoColon = StringUtils.removeEnd(entryRaw.trim(), ":");
-            String entryNoColonOrQuotes = removeWrappingQuotes(entryNoColon);
-            YarnLockEntryId entry = parseSingleEntry(entryNoColonOrQuotes);
-            ids.add(entry);
-        }
-        return ids;
-    }
+    private static class YarnLockLexer {
+        private final Map<String, String> internedStrings = new HashMap<>();
+        private final List<YarnLockEntry> entries = new ArrayList<>();
 
-    //Takes an entry of format "name@version" or "@name@version" where name has an @ symbol.
-    public YarnLockEntryId parseSingleEntry(String entry) {
-        if (StringUtils.countMatches(entry, "@") == 1 && entry.startsWith("@")) {
-            return new YarnLockEntryId(entry, "");
-        } else {
-            String name = StringUtils.substringBeforeLast(entry, "@");
-            String version = StringUtils.substringAfterLast(entry, "@");
-            return new YarnLockEntryId(name, version);
+        private List<YarnLockEntryId> ids = null;
+        private String resolvedVersion = "";
+        private List<YarnLockDependency> dependencies = new ArrayList<>();
+        private boolean inDependencies = false;
+        private boolean inOptionalDependencies = false;
+
+        // Token bounds within the current line, set by the scan methods so that no substrings are made while scanning.
+        private int tokenStart;
+        private int tokenEnd;
+
+        public void lexLine(CharSequence line) {
+            int indent = countLeadingSpaces(line);
+            int end = trimmedEnd(line, indent);
+            if (indent == end || line.charAt(indent) == COMMENT_PREFIX) {
+                return;
+            }
+
+            int level = indent / 2;
+            if (level == 0) {
+                startEntry(line, end);
+            } else if (ids == null) {
+                return;
+            } else if (level == 1) {
+                lexEntryProperty(line, indent, end);
+            } else if (level == 2 && (inDependencies || inOptionalDependencies)) {
+                dependencies.add(lexDependency(line, indent, end));
+            }
+        }
+
+        public YarnLock finish() {
+            if (ids != null && StringUtils.isNotBlank(resolvedVersion)) {
+                entries.add(new YarnLockEntry(ids, resolvedVersion, dependencies));
+            }
+            return new YarnLock(entries);
         }
-    }
 
-    private String parseVersionFromLine(String line) {
-        String rawVersion = line.substring(VERSION_PREFIX.length(), line.lastIndexOf(VERSION_SUFFIX));
-        return removeWrappingQuotes(rawVersion);
+        private void startEntry(CharSequence line, int end) {
+            if (ids != null) {
+                entries.add(new YarnLockEntry(ids, resolvedVersion, dependencies));
+            }
+            resolvedVersion = "";
+            dependencies = new ArrayList<>();
+            inDependencies = false;
+            inOptionalDependencies = false;
+
+            scanKey(line, 0, end);
+            if (regionEquals(line, tokenStart, tokenEnd, BERRY_METADATA_KEY)) {
+                ids = null;
+            } else {
+                ids = lexEntryIds(line, end);
+            }
+        }
+
+        private void lexEntryProperty(CharSequence line, int start, int end) {
+            int valueStart = scanKey(line, start, end);
+            inDependencies = regionEquals(line, tokenStart, tokenEnd, DEPENDENCIES_KEY);
+            inOptionalDependencies = regionEquals(line, tokenStart, tokenEnd, OPTIONAL_DEPENDENCIES_KEY);
+            if (regionEquals(line, tokenStart, tokenEnd, VERSION_KEY)) {
+                scanValue(line, valueStart, end);
+                resolvedVersion = intern(line, tokenStart, tokenEnd);
+            }
+        }
+
+        private YarnLockDependency lexDependency(CharSequence line, int start, int end) {
+            int valueStart = scanKey(line, start, end);
+            String name = intern(line, tokenStart, tokenEnd);
+            scanValue(line, valueStart, end);
+            String version = intern(line, tokenStart, tokenEnd);
+            return new YarnLockDependency(name, version, inOptionalDependencies);
+        }
+
+        public List<YarnLockEntryId> lexEntryIds(CharSequence line) {
+            return lexEntryIds(line, trimmedEnd(line, 0));
+        }
+
+        // Entry ids are separated by commas and the line ends with a colon. Berry quotes the whole line rather than each id, so quotes are stripped per id.
+        private List<YarnLockEntryId> lexEntryIds(CharSequence line, int end) {
+            if (end > 0 && line.charAt(end - 1) == ':') {
+                end--;
+            }
+            List<YarnLockEntryId> entryIds = new ArrayList<>();
+            int position = 0;
+            while (position <= end) {
+                int separator = indexOf(line, ',', position, end);
+                int idStart = skipWhitespace(line, position, separator);
+                int idEnd = trimmedEnd(line, idStart, separator);
+                if (idEnd > idStart && line.charAt(idEnd - 1) == QUOTE) {
+                    idEnd--;
+                }
+                if (idEnd > idStart && line.charAt(idStart) == QUOTE) {
+                    idStart++;
+                }
+                entryIds.add(lexEntryId(line, idStart, idEnd));
+                position = separator + 1;
+            }
+            return entryIds;
+        }
+
+        // Berry writes the npm protocol in entry ranges but not in dependency ranges, so it is dropped here for the two to match.
+        public YarnLockEntryId lexEntryId(CharSequence line, int start, int end) {
+            int versionSeparator = lastIndexOf(line, '@', start, end);
+            if (versionSeparator <= start) {
+                return new YarnLockEntryId(intern(line, start, end), "");
+            }
+            int rangeStart = versionSeparator + 1;
+            int protocolEnd = rangeStart + BERRY_NPM_PROTOCOL.length();
+            if (protocolEnd <= end && regionEquals(line, rangeStart, protocolEnd, BERRY_NPM_PROTOCOL)) {
+                rangeStart = protocolEnd;
+            }
+            return new YarnLockEntryId(intern(line, start, versionSeparator), intern(line, rangeStart, end));
+        }
+
+        // Scans a key that is either quoted or ends at whitespace or a colon, returning the position after it and its separator.
+        private int scanKey(CharSequence line, int start, int end) {
+            int position = skipWhitespace(line, start, end);
+            if (position < end && line.charAt(position) == QUOTE) {
+                tokenStart = position + 1;
+                tokenEnd = indexOf(line, QUOTE, tokenStart, end);
+                position = Math.min(tokenEnd + 1, end);
+            } else {
+                tokenStart = position;
+                while (position < end && line.charAt(position) != ':' && !isWhitespace(line.charAt(position))) {
+                    position++;
+                }
+                tokenEnd = position;
+            }
+            position = skipWhitespace(line, position, end);
+            if (position < end && line.charAt(position) == ':') {
+                position++;
+            }
+            return position;
+        }
+
+        // Scans a value that is either quoted (v1) or runs to the end of the line (berry).
+        private void scanValue(CharSequence line, int start, int end) {
+            int position = skipWhitespace(line, start, end);
+            if (position < end && line.charAt(position) == QUOTE) {
+                tokenStart = position + 1;
+                tokenEnd = lastIndexOf(line, QUOTE, tokenStart, end);
+                if (tokenEnd < tokenStart) {
+                    tokenEnd = end;
+                }
+            } else {
+                tokenStart = position;
+                tokenEnd = end;
+            }
+        }
+
+        private String intern(CharSequence line, int start, int end) {
+            String token = line.subSequence(start, end).toString();
+            String interned = internedStrings.putIfAbsent(token, token);
+            return interned == null ? token : interned;
+        }
+
+        private int skipWhitespace(CharSequence line, int start, int end) {
+            int position = start;
+            while (position < end && isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+
+        private int trimmedEnd(CharSequence line, int start) {
+            return trimmedEnd(line, start, line.length());
+        }
+
+        private int trimmedEnd(CharSequence line, int start, int end) {
+            int position = end;
+            while (position > start && isWhitespace(line.charAt(position - 1))) {
+                position--;
+            }
+            return position;
+        }
+
+        private int indexOf(CharSequence line, char target, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (line.charAt(i) == target) {
+                    return i;
+                }
+            }
+            return end;
+        }
+
+        private int lastIndexOf(CharSequence line, char target, int start, int end) {
+            for (int i = end - 1; i >= start; i--) {
+                if (line.charAt(i) == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
-}
\ No newline at end of file
+}
@@ -22,6 +22,7 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -48,15 +49,16 @@ public class YarnTransformer {
 
     public DependencyGraph transform(YarnLockResult yarnLockResult, boolean productionOnly, MissingYarnDependencyHandler missingYarnDependencyHandler) throws MissingExternalIdException {
         LazyExternalIdDependencyGraphBuilder graphBuilder = new LazyExternalIdDependencyGraphBuilder();
+        Map<String, Map<String, StringDependencyId>> dependencyIds = new HashMap<>();
 
-        addRootNodesToGraph(graphBuilder, yarnLockResult.getPackageJson(), productionOnly);
+        addRootNodesToGraph(graphBuilder, yarnLockResult.getPackageJson(), productionOnly, dependencyIds);
 
         for (YarnLockEntry entry : yarnLockResult.getYarnLock().getEntries()) {
             for (YarnLockEntryId entryId : entry.getIds()) {
-                StringDependencyId id = new StringDependencyId(entryId.getName() + "@" + entryId.getVersion());
+                StringDependencyId id = dependencyId(dependencyIds, entryId.getName(), entryId.getVersion());
                 graphBuilder.setDependencyInfo(id, entryId.getName(), entry.getVersion(), externalIdFactory.createNameVersionExternalId(Forge.NPMJS, entryId.getName(), entry.getVersion()));
                 for (YarnLockDependency dependency : entry.getDependencies()) {
-                    StringDependencyId stringDependencyId = new StringDependencyId(dependency.getName() + "@" + dependency.getVersion());
+                    StringDependencyId stringDependencyId = dependencyId(dependencyIds, dependency.getName(), dependency.getVersion());
                     if (!productionOnly || !dependency.isOptional()) {
                         graphBuilder.addChildWithParent(stringDependencyId, id);
                     } else {
@@ -79,15 +81,21 @@ public class YarnTransformer {
         return externalIdFactory.createNameVersionExternalId(Forge.NPMJS, dependencyId.toString());
     }
 
-    private void addRootNodesToGraph(LazyExternalIdDependencyGraphBuilder graphBuilder, PackageJson packageJson, boolean productionOnly) {
+    private void addRootNodesToGraph(LazyExternalIdDependencyGraphBuilder graphBuilder, PackageJson packageJson, boolean productionOnly, Map<String, Map<String, StringDependencyId>> dependencyIds) {
         for (Map.Entry<String, String> packageDependency : packageJson.dependencies.entrySet()) {
-            graphBuilder.addChildToRoot(new StringDependencyId(packageDependency.getKey() + "@" + packageDependency.getValue()));
+            graphBuilder.addChildToRoot(dependencyId(dependencyIds, packageDependency.getKey(), packageDependency.getValue()));
         }
 
         if (!productionOnly) {
             for (Map.Entry<String, String> packageDependency : packageJson.devDependencies.entrySet()) {
-                graphBuilder.addChildToRoot(new StringDependencyId(packageDependency.getKey() + "@" + packageDependency.getValue()));
+                graphBuilder.addChildToRoot(dependencyId(dependencyIds, packageDependency.getKey(), packageDependency.getValue()));
             }
         }
     }
+
+    // The same name and version pair is referenced by many edges, so each id is built once and shared.
+    private StringDependencyId dependencyId(Map<String, Map<String, StringDependencyId>> dependencyIds, String name, String version) {
+        return dependencyIds.computeIfAbsent(name, key -> new HashMap<>())
+                   .computeIfAbsent(version, key -> new StringDependencyId(name + "@" + version));
+    }
 }
@@ -0,0 +1,173 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.snapshot.ExtractionSnapshot;
+import com.synopsys.integration.detectable.extraction.snapshot.ExtractionSnapshotConverter;
+import com.synopsys.integration.detectable.util.DigestUtil;
+
+// Stores successful extractions as json named by the SHA-256 of the extractor, its options and the contents of its input files.
+// Paths are deliberately not part of the key so identical lockfiles in different checkouts share an entry.
+public class DiskExtractionCache implements ExtractionCache {
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String ABSENT_FILE = "<absent>";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File cacheDirectory;
+    private final int maxEntries;
+    private final String cacheVersion;
+    private final Gson gson;
+    private final ExtractionSnapshotConverter extractionSnapshotConverter = new ExtractionSnapshotConverter();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    // The cache version should change whenever the extractors might produce different results for the same input, for example a new release.
+    public DiskExtractionCache(final File cacheDirectory, final int maxEntries, final String cacheVersion, final Gson gson) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxEntries = maxEntries;
+        this.cacheVersion = cacheVersion;
+        this.gson = gson;
+    }
+
+    @Override
+    public Extraction extract(final String extractorName, final List<File> inputFiles, final List<String> options, final Supplier<Extraction> extractor) {
+        final String key;
+        try {
+            key = createKey(extractorName, inputFiles, options);
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to read the inputs of %s for the extraction cache, extracting without it: %s", extractorName, e.getMessage()));
+            return extractor.get();
+        }
+
+        final File entryFile = new File(cacheDirectory, key + ENTRY_SUFFIX);
+        final Optional<Extraction> cachedExtraction = read(entryFile);
+        if (cachedExtraction.isPresent()) {
+            hits.incrementAndGet();
+            logger.debug(String.format("Using the cached extraction of %s from %s.", extractorName, entryFile.getName()));
+            return cachedExtraction.get();
+        }
+
+        misses.incrementAndGet();
+        final Extraction extraction = extractor.get();
+        extractionSnapshotConverter.toSnapshot(extraction).ifPresent(snapshot -> write(entryFile, snapshot));
+        return extraction;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private String createKey(final String extractorName, final List<File> inputFiles, final List<String> options) throws IOException {
+        final MessageDigest digest = DigestUtil.createSha256();
+        DigestUtil.update(digest, cacheVersion);
+        DigestUtil.update(digest, extractorName);
+        for (final String option : options) {
+            DigestUtil.update(digest, option);
+        }
+        for (final File inputFile : inputFiles) {
+            if (inputFile == null) {
+                DigestUtil.update(digest, ABSENT_FILE);
+            } else {
+                DigestUtil.update(digest, DigestUtil.sha256(inputFile));
+            }
+        }
+        return DigestUtil.toHex(digest.digest());
+    }
+
+    private Optional<Extraction> read(final File entryFile) {
+        if (!entryFile.isFile()) {
+            return Optional.empty();
+        }
+        try (final Reader reader = Files.newBufferedReader(entryFile.toPath(), StandardCharsets.UTF_8)) {
+            final ExtractionSnapshot snapshot = gson.fromJson(reader, ExtractionSnapshot.class);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            // Touching the entry is what keeps it out of the eviction order.
+            entryFile.setLastModified(System.currentTimeMillis());
+            return Optional.of(extractionSnapshotConverter.toExtraction(snapshot));
+        } catch (final IOException | JsonParseException e) {
+            logger.debug(String.format("Discarding the unreadable extraction cache entry %s: %s", entryFile.getName(), e.getMessage()));
+            entryFile.delete();
+            return Optional.empty();
+        }
+    }
+
+    private void write(final File entryFile, final ExtractionSnapshot snapshot) {
+        try {
+            final Path directory = cacheDirectory.toPath();
+            Files.createDirectories(directory);
+            // Written next to the entry and moved into place so concurrent extractions never read a partial entry.
+            final Path temporaryPath = Files.createTempFile(directory, entryFile.getName(), ".tmp");
+            try (final Writer writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+                gson.toJson(snapshot, writer);
+            }
+            Files.move(temporaryPath, entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to write the extraction cache entry %s: %s", entryFile.getName(), e.getMessage()));
+            return;
+        }
+        evict();
+    }
+
+    private synchronized void evict() {
+        final File[] entries = cacheDirectory.listFiles((directory, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (entries == null || entries.length <= maxEntries) {
+            return;
+        }
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        final int excess = entries.length - maxEntries;
+        for (int i = 0; i < excess; i++) {
+            if (!entries[i].delete()) {
+                logger.debug(String.format("Unable to evict the extraction cache entry %s.", entries[i].getName()));
+            }
+        }
+    }
+}
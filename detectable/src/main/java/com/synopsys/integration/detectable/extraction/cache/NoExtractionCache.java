@@ -20,21 +20,17 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+package com.synopsys.integration.detectable.extraction.cache;
 
-import java.util.Map;
+import java.io.File;
+import java.util.List;
+import java.util.function.Supplier;
 
-import com.google.gson.annotations.SerializedName;
+import com.synopsys.integration.detectable.extraction.Extraction;
 
-public class
-
-PackageLock {
-    @SerializedName("name")
-    public String name;
-
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
+public class NoExtractionCache implements ExtractionCache {
+    @Override
+    public Extraction extract(final String extractorName, final List<File> inputFiles, final List<String> options, final Supplier<Extraction> extractor) {
+        return extractor.get();
+    }
 }
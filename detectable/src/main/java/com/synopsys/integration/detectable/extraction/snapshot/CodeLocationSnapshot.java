@@ -0,0 +1,63 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.snapshot;
+
+import java.util.List;
+
+// The dependency graph is stored as a list of dependencies that roots and relationships refer to by index, so shared dependencies are written once.
+public class CodeLocationSnapshot {
+    private final String sourcePath;
+    private final ExternalIdSnapshot externalId;
+    private final List<DependencySnapshot> dependencies;
+    private final List<Integer> rootDependencies;
+    // Each relationship is the parent's index followed by the indexes of its children.
+    private final List<List<Integer>> relationships;
+
+    public CodeLocationSnapshot(final String sourcePath, final ExternalIdSnapshot externalId, final List<DependencySnapshot> dependencies, final List<Integer> rootDependencies, final List<List<Integer>> relationships) {
+        this.sourcePath = sourcePath;
+        this.externalId = externalId;
+        this.dependencies = dependencies;
+        this.rootDependencies = rootDependencies;
+        this.relationships = relationships;
+    }
+
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    public ExternalIdSnapshot getExternalId() {
+        return externalId;
+    }
+
+    public List<DependencySnapshot> getDependencies() {
+        return dependencies;
+    }
+
+    public List<Integer> getRootDependencies() {
+        return rootDependencies;
+    }
+
+    public List<List<Integer>> getRelationships() {
+        return relationships;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ExternalIdSnapshot {
+    private final String forge;
+    private final String forgeSeparator;
+    private final String group;
+    private final String name;
+    private final String version;
+    private final String architecture;
+    private final String path;
+    private final List<String> moduleNames;
+
+    public ExternalIdSnapshot(final String forge, final String forgeSeparator, final String group, final String name, final String version, final String architecture, final String path, final String[] moduleNames) {
+        this.forge = forge;
+        this.forgeSeparator = forgeSeparator;
+        this.group = group;
+        this.name = name;
+        this.version = version;
+        this.architecture = architecture;
+        this.path = path;
+        this.moduleNames = moduleNames == null ? null : Arrays.asList(moduleNames);
+    }
+
+    public String getForge() {
+        return forge;
+    }
+
+    public String getForgeSeparator() {
+        return forgeSeparator;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getArchitecture() {
+        return architecture;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public List<String> getModuleNames() {
+        return moduleNames;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.snapshot;
+
+import java.util.List;
+
+// A successful extraction in a form that can be written to disk and read back in a later run.
+public class ExtractionSnapshot {
+    private final String projectName;
+    private final String projectVersion;
+    private final List<CodeLocationSnapshot> codeLocations;
+    private final List<String> relevantFiles;
+    private final List<String> unrecognizedPaths;
+
+    public ExtractionSnapshot(final String projectName, final String projectVersion, final List<CodeLocationSnapshot> codeLocations, final List<String> relevantFiles, final List<String> unrecognizedPaths) {
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.codeLocations = codeLocations;
+        this.relevantFiles = relevantFiles;
+        this.unrecognizedPaths = unrecognizedPaths;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getProjectVersion() {
+        return projectVersion;
+    }
+
+    public List<CodeLocationSnapshot> getCodeLocations() {
+        return codeLocations;
+    }
+
+    public List<String> getRelevantFiles() {
+        return relevantFiles;
+    }
+
+    public List<String> getUnrecognizedPaths() {
+        return unrecognizedPaths;
+    }
+}
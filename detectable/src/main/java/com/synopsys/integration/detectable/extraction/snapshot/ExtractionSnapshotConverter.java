@@ -0,0 +1,165 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.snapshot;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+
+public class ExtractionSnapshotConverter {
+    // Only successful extractions are worth keeping, anything else should simply run again.
+    public Optional<ExtractionSnapshot> toSnapshot(final Extraction extraction) {
+        if (!extraction.isSuccess()) {
+            return Optional.empty();
+        }
+
+        final List<CodeLocationSnapshot> codeLocations = extraction.getCodeLocations().stream()
+                                                             .map(this::toSnapshot)
+                                                             .collect(Collectors.toList());
+        return Optional.of(new ExtractionSnapshot(extraction.getProjectName(), extraction.getProjectVersion(), codeLocations, toPaths(extraction.getRelevantFiles()), toPaths(extraction.getUnrecognizedPaths())));
+    }
+
+    public Extraction toExtraction(final ExtractionSnapshot snapshot) {
+        final List<CodeLocation> codeLocations = snapshot.getCodeLocations().stream()
+                                                     .map(this::toCodeLocation)
+                                                     .collect(Collectors.toList());
+        return new Extraction.Builder()
+                   .success(codeLocations)
+                   .projectName(snapshot.getProjectName())
+                   .projectVersion(snapshot.getProjectVersion())
+                   .relevantFiles(toFiles(snapshot.getRelevantFiles()).toArray(new File[0]))
+                   .unrecognizedPaths(toFiles(snapshot.getUnrecognizedPaths()))
+                   .build();
+    }
+
+    public CodeLocationSnapshot toSnapshot(final CodeLocation codeLocation) {
+        final DependencyGraph graph = codeLocation.getDependencyGraph();
+        final Map<Dependency, Integer> indexes = new LinkedHashMap<>();
+        final List<Integer> rootDependencies = new ArrayList<>();
+        final List<List<Integer>> relationships = new ArrayList<>();
+
+        final Queue<Dependency> unprocessed = new LinkedList<>();
+        for (final Dependency rootDependency : graph.getRootDependencies()) {
+            rootDependencies.add(indexOf(rootDependency, indexes, unprocessed));
+        }
+        while (!unprocessed.isEmpty()) {
+            final Dependency parent = unprocessed.remove();
+            final List<Integer> relationship = new ArrayList<>();
+            for (final Dependency child : graph.getChildrenForParent(parent)) {
+                relationship.add(indexOf(child, indexes, unprocessed));
+            }
+            if (!relationship.isEmpty()) {
+                relationship.add(0, indexes.get(parent));
+                relationships.add(relationship);
+            }
+        }
+
+        final List<DependencySnapshot> dependencies = indexes.keySet().stream()
+                                                          .map(dependency -> new DependencySnapshot(dependency.getName(), dependency.getVersion(), toExternalIdSnapshot(dependency.getExternalId())))
+                                                          .collect(Collectors.toList());
+        final String sourcePath = codeLocation.getSourcePath().map(File::getPath).orElse(null);
+        final ExternalIdSnapshot externalId = codeLocation.getExternalId().map(this::toExternalIdSnapshot).orElse(null);
+        return new CodeLocationSnapshot(sourcePath, externalId, dependencies, rootDependencies, relationships);
+    }
+
+    public CodeLocation toCodeLocation(final CodeLocationSnapshot snapshot) {
+        final List<Dependency> dependencies = snapshot.getDependencies().stream()
+                                                  .map(dependency -> new Dependency(dependency.getName(), dependency.getVersion(), toExternalId(dependency.getExternalId())))
+                                                  .collect(Collectors.toList());
+
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        for (final Integer rootDependency : snapshot.getRootDependencies()) {
+            graph.addChildToRoot(dependencies.get(rootDependency));
+        }
+        for (final List<Integer> relationship : snapshot.getRelationships()) {
+            final Dependency parent = dependencies.get(relationship.get(0));
+            for (final Integer child : relationship.subList(1, relationship.size())) {
+                graph.addChildWithParent(dependencies.get(child), parent);
+            }
+        }
+
+        final File sourcePath = snapshot.getSourcePath() == null ? null : new File(snapshot.getSourcePath());
+        final ExternalId externalId = snapshot.getExternalId() == null ? null : toExternalId(snapshot.getExternalId());
+        return new CodeLocation(graph, externalId, sourcePath);
+    }
+
+    private Integer indexOf(final Dependency dependency, final Map<Dependency, Integer> indexes, final Queue<Dependency> unprocessed) {
+        Integer index = indexes.get(dependency);
+        if (index == null) {
+            index = indexes.size();
+            indexes.put(dependency, index);
+            unprocessed.add(dependency);
+        }
+        return index;
+    }
+
+    private ExternalIdSnapshot toExternalIdSnapshot(final ExternalId externalId) {
+        final Forge forge = externalId.getForge();
+        return new ExternalIdSnapshot(forge.getName(), forge.getSeparator(), externalId.getGroup(), externalId.getName(), externalId.getVersion(), externalId.getArchitecture(), externalId.getPath(), externalId.getModuleNames());
+    }
+
+    private ExternalId toExternalId(final ExternalIdSnapshot snapshot) {
+        Forge forge = Forge.getKnownForges().get(snapshot.getForge());
+        if (forge == null) {
+            forge = new Forge(snapshot.getForgeSeparator(), snapshot.getForge());
+        }
+        final ExternalId externalId = new ExternalId(forge);
+        externalId.setGroup(snapshot.getGroup());
+        externalId.setName(snapshot.getName());
+        externalId.setVersion(snapshot.getVersion());
+        externalId.setArchitecture(snapshot.getArchitecture());
+        externalId.setPath(snapshot.getPath());
+        if (snapshot.getModuleNames() != null) {
+            externalId.setModuleNames(snapshot.getModuleNames().toArray(new String[0]));
+        }
+        return externalId;
+    }
+
+    private List<String> toPaths(final List<File> files) {
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        return files.stream().map(File::getPath).collect(Collectors.toList());
+    }
+
+    private List<File> toFiles(final List<String> paths) {
+        if (paths == null) {
+            return new ArrayList<>();
+        }
+        return paths.stream().map(File::new).collect(Collectors.toList());
+    }
+}
@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detectable.factory;
 
+import java.util.function.Consumer;
+
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
@@ -83,6 +85,7 @@ import com.synopsys.integration.detectable.detectables.clang.dependencyfile.File
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerFactory;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfoFactory;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerRunner;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageResolutionProgress;
 import com.synopsys.integration.detectable.detectables.cocoapods.PodlockDetectable;
 import com.synopsys.integration.detectable.detectables.cocoapods.PodlockExtractor;
 import com.synopsys.integration.detectable.detectables.cocoapods.parser.PodlockParser;
@@ -212,6 +215,8 @@ import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
 import com.synopsys.integration.detectable.detectables.yarn.YarnPackager;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnTransformer;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detectable.extraction.cache.NoExtractionCache;
 
 /*
  Entry point for creating detectables using most
@@ -222,12 +227,18 @@ public class DetectableFactory {
     private final ExecutableRunner executableRunner;
     private final ExternalIdFactory externalIdFactory;
     private final Gson gson;
+    private final ExtractionCache extractionCache;
 
     public DetectableFactory(FileFinder fileFinder, ExecutableRunner executableRunner, ExternalIdFactory externalIdFactory, Gson gson) {
+        this(fileFinder, executableRunner, externalIdFactory, gson, new NoExtractionCache());
+    }
+
+    public DetectableFactory(FileFinder fileFinder, ExecutableRunner executableRunner, ExternalIdFactory externalIdFactory, Gson gson, ExtractionCache extractionCache) {
         this.fileFinder = fileFinder;
         this.executableRunner = executableRunner;
         this.externalIdFactory = externalIdFactory;
         this.gson = gson;
+        this.extractionCache = extractionCache;
     }
 
     //#region Detectables
@@ -254,7 +265,12 @@ public class DetectableFactory {
     }
 
     public ClangDetectable createClangDetectable(DetectableEnvironment environment, ClangDetectableOptions clangDetectableOptions) {
-        return new ClangDetectable(environment, executableRunner, fileFinder, clangPackageManagerFactory().createPackageManagers(), clangExtractor(), clangDetectableOptions, clangPackageManagerRunner());
+        return createClangDetectable(environment, clangDetectableOptions, progress -> {});
+    }
+
+    public ClangDetectable createClangDetectable(DetectableEnvironment environment, ClangDetectableOptions clangDetectableOptions, Consumer<ClangPackageResolutionProgress> progressListener) {
+        return new ClangDetectable(environment, executableRunner, fileFinder, clangPackageManagerFactory().createPackageManagers(), clangExtractor(), clangDetectableOptions,
+            clangPackageManagerRunner(clangDetectableOptions, progressListener));
     }
 
     public ComposerLockDetectable createComposerDetectable(DetectableEnvironment environment, ComposerLockDetectableOptions composerLockDetectableOptions) {
@@ -417,7 +433,7 @@ public class DetectableFactory {
     }
 
     private CargoExtractor cargoExtractor() {
-        return new CargoExtractor(new CargoLockParser());
+        return new CargoExtractor(new CargoLockParser(), extractionCache);
     }
 
     private ClangPackageDetailsTransformer clangPackageDetailsTransformer() {
@@ -441,7 +457,7 @@ public class DetectableFactory {
     }
 
     private PodlockExtractor podlockExtractor() {
-        return new PodlockExtractor(podlockParser());
+        return new PodlockExtractor(podlockParser(), extractionCache);
     }
 
     private CondaListParser condaListParser() {
@@ -577,7 +593,7 @@ public class DetectableFactory {
     }
 
     private NpmLockfileExtractor npmLockfileExtractor() {
-        return new NpmLockfileExtractor(npmLockfilePackager());
+        return new NpmLockfileExtractor(npmLockfilePackager(), extractionCache);
     }
 
     private NugetInspectorParser nugetInspectorParser() {
@@ -641,11 +657,11 @@ public class DetectableFactory {
     }
 
     private PoetryExtractor poetryExtractor() {
-        return new PoetryExtractor(new PoetryLockParser());
+        return new PoetryExtractor(new PoetryLockParser(), extractionCache);
     }
 
     private GemlockExtractor gemlockExtractor() {
-        return new GemlockExtractor(externalIdFactory);
+        return new GemlockExtractor(externalIdFactory, extractionCache);
     }
 
     private SbtResolutionCacheExtractor sbtResolutionCacheExtractor() {
@@ -665,7 +681,7 @@ public class DetectableFactory {
     }
 
     private YarnLockExtractor yarnLockExtractor(YarnLockOptions yarnLockOptions) {
-        return new YarnLockExtractor(yarnPackager(yarnLockOptions));
+        return new YarnLockExtractor(yarnPackager(yarnLockOptions), yarnLockOptions, extractionCache);
     }
 
     private BitbakeRecipesParser bitbakeRecipesParser() {
@@ -696,8 +712,8 @@ public class DetectableFactory {
         return new ClangPackageManagerFactory(clangPackageManagerInfoFactory());
     }
 
-    private ClangPackageManagerRunner clangPackageManagerRunner() {
-        return new ClangPackageManagerRunner();
+    private ClangPackageManagerRunner clangPackageManagerRunner(ClangDetectableOptions clangDetectableOptions, Consumer<ClangPackageResolutionProgress> progressListener) {
+        return new ClangPackageManagerRunner(clangDetectableOptions.getOwnershipQueryBatchSize(), clangDetectableOptions.getOwnershipQueryThreads(), progressListener);
     }
 
     private GradleRunner gradleRunner() {
@@ -0,0 +1,126 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+
+public class CachingExecutableRunnerTest {
+    private final File workingDirectory = new File("project");
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("CachingExecutableRunnerTest");
+    }
+
+    @AfterEach
+    public void deleteTempDir() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @UnitTest
+    public void reusesCacheableCommandsInTheSameDirectory() throws ExecutableRunnerException {
+        final ExecutableRunner delegate = Mockito.mock(ExecutableRunner.class);
+        final Executable goList = executable(workingDirectory, "/usr/bin/go", "list", "-m");
+        Mockito.when(delegate.execute(goList)).thenReturn(new ExecutableOutput("go list -m", 0, "example.com/module", ""));
+        final CachingExecutableRunner runner = new CachingExecutableRunner(delegate, CacheableExecutables.standard(), null);
+
+        assertEquals("example.com/module", runner.execute(workingDirectory, new File("/usr/bin/go"), "list", "-m").getStandardOutput());
+        assertEquals("example.com/module", runner.execute(workingDirectory, new File("/usr/bin/go"), "list", "-m").getStandardOutput());
+
+        Mockito.verify(delegate, Mockito.times(1)).execute(goList);
+        assertEquals(1, runner.getHits());
+        assertEquals(1, runner.getMisses());
+    }
+
+    @UnitTest
+    public void runsOtherCommandsEveryTime() throws ExecutableRunnerException {
+        final ExecutableRunner delegate = Mockito.mock(ExecutableRunner.class);
+        final Executable goModGraph = executable(workingDirectory, "/usr/bin/go", "mod", "graph");
+        final Executable goListInOtherDirectory = executable(new File("other"), "/usr/bin/go", "list", "-m");
+        Mockito.when(delegate.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput("go", 0, "", ""));
+        final CachingExecutableRunner runner = new CachingExecutableRunner(delegate, CacheableExecutables.standard(), null);
+
+        runner.execute(goModGraph);
+        runner.execute(goModGraph);
+        runner.execute(executable(workingDirectory, "/usr/bin/go", "list", "-m"));
+        runner.execute(goListInOtherDirectory);
+
+        Mockito.verify(delegate, Mockito.times(2)).execute(goModGraph);
+        Mockito.verify(delegate, Mockito.times(1)).execute(goListInOtherDirectory);
+    }
+
+    @UnitTest
+    public void retriesFailures() throws ExecutableRunnerException {
+        final ExecutableRunner delegate = Mockito.mock(ExecutableRunner.class);
+        final Executable condaInfo = executable(workingDirectory, "conda", "info", "--json");
+        Mockito.when(delegate.execute(condaInfo)).thenReturn(new ExecutableOutput("conda info --json", 1, "", "failed"));
+        final CachingExecutableRunner runner = new CachingExecutableRunner(delegate, CacheableExecutables.standard(), null);
+
+        runner.execute(condaInfo);
+        runner.execute(condaInfo);
+
+        Mockito.verify(delegate, Mockito.times(2)).execute(condaInfo);
+    }
+
+    @UnitTest
+    public void reusesExecutableQueriesAcrossRuns() throws IOException, ExecutableRunnerException {
+        final File python = Files.createFile(tempDir.resolve("python3")).toFile();
+        final DiskExecutableOutputCache diskCache = new DiskExecutableOutputCache(tempDir.resolve("cache").toFile(), 10, new Gson());
+        final ExecutableRunner firstDelegate = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(firstDelegate.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput("python3 --version", 0, "Python 3.8.2", ""));
+        new CachingExecutableRunner(firstDelegate, CacheableExecutables.standard(), diskCache).execute(workingDirectory, python, "--version");
+
+        final ExecutableRunner secondDelegate = Mockito.mock(ExecutableRunner.class);
+        final ExecutableOutput reused = new CachingExecutableRunner(secondDelegate, CacheableExecutables.standard(), diskCache).execute(new File("elsewhere"), python, "--version");
+
+        assertEquals("Python 3.8.2", reused.getStandardOutput());
+        Mockito.verify(secondDelegate, Mockito.never()).execute(Mockito.any(Executable.class));
+
+        // A changed executable is a different entry.
+        Files.write(python.toPath(), Collections.singletonList("#!/bin/sh"));
+        final ExecutableRunner thirdDelegate = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(thirdDelegate.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput("python3 --version", 0, "Python 3.9.0", ""));
+        assertEquals("Python 3.9.0", new CachingExecutableRunner(thirdDelegate, CacheableExecutables.standard(), diskCache).execute(workingDirectory, python, "--version").getStandardOutput());
+    }
+
+    private Executable executable(final File directory, final String exe, final String... args) {
+        return new Executable(directory, Collections.emptyMap(), exe, Arrays.asList(args));
+    }
+}
@@ -28,6 +28,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -65,4 +66,21 @@ public class IntermediateStepExecuteBazelOnEachTest {
         assertEquals(1, output.size());
         assertEquals("@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", output.get(0));
     }
+
+    @Test
+    public void testBatchedInput() throws IntegrationException {
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        Mockito.when(bazelCommandExecutor.executeToString(Arrays.asList("query", "kind(maven_jar, //external:commons_io + //external:guava)", "--output", "xml")))
+            .thenReturn(Optional.of("<query>commons_io guava</query>"));
+        Mockito.when(bazelCommandExecutor.executeToString(Arrays.asList("query", "kind(maven_jar, //external:junit)", "--output", "xml")))
+            .thenReturn(Optional.of("<query>junit</query>"));
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", "--output", "xml"), true, 2);
+        List<String> input = Arrays.asList("//external:commons_io", "//external:guava", "//external:commons_io", "//external:junit");
+
+        List<String> output = executor.process(input);
+
+        assertEquals(Arrays.asList("<query>commons_io guava</query>", "<query>junit</query>"), output);
+        Mockito.verify(bazelCommandExecutor, Mockito.times(2)).executeToString(Mockito.anyList());
+    }
 }
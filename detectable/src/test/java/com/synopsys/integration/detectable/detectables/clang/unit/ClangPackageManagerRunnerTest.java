@@ -1,9 +1,13 @@
 package com.synopsys.integration.detectable.detectables.clang.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.Clan
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfoFactory;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerRunner;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageResolutionProgress;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.ApkArchitectureResolver;
@@ -100,6 +105,70 @@ public class ClangPackageManagerRunnerTest {
         testNonPkgOwnedIncludeFile(packageManagerInfo, packageResolver, pkgOwnerPattern, null);
     }
 
+    @Test
+    public void testDpkgBatch() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File workingDirectory = new File("test");
+        File intrinsicFile = new File("/usr/include/X11/Intrinsic.h");
+        File missingFile = new File("/usr/include/X11/Core.hpp");
+        List<File> dependencyFiles = Arrays.asList(dependencyFile, intrinsicFile, missingFile);
+
+        ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        dependencyFiles.forEach(file -> getOwnerArgs.add(file.getAbsolutePath()));
+        String ownedOutput = String.format("libxt-dev:amd64: %s\nlibxt-dev:amd64: %s", dependencyFile.getAbsolutePath(), intrinsicFile.getAbsolutePath());
+        String notOwnedOutput = String.format("dpkg-query: no path found matching pattern %s", missingFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs)).thenReturn(new ExecutableOutput("", 1, ownedOutput, notOwnedOutput));
+
+        List<String> getDetailsArgs = new ArrayList<>(packageManagerInfo.getPkgInfoArgs().get());
+        getDetailsArgs.add("libxt-dev");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs)).thenReturn(new ExecutableOutput("", 0, detailsOutput, ""));
+
+        PackageDetailsResult result = new ClangPackageManagerRunner(200, 1, progress -> {}).getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles);
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals("libxt-dev", result.getFoundPackages().iterator().next().getPackageName());
+        assertEquals(Collections.singleton(missingFile), result.getUnRecognizedDependencyFiles());
+        // Both files belong to the same package, so its details are only queried once.
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs);
+    }
+
+    @Test
+    public void testParallelSkipsDuplicatePaths() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File workingDirectory = new File("test");
+        File duplicateFile = new File("/usr/include/X11/../X11/Core.h");
+        File intrinsicFile = new File("/usr/include/X11/Intrinsic.h");
+
+        ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        for (File ownedFile : Arrays.asList(dependencyFile, intrinsicFile)) {
+            List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+            getOwnerArgs.add(ownedFile.getAbsolutePath());
+            String ownedOutput = String.format("libxt-dev:amd64: %s", ownedFile.getAbsolutePath());
+            Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs)).thenReturn(new ExecutableOutput("", 0, ownedOutput, ""));
+        }
+        List<String> getDetailsArgs = new ArrayList<>(packageManagerInfo.getPkgInfoArgs().get());
+        getDetailsArgs.add("libxt-dev");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs)).thenReturn(new ExecutableOutput("", 0, detailsOutput, ""));
+
+        List<ClangPackageResolutionProgress> progressEvents = Collections.synchronizedList(new ArrayList<>());
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner(1, 2, progressEvents::add);
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new LinkedHashSet<>(Arrays.asList(dependencyFile, duplicateFile, intrinsicFile)));
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals(0, result.getUnRecognizedDependencyFiles().size());
+        List<String> duplicateOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        duplicateOwnerArgs.add(duplicateFile.getAbsolutePath());
+        Mockito.verify(executableRunner, Mockito.never()).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), duplicateOwnerArgs);
+
+        // Batches finish on different threads, so only check that completion was reported.
+        assertTrue(progressEvents.stream().anyMatch(progress -> progress.getResolvedFileCount() == 2 && progress.getTotalFileCount() == 2));
+    }
+
     private void testNonPkgOwnedIncludeFile(ClangPackageManagerInfo packageManagerInfo, ClangPackageManagerResolver packageResolver,
         String pkgMgrOwnerQueryResultPattern, String pkgMgrDetailsQueryResultPattern) throws ExecutableRunnerException {
 
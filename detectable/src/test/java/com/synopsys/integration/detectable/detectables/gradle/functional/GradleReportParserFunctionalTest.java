@@ -125,6 +125,20 @@ public class GradleReportParserFunctionalTest {
         }
     }
 
+    @Test
+    void parserThreadsDoNotChangeTheReport() {
+        File gradleReportFile = FunctionalTestFiles.asFile("/gradle/dependencyGraph.txt");
+        Optional<GradleReport> sequentialReport = new GradleReportParser(1).parseReport(gradleReportFile);
+        // Two threads with room for two queued sections, so most sections are parsed by the reading thread once the pool is busy.
+        Optional<GradleReport> parallelReport = new GradleReportParser(2).parseReport(gradleReportFile);
+        Assertions.assertTrue(sequentialReport.isPresent());
+        Assertions.assertTrue(parallelReport.isPresent());
+        Assertions.assertFalse(sequentialReport.get().getConfigurations().isEmpty());
+
+        Gson gson = new Gson();
+        Assertions.assertEquals(gson.toJson(sequentialReport.get()), gson.toJson(parallelReport.get()));
+    }
+
     @Test
     void complexTest() {
         Optional<CodeLocation> codeLocation = buildCodeLocation("/gradle/parse-tests/complex_dependencyGraph.txt");
@@ -0,0 +1,149 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+
+public class GradleRunnerTest {
+    private static final String DISTRIBUTION_URL = "https\\://services.gradle.org/distributions/gradle-6.3-bin.zip";
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("GradleRunnerTest");
+    }
+
+    @AfterEach
+    public void deleteTempDir() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @UnitTest
+    public void wrappersWithTheSameDistributionUrlAreTheSameDistribution() throws IOException {
+        final File first = createWrapperProject("first");
+        final File second = createWrapperProject("second");
+        final GradleRunner gradleRunner = new GradleRunner(Mockito.mock(ExecutableRunner.class));
+
+        final String firstDistribution = gradleRunner.findDistribution(first, new File(first, "gradlew"));
+        final String secondDistribution = gradleRunner.findDistribution(second, new File(second, "gradlew"));
+
+        assertEquals("https://services.gradle.org/distributions/gradle-6.3-bin.zip", firstDistribution);
+        assertEquals(firstDistribution, secondDistribution);
+    }
+
+    @UnitTest
+    public void buildsSharingADistributionRunOneAtATime() throws IOException, ExecutableRunnerException, InterruptedException, ExecutionException {
+        final File first = createWrapperProject("first");
+        final File second = createWrapperProject("second");
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(ArgumentMatchers.any(File.class), ArgumentMatchers.any(File.class), ArgumentMatchers.<List<String>>any()))
+            .thenAnswer(invocation -> {
+                mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                // Long enough for the other build to start alongside this one if it were not waiting for the daemon.
+                Thread.sleep(200);
+                running.decrementAndGet();
+                return new ExecutableOutput("gradlew dependencies", 0, "", "");
+            });
+        final GradleRunner gradleRunner = new GradleRunner(executableRunner);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<ExecutableOutput> firstBuild = executorService.submit(
+                () -> gradleRunner.runGradleDependencies(first, new File(first, "gradlew"), new File("init-detect.gradle"), null, ProxyInfo.NO_PROXY_INFO, tempDir.toFile(), true));
+            final Future<ExecutableOutput> secondBuild = executorService.submit(
+                () -> gradleRunner.runGradleDependencies(second, new File(second, "gradlew"), new File("init-detect.gradle"), null, ProxyInfo.NO_PROXY_INFO, tempDir.toFile(), true));
+            firstBuild.get();
+            secondBuild.get();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Mockito.verify(executableRunner, Mockito.times(2)).execute(ArgumentMatchers.any(File.class), ArgumentMatchers.any(File.class), ArgumentMatchers.<List<String>>any());
+        assertEquals(1, mostRunning.get());
+    }
+
+    @UnitTest
+    public void gradleOnThePathIsItsOwnDistribution() throws IOException {
+        final File project = createWrapperProject("project");
+        final File gradle = tempDir.resolve("gradle").toFile();
+        final GradleRunner gradleRunner = new GradleRunner(Mockito.mock(ExecutableRunner.class));
+
+        assertEquals(gradle.getCanonicalPath(), gradleRunner.findDistribution(project, gradle));
+    }
+
+    @UnitTest
+    public void daemonOnlyRequestedWhenReused() throws IOException, ExecutableRunnerException {
+        final File project = createWrapperProject("project");
+        final File gradlew = new File(project, "gradlew");
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(ArgumentMatchers.any(File.class), ArgumentMatchers.any(File.class), ArgumentMatchers.<List<String>>any()))
+            .thenReturn(new ExecutableOutput("gradlew dependencies", 0, "", ""));
+        final GradleRunner gradleRunner = new GradleRunner(executableRunner);
+
+        gradleRunner.runGradleDependencies(project, gradlew, new File("init-detect.gradle"), null, ProxyInfo.NO_PROXY_INFO, tempDir.toFile(), false);
+        gradleRunner.runGradleDependencies(project, gradlew, new File("init-detect.gradle"), null, ProxyInfo.NO_PROXY_INFO, tempDir.toFile(), true);
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<String>> arguments = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(executableRunner, Mockito.times(2)).execute(ArgumentMatchers.eq(project), ArgumentMatchers.eq(gradlew), arguments.capture());
+        assertFalse(arguments.getAllValues().get(0).contains("--daemon"));
+        assertTrue(arguments.getAllValues().get(1).contains("--daemon"));
+    }
+
+    private File createWrapperProject(final String name) throws IOException {
+        final Path project = Files.createDirectory(tempDir.resolve(name));
+        final Path wrapper = Files.createDirectories(project.resolve("gradle").resolve("wrapper"));
+        Files.write(wrapper.resolve("gradle-wrapper.properties"), Collections.singletonList("distributionUrl=" + DISTRIBUTION_URL));
+        return project.toFile();
+    }
+}
@@ -107,6 +107,20 @@ public class GradleReportLineTest {
         assertDependency(line, expected);
     }
 
+    @Test
+    public void testParsingWinningIndicatorWithoutArtifact() {
+        final GradleTreeNode gradleTreeNode = new GradleReportLineParser().parseLine("+--- org.springframework.boot -> 2.0.0.RELEASE");
+        Assertions.assertEquals(GradleTreeNode.NodeType.UNKOWN, gradleTreeNode.getNodeType());
+    }
+
+    @Test
+    public void testParsingTreeLevel() {
+        final GradleReportLineParser gradleReportLineParser = new GradleReportLineParser();
+        Assertions.assertEquals(0, gradleReportLineParser.parseLine("+--- org.apache.commons:commons-lang3:3.9").getLevel());
+        Assertions.assertEquals(2, gradleReportLineParser.parseLine("|    |    \\--- org.apache.commons:commons-lang3:3.9").getLevel());
+        Assertions.assertEquals(2, gradleReportLineParser.parseLine("|         +--- org.apache.commons:commons-lang3:3.9 (*)").getLevel());
+    }
+
     private void assertDependency(String line, String[] expectedResults) {
         ExternalIdFactory externalIdFactory = new ExternalIdFactory();
         GradleReportLineParser gradleReportLineParser = new GradleReportLineParser();
@@ -28,12 +28,18 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.UnitTest;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
 import com.synopsys.integration.detectable.detectables.maven.cli.ScopedDependency;
 
 @UnitTest
@@ -276,4 +282,32 @@ public class MavenCodeLocationPackagerTest {
         final Dependency dependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:pants (version selected from", dependency.getExternalId().createExternalId());
     }
+
+    @Test
+    public void testCalculateCurrentLevel() {
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+
+        assertEquals("group:artifact:jar:1.0:compile", mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine("group:artifact:jar:1.0:compile"));
+        assertEquals("group:artifact:jar:1.0:compile", mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine("+- group:artifact:jar:1.0:compile"));
+        assertEquals("group:artifact:jar:1.0:compile (optional)", mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine("|  |     \\- group:artifact:jar:1.0:compile (optional)"));
+    }
+
+    @Test
+    public void testModulesCollectedAsTheirTreesComplete() {
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+
+        mavenCodeLocationPackager.startCodeLocations("/source", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        for (final String line : Arrays.asList(
+            "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ first ---",
+            "[INFO] group:first:jar:1.0",
+            "[INFO] \\- group:dependency:jar:2.0:compile",
+            "[INFO] ------------------------< group:second >------------------------",
+            "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ second ---")) {
+            mavenCodeLocationPackager.parseLine(line);
+        }
+        mavenCodeLocationPackager.parseLine("[INFO] group:second:jar:1.0");
+
+        final List<MavenParseResult> collected = mavenCodeLocationPackager.finishCodeLocations();
+        assertEquals(Arrays.asList("first", "second"), collected.stream().map(MavenParseResult::getProjectName).collect(Collectors.toList()));
+    }
 }
@@ -22,6 +22,9 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.functional;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -57,8 +60,8 @@ public class NpmDevExclusionTest {
     }
 
     @Test
-    public void testDevDependencyNotExists() {
-        NpmParseResult result = npmLockfileParser.parse(packageJsonText, packageLockText, false);
+    public void testDevDependencyNotExists() throws IOException {
+        NpmParseResult result = npmLockfileParser.parse(packageJsonText, new StringReader(packageLockText), false);
         GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, result.getCodeLocation().getDependencyGraph());
         graphAssert.hasNoDependency(childDev);
         graphAssert.hasNoDependency(parentDev);
@@ -66,8 +69,8 @@ public class NpmDevExclusionTest {
     }
 
     @Test
-    public void testDevDependencyExists() {
-        NpmParseResult result = npmLockfileParser.parse(packageJsonText, packageLockText, true);
+    public void testDevDependencyExists() throws IOException {
+        NpmParseResult result = npmLockfileParser.parse(packageJsonText, new StringReader(packageLockText), true);
         GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, result.getCodeLocation().getDependencyGraph());
         graphAssert.hasDependency(childDev);
         graphAssert.hasDependency(parentDev);
@@ -0,0 +1,87 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfileReader;
+
+@UnitTest
+public class NpmLockfileReaderTest {
+    private final NpmLockfileReader npmLockfileReader = new NpmLockfileReader(new NpmDependencyConverter(new ExternalIdFactory()));
+
+    @Test
+    public void readsNestedDependencies() throws IOException {
+        String lockfile = "{ \"name\": \"project\", \"version\": \"1.0.0\", \"lockfileVersion\": 1, \"dependencies\": {"
+                              + "\"parent\": { \"version\": \"2.0.0\", \"dev\": true, \"requires\": { \"child\": \"^3.0.0\" }, \"dependencies\": {"
+                              + "  \"child\": { \"dependencies\": { \"grandchild\": { \"version\": \"4.0.0\" } }, \"version\": \"3.0.0\" } } },"
+                              + "\"other\": { \"version\": \"5.0.0\" } } }";
+
+        NpmLockfileContents contents = npmLockfileReader.read(new StringReader(lockfile));
+
+        assertEquals("project", contents.getName());
+        assertEquals("1.0.0", contents.getVersion());
+        List<NpmDependency> resolved = contents.getResolvedDependencies().orElseThrow(AssertionError::new);
+        assertEquals(2, resolved.size());
+
+        NpmDependency parent = resolved.get(0);
+        assertEquals("parent", parent.getName());
+        assertTrue(parent.isDevDependency());
+        assertFalse(resolved.get(1).isDevDependency());
+        assertEquals(1, parent.getRequires().size());
+        assertEquals("child", parent.getRequires().get(0).getName());
+        assertEquals("^3.0.0", parent.getRequires().get(0).getFuzzyVersion());
+
+        NpmDependency child = parent.getDependencyWithName("child");
+        assertEquals("3.0.0", child.getVersion());
+        assertSame(parent, child.getParent().orElse(null));
+        NpmDependency grandchild = child.getDependencyWithName("grandchild");
+        assertEquals("4.0.0", grandchild.getVersion());
+        assertSame(child, grandchild.getParent().orElse(null));
+        assertNull(parent.getDependencyWithName("grandchild"));
+    }
+
+    @Test
+    public void missingDependenciesSection() throws IOException {
+        NpmLockfileContents contents = npmLockfileReader.read(new StringReader("{ \"name\": \"project\", \"packages\": { \"\": {} } }"));
+
+        assertEquals("project", contents.getName());
+        assertNull(contents.getVersion());
+        assertFalse(contents.getResolvedDependencies().isPresent());
+    }
+}
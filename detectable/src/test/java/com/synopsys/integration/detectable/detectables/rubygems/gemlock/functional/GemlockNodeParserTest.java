@@ -104,4 +104,36 @@ public class GemlockNodeParserTest {
         graphAssert.hasParentChildRelationship("tzinfo", "1.2.3", "thread_safe", "0.3.6-java");
         graphAssert.hasParentChildRelationship("bullet", "5.5.0", "uniform_notifier", "1.10.0");
     }
+
+    @Test
+    public void testRepeatedAndPinnedDependenciesGemfileLock() throws MissingExternalIdException {
+        final List<String> gemfileLockContents = Arrays.asList(
+            "GEM",
+            "  remote: https://rubygems.org/",
+            "  specs:",
+            "    actionpack (5.2.0)",
+            "      rack (~> 2.0)",
+            "      rack-test (= 1.1.0)",
+            "    actionview (5.2.0)",
+            "      rack (~> 2.0)",
+            "      rack-test (= 1.1.0)",
+            "    rack (2.0.5)",
+            "    rack-test (1.1.0)",
+            "      rack (>= 1.0, < 3)",
+            "",
+            "DEPENDENCIES",
+            "  actionpack",
+            "  actionview (= 5.2.0)"
+        );
+        final GemlockParser gemlockNodeParser = new GemlockParser(new ExternalIdFactory());
+        final DependencyGraph dependencyGraph = gemlockNodeParser.parseProjectDependencies(gemfileLockContents);
+
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.RUBYGEMS, dependencyGraph);
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency("actionpack", "5.2.0");
+        graphAssert.hasRootDependency("actionview", "5.2.0");
+        graphAssert.hasParentChildRelationship("actionpack", "5.2.0", "rack", "2.0.5");
+        graphAssert.hasParentChildRelationship("actionview", "5.2.0", "rack-test", "1.1.0");
+        graphAssert.hasParentChildRelationship("rack-test", "1.1.0", "rack", "2.0.5");
+    }
 }
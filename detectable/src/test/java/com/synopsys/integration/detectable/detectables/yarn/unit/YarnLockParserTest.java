@@ -25,6 +25,8 @@ package com.synopsys.integration.detectable.detectables.yarn.unit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -118,6 +120,49 @@ public class YarnLockParserTest {
         assertEntry(yarnLock, "cssstyle", ">= 0.2.37 < 0.3.0", "0.2.37", new YarnLockDependency("cssom", "0.3.x", false));
     }
 
+    @Test
+    void testThatYarnLockIsReadFromReader() throws IOException {
+        final String yarnLockText = "# yarn lockfile v1\r\n\r\n"
+                                        + "debug@^2.2.0, \"debug@>= 2.6.0 < 3\":\r\n"
+                                        + "  version \"2.6.9\"\r\n"
+                                        + "  dependencies:\r\n"
+                                        + "    ms \"2.0.0\"\r\n"
+                                        + "  optionalDependencies:\r\n"
+                                        + "    \"@types/node\" \"*\"\r\n"
+                                        + "ms@2.0.0:\r\n"
+                                        + "  version \"2.0.0\"";
+
+        final YarnLockParser yarnLockParser = new YarnLockParser();
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(new StringReader(yarnLockText));
+
+        assertEquals(2, yarnLock.getEntries().size());
+        assertEntry(yarnLock, "debug", "^2.2.0", "2.6.9", new YarnLockDependency("ms", "2.0.0", false), new YarnLockDependency("@types/node", "*", true));
+        assertEntry(yarnLock, "debug", ">= 2.6.0 < 3", "2.6.9", new YarnLockDependency("ms", "2.0.0", false), new YarnLockDependency("@types/node", "*", true));
+        assertEntry(yarnLock, "ms", "2.0.0", "2.0.0");
+    }
+
+    @Test
+    void testThatBerryYarnLockIsParsed() throws IOException {
+        final String yarnLockText = "__metadata:\n"
+                                        + "  version: 4\n"
+                                        + "\n"
+                                        + "\"@babel/code-frame@npm:^7.0.0, @babel/code-frame@npm:^7.10.4\":\n"
+                                        + "  version: 7.12.13\n"
+                                        + "  resolution: \"@babel/code-frame@npm:7.12.13\"\n"
+                                        + "  dependencies:\n"
+                                        + "    \"@babel/highlight\": ^7.12.13\n"
+                                        + "  dependenciesMeta:\n"
+                                        + "    fsevents:\n"
+                                        + "      optional: true\n";
+
+        final YarnLockParser yarnLockParser = new YarnLockParser();
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(new StringReader(yarnLockText));
+
+        assertEquals(1, yarnLock.getEntries().size());
+        assertEntry(yarnLock, "@babel/code-frame", "^7.0.0", "7.12.13", new YarnLockDependency("@babel/highlight", "^7.12.13", false));
+        assertEntry(yarnLock, "@babel/code-frame", "^7.10.4", "7.12.13", new YarnLockDependency("@babel/highlight", "^7.12.13", false));
+    }
+
     @Test
     void testParserHandlesMissingSymbol() {
         YarnLockParser yarnLockParser = new YarnLockParser();
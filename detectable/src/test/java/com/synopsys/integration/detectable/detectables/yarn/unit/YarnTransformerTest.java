@@ -1,5 +1,7 @@
 package com.synopsys.integration.detectable.detectables.yarn.unit;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -18,8 +20,10 @@ import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockEntry;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockEntryId;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnTransformer;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
 
 @UnitTest
 public class YarnTransformerTest {
@@ -49,4 +53,35 @@ public class YarnTransformerTest {
         ExternalId fooExternalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "foo", "1.0");
         Assertions.assertTrue(dependencyGraph.hasDependency(fooExternalId), "Missing the only expected dependency.");
     }
+
+    @Test
+    void resolvesBerryDependencies() throws IOException, MissingExternalIdException {
+        String yarnLockText = "__metadata:\n"
+                                  + "  version: 4\n"
+                                  + "\n"
+                                  + "\"@babel/code-frame@npm:^7.0.0\":\n"
+                                  + "  version: 7.12.13\n"
+                                  + "  resolution: \"@babel/code-frame@npm:7.12.13\"\n"
+                                  + "  dependencies:\n"
+                                  + "    \"@babel/highlight\": ^7.12.13\n"
+                                  + "\n"
+                                  + "\"@babel/highlight@npm:^7.12.13\":\n"
+                                  + "  version: 7.13.10\n"
+                                  + "  resolution: \"@babel/highlight@npm:7.13.10\"\n";
+        YarnLock yarnLock = new YarnLockParser().parseYarnLock(new StringReader(yarnLockText));
+
+        PackageJson packageJson = new PackageJson();
+        packageJson.dependencies = new HashMap<>();
+        packageJson.dependencies.put("@babel/code-frame", "^7.0.0");
+        YarnLockResult yarnLockResult = new YarnLockResult(packageJson, "yarn.lock", yarnLock);
+
+        DependencyGraph dependencyGraph = new YarnTransformer(new ExternalIdFactory()).transform(yarnLockResult, false, (logger, externalIdFactory, dependencyId, lazyDependencyInfo, yarnLockFilePath) -> {
+            throw new AssertionError("Every berry dependency should resolve, but this was missing: " + dependencyId);
+        });
+
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.NPMJS, dependencyGraph);
+        graphAssert.hasRootSize(1);
+        graphAssert.hasRootDependency("@babel/code-frame", "7.12.13");
+        graphAssert.hasParentChildRelationship("@babel/code-frame", "7.12.13", "@babel/highlight", "7.13.10");
+    }
 }
@@ -0,0 +1,134 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+
+public class DiskExtractionCacheTest {
+    private Path tempDir;
+
+    @BeforeEach
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("DiskExtractionCacheTest");
+    }
+
+    @AfterEach
+    public void deleteTempDir() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @UnitTest
+    public void testIdenticalInputsExtractOnce() throws IOException {
+        final File first = writeLockfile("first", "same contents");
+        final File second = writeLockfile("second", "same contents");
+        final DiskExtractionCache cache = new DiskExtractionCache(tempDir.resolve("cache").toFile(), 10, "1.0.0", new Gson());
+
+        final AtomicInteger extractions = new AtomicInteger();
+        final Extraction firstExtraction = cache.extract("test", Arrays.asList(first, null), Collections.emptyList(), () -> countedExtraction(extractions));
+        final Extraction secondExtraction = cache.extract("test", Arrays.asList(second, null), Collections.emptyList(), () -> countedExtraction(extractions));
+
+        assertEquals(1, extractions.get());
+        assertEquals(1, cache.getHits());
+        assertTrue(secondExtraction.isSuccess());
+        assertEquals(firstExtraction.getProjectName(), secondExtraction.getProjectName());
+    }
+
+    @UnitTest
+    public void testOptionsAndContentsChangeTheKey() throws IOException {
+        final File lockfile = writeLockfile("lockfile", "contents");
+        final DiskExtractionCache cache = new DiskExtractionCache(tempDir.resolve("cache").toFile(), 10, "1.0.0", new Gson());
+
+        final AtomicInteger extractions = new AtomicInteger();
+        cache.extract("test", Collections.singletonList(lockfile), Collections.singletonList("true"), () -> countedExtraction(extractions));
+        cache.extract("test", Collections.singletonList(lockfile), Collections.singletonList("false"), () -> countedExtraction(extractions));
+        FileUtils.writeStringToFile(lockfile, "changed contents", StandardCharsets.UTF_8);
+        cache.extract("test", Collections.singletonList(lockfile), Collections.singletonList("true"), () -> countedExtraction(extractions));
+
+        assertEquals(3, extractions.get());
+        assertEquals(0, cache.getHits());
+    }
+
+    @UnitTest
+    public void testLeastRecentlyUsedEvicted() throws IOException {
+        final File cacheDirectory = tempDir.resolve("cache").toFile();
+        final DiskExtractionCache cache = new DiskExtractionCache(cacheDirectory, 2, "1.0.0", new Gson());
+
+        final AtomicInteger extractions = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            final File lockfile = writeLockfile("lockfile" + i, "contents " + i);
+            cache.extract("test", Collections.singletonList(lockfile), Collections.emptyList(), () -> countedExtraction(extractions));
+        }
+
+        assertEquals(2, cacheDirectory.listFiles((directory, name) -> name.endsWith(".json")).length);
+    }
+
+    @UnitTest
+    public void testFailuresNotCached() throws IOException {
+        final File lockfile = writeLockfile("lockfile", "contents");
+        final DiskExtractionCache cache = new DiskExtractionCache(tempDir.resolve("cache").toFile(), 10, "1.0.0", new Gson());
+
+        final AtomicInteger extractions = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.extract("test", Collections.singletonList(lockfile), Collections.emptyList(), () -> {
+                extractions.incrementAndGet();
+                return new Extraction.Builder().failure("failed").build();
+            });
+        }
+
+        assertEquals(2, extractions.get());
+    }
+
+    private File writeLockfile(final String directoryName, final String contents) throws IOException {
+        final File lockfile = tempDir.resolve(directoryName).resolve("lockfile").toFile();
+        FileUtils.writeStringToFile(lockfile, contents, StandardCharsets.UTF_8);
+        return lockfile;
+    }
+
+    private Extraction countedExtraction(final AtomicInteger extractions) {
+        extractions.incrementAndGet();
+        return new Extraction.Builder()
+                   .success(new CodeLocation(new MutableMapDependencyGraph()))
+                   .projectName("project")
+                   .build();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.extraction.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Optional;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.GraphCompare;
+
+public class ExtractionSnapshotConverterTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @UnitTest
+    public void testRoundTripThroughJson() {
+        final Dependency parent = new Dependency("parent", "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "parent", "1.0"));
+        final Dependency child = new Dependency("child", "2.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "child", "2.0"));
+        final Dependency shared = new Dependency("shared", "3.0", externalIdFactory.createMavenExternalId("group", "shared", "3.0"));
+
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildrenToRoot(parent, shared);
+        graph.addChildWithParent(child, parent);
+        graph.addChildWithParent(shared, child);
+
+        final File relevantFile = new File("package-lock.json");
+        final Extraction extraction = new Extraction.Builder()
+                                          .success(new CodeLocation(graph, externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "project", "1.0"), new File("source")))
+                                          .projectName("project")
+                                          .projectVersion("1.0")
+                                          .relevantFiles(relevantFile)
+                                          .build();
+
+        final ExtractionSnapshotConverter converter = new ExtractionSnapshotConverter();
+        final Optional<ExtractionSnapshot> snapshot = converter.toSnapshot(extraction);
+        assertTrue(snapshot.isPresent());
+
+        final Gson gson = new Gson();
+        final ExtractionSnapshot deserialized = gson.fromJson(gson.toJson(snapshot.get()), ExtractionSnapshot.class);
+        final Extraction restored = converter.toExtraction(deserialized);
+
+        assertTrue(restored.isSuccess());
+        assertEquals("project", restored.getProjectName());
+        assertEquals("1.0", restored.getProjectVersion());
+        assertEquals(1, restored.getCodeLocations().size());
+        assertEquals(1, restored.getRelevantFiles().size());
+
+        final CodeLocation codeLocation = restored.getCodeLocations().get(0);
+        assertEquals(new File("source"), codeLocation.getSourcePath().orElse(null));
+        assertEquals("project", codeLocation.getExternalId().map(externalId -> externalId.getName()).orElse(null));
+        GraphCompare.assertEquals(graph, codeLocation.getDependencyGraph());
+    }
+
+    @UnitTest
+    public void testFailedExtractionNotSnapshotted() {
+        final Extraction extraction = new Extraction.Builder().failure("failed").build();
+        assertFalse(new ExtractionSnapshotConverter().toSnapshot(extraction).isPresent());
+    }
+}
@@ -23,6 +23,7 @@
 package com.synopsys.integration.detectable.file.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
 import java.io.File;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 
 import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 
 public class WildcardFileFinderTest {
@@ -76,4 +78,45 @@ public class WildcardFileFinderTest {
         // make sure symlink not followed during dir traversal
         assertEquals(4, foundFiles.size());
     }
+
+    @UnitTest
+    public void testSnapshotAnswersFromCache() throws IOException {
+        final File directory = new File(initialDirectoryPath.toFile(), "cached");
+        directory.mkdirs();
+        final File onDisk = new File(directory, "build.gradle");
+        onDisk.createNewFile();
+
+        final DirectoryListingCache directoryListingCache = new DirectoryListingCache();
+        final File snapshotOnly = new File(directory, "pom.xml");
+        directoryListingCache.put(directory, new File[] { snapshotOnly });
+
+        final WildcardFileFinder finder = new WildcardFileFinder(directoryListingCache);
+        assertEquals(snapshotOnly, finder.findFile(directory, "pom.xml"));
+        assertNull(finder.findFile(directory, "build.gradle"));
+        assertEquals(2, directoryListingCache.getHits());
+        assertEquals(0, directoryListingCache.getMisses());
+
+        assertEquals(0, finder.findFiles(initialDirectoryPath.toFile(), "pom.xml").size());
+        assertEquals(1, directoryListingCache.getMisses());
+    }
+
+    @UnitTest
+    public void testFileCreatedAfterTraversalFoundOnceServingStops() throws IOException {
+        final File directory = new File(initialDirectoryPath.toFile(), "created");
+        directory.mkdirs();
+        final DirectoryListingCache directoryListingCache = new DirectoryListingCache();
+        directoryListingCache.put(directory, directory.listFiles());
+        final WildcardFileFinder finder = new WildcardFileFinder(directoryListingCache);
+
+        // Like bitbake's build directory, the file is created by the build tool once the search has listed the directory.
+        final File build = new File(directory, "build");
+        build.mkdir();
+        final File taskDepends = new File(build, "task-depends.dot");
+        taskDepends.createNewFile();
+        assertNull(finder.findFile(directory, "task-depends.dot", 1));
+
+        directoryListingCache.stopServing();
+        assertEquals(taskDepends, finder.findFile(directory, "task-depends.dot", 1));
+        assertEquals(1, directoryListingCache.getDirectoryCount());
+    }
 }
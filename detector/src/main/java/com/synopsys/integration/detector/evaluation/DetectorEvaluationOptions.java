@@ -22,17 +22,34 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.rule.DetectorRule;
 
 public class DetectorEvaluationOptions {
     private final boolean forceNested;
     private final Predicate<DetectorRule> detectorFilter;
+    private final int extractionThreads;
+    private final Map<DetectorType, Integer> extractionLimits;
+    private final boolean pipelined;
 
     public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter) {
+        this(forceNested, detectorFilter, 1, Collections.emptyMap());
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionThreads, final Map<DetectorType, Integer> extractionLimits) {
+        this(forceNested, detectorFilter, extractionThreads, extractionLimits, false);
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionThreads, final Map<DetectorType, Integer> extractionLimits, final boolean pipelined) {
         this.forceNested = forceNested;
         this.detectorFilter = detectorFilter;
+        this.extractionThreads = extractionThreads;
+        this.extractionLimits = extractionLimits;
+        this.pipelined = pipelined;
     }
 
     public boolean isForceNested() {
@@ -42,4 +59,18 @@ public class DetectorEvaluationOptions {
     public Predicate<DetectorRule> getDetectorFilter() {
         return detectorFilter;
     }
+
+    public int getExtractionThreads() {
+        return extractionThreads;
+    }
+
+    // The most extractions of a detector type that may run at once, types without a limit are only bound by the thread count.
+    public Map<DetectorType, Integer> getExtractionLimits() {
+        return extractionLimits;
+    }
+
+    // When pipelined, a directory's extractions start as soon as it has been evaluated instead of after the whole tree has been searched.
+    public boolean isPipelined() {
+        return pipelined;
+    }
 }
@@ -22,11 +22,17 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
-import java.util.HashSet;
+import java.io.File;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,46 +42,90 @@ import com.synopsys.integration.detectable.Discovery;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.ExceptionDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.result.DetectorResult;
 import com.synopsys.integration.detector.result.FallbackNotNeededDetectorResult;
 import com.synopsys.integration.detector.rule.DetectorRule;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+import com.synopsys.integration.detector.rule.DetectorRuleTriggerIndex;
 
 public class DetectorEvaluator {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final DetectorRuleSetEvaluator detectorRuleSetEvaluator = new DetectorRuleSetEvaluator();
     private DetectorEvaluatorListener detectorEvaluatorListener;
+    private final Object listenerLock = new Object();
+    private PreviousExtractionProvider previousExtractionProvider;
+    private final Map<DetectorRule, DetectorResult> notTriggeredResults = new ConcurrentHashMap<>();
 
     private final DetectorEvaluationOptions evaluationOptions;
+    @Nullable
+    private final DirectoryListingCache directoryListingCache;
 
     public DetectorEvaluator(final DetectorEvaluationOptions evaluationOptions) {
+        this(evaluationOptions, null);
+    }
+
+    // When the cache the finder filled is given, rule triggers are matched against the listing it already holds instead of listing each directory again.
+    public DetectorEvaluator(final DetectorEvaluationOptions evaluationOptions, @Nullable final DirectoryListingCache directoryListingCache) {
         this.evaluationOptions = evaluationOptions;
+        this.directoryListingCache = directoryListingCache;
     }
 
     //Unfortunately, currently search and applicable are tied together due to Search needing to know about previous detectors that applied.
     //So Search and then Applicable must be evaluated of Detector 1 before the next Search can be evaluated of Detector 2.
-    public void searchAndApplicableEvaluation(final DetectorEvaluationTree detectorEvaluationTree, final Set<DetectorRule> appliedInParent) {
-        logger.trace("Determining applicable detectors on the directory: " + detectorEvaluationTree.getDirectory().toString());
+    public void searchAndApplicableEvaluation(final DetectorEvaluationTree detectorEvaluationTree) {
+        searchAndApplicableEvaluation(detectorEvaluationTree, new BitSet());
+    }
 
-        final Set<DetectorRule> appliedSoFar = new HashSet<>();
+    // Rules applied in a parent are tracked by their ordinal in the rule set, see SearchEnvironment.
+    public void searchAndApplicableEvaluation(final DetectorEvaluationTree detectorEvaluationTree, final BitSet appliedInParent) {
+        final BitSet nextAppliedInParent = searchAndApplicableDirectory(detectorEvaluationTree, appliedInParent);
+
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            searchAndApplicableEvaluation(childDetectorEvaluationTree, nextAppliedInParent);
+        }
+    }
+
+    // Evaluates every phase before discovery for a single directory and returns the rules its children should consider applied in a parent.
+    // The parent directory must have been evaluated first, after which this directory's evaluations may be handed to discoverAndExtract without waiting for the rest of the tree.
+    public BitSet evaluateDirectory(final DetectorEvaluationTree detectorEvaluationTree, final BitSet appliedInParent, final Function<DetectorEvaluation, ExtractionEnvironment> extractionEnvironmentProvider) {
+        final BitSet nextAppliedInParent = searchAndApplicableDirectory(detectorEvaluationTree, appliedInParent);
+        extractableDirectory(detectorEvaluationTree);
+        setupDiscoveryAndExtractionsDirectory(detectorEvaluationTree, extractionEnvironmentProvider);
+        return nextAppliedInParent;
+    }
+
+    private BitSet searchAndApplicableDirectory(final DetectorEvaluationTree detectorEvaluationTree, final BitSet appliedInParent) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Determining applicable detectors on the directory: " + detectorEvaluationTree.getDirectory().toString());
+        }
+
+        final DetectorRuleSet detectorRuleSet = detectorEvaluationTree.getDetectorRuleSet();
+        final DetectorRuleTriggerIndex triggerIndex = detectorRuleSet.getTriggerIndex();
+        final BitSet triggeredRules = findTriggeredRules(detectorEvaluationTree, triggerIndex);
+        final SearchEnvironment searchEnvironment = new SearchEnvironment(detectorEvaluationTree.getDepthFromRoot(), evaluationOptions.getDetectorFilter(), evaluationOptions.isForceNested(), appliedInParent);
 
         for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
-            getDetectorEvaluatorListener().ifPresent(it -> it.applicableStarted(detectorEvaluation));
+            notifyListener(DetectorEvaluatorListener::applicableStarted, detectorEvaluation);
 
             final DetectorRule detectorRule = detectorEvaluation.getDetectorRule();
-            logger.trace("Evaluating detector: " + detectorRule.getDescriptiveName());
+            logger.trace("Evaluating detector: {}", detectorRule.getDescriptiveName());
 
-            final SearchEnvironment searchEnvironment = new SearchEnvironment(detectorEvaluationTree.getDepthFromRoot(), evaluationOptions.getDetectorFilter(), evaluationOptions.isForceNested(), appliedInParent, appliedSoFar);
             detectorEvaluation.setSearchEnvironment(searchEnvironment);
 
-            final DetectorResult searchableResult = detectorRuleSetEvaluator.evaluateSearchable(detectorEvaluationTree.getDetectorRuleSet(), detectorEvaluation.getDetectorRule(), searchEnvironment);
+            final DetectorResult searchableResult = detectorRuleSetEvaluator.evaluateSearchable(detectorRuleSet, detectorRule, searchEnvironment);
             detectorEvaluation.setSearchable(searchableResult);
 
-            if (detectorEvaluation.isSearchable()) {
+            if (detectorEvaluation.isSearchable() && !triggerIndex.isTriggered(detectorRuleSet.getOrdinal(detectorRule), triggeredRules)) {
+                logger.trace("Searchable passed, but no trigger files were found so the detectable will not be created.");
+                detectorEvaluation.setApplicable(notTriggeredResults.computeIfAbsent(detectorRule, this::createNotTriggeredResult));
+            } else if (detectorEvaluation.isSearchable()) {
                 logger.trace("Searchable passed, will continue evaluating.");
                 //TODO: potential todo, this could be invoked as part of the rule - ie we make a DetectableEnvironmentCreatable and the file could be given to the creatable (detectorRule.createEnvironment(file)
                 final DetectableEnvironment detectableEnvironment = new DetectableEnvironment(detectorEvaluationTree.getDirectory());
@@ -89,38 +139,70 @@ public class DetectorEvaluator {
                 detectorEvaluation.setApplicable(applicableResult);
 
                 if (detectorEvaluation.isApplicable()) {
-                    logger.trace("Found applicable detector: " + detectorRule.getDescriptiveName());
-                    appliedSoFar.add(detectorRule);
+                    logger.trace("Found applicable detector: {}", detectorRule.getDescriptiveName());
+                    searchEnvironment.markApplied(detectorRuleSet.getOrdinal(detectorRule));
                 } else {
-                    logger.trace("Applicable did not pass: " + detectorEvaluation.getApplicabilityMessage());
+                    logger.trace("Applicable did not pass: {}", detectorEvaluation.getApplicabilityMessage());
                 }
             } else {
-                logger.trace("Searchable did not pass: " + detectorEvaluation.getSearchabilityMessage());
+                logger.trace("Searchable did not pass: {}", detectorEvaluation.getSearchabilityMessage());
             }
 
-            getDetectorEvaluatorListener().ifPresent(it -> it.applicableEnded(detectorEvaluation));
+            notifyListener(DetectorEvaluatorListener::applicableEnded, detectorEvaluation);
         }
 
-        if (!appliedSoFar.isEmpty()) {
-            logger.debug("Found (" + appliedSoFar.size() + ") applicable detectors in: " + detectorEvaluationTree.getDirectory()
+        if (searchEnvironment.getAppliedSoFarCount() > 0) {
+            logger.debug("Found (" + searchEnvironment.getAppliedSoFarCount() + ") applicable detectors in: " + detectorEvaluationTree.getDirectory()
                                                                                                .toString()); //TODO: Perfect log level also matters here. To little and we may appear stuck, but we may also be flooding the logs.
         }
 
-        final Set<DetectorRule> nextAppliedInParent = new HashSet<>();
-        nextAppliedInParent.addAll(appliedInParent);
-        nextAppliedInParent.addAll(appliedSoFar);
+        return searchEnvironment.getAppliedToChildren();
+    }
 
-        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            searchAndApplicableEvaluation(childDetectorEvaluationTree, nextAppliedInParent);
+    // Matches the directory listing against every rule's trigger file patterns at once so rules that cannot apply never create their detectable.
+    // Results are immutable, so every directory a rule is not triggered in shares one.
+    private DetectorResult createNotTriggeredResult(final DetectorRule detectorRule) {
+        final DetectableResult notTriggered = new FilesNotFoundDetectableResult(detectorRule.getTriggerFilePatterns());
+        return new DetectorResult(notTriggered.getPassed(), notTriggered.toDescription(), notTriggered.getClass());
+    }
+
+    private BitSet findTriggeredRules(final DetectorEvaluationTree detectorEvaluationTree, final DetectorRuleTriggerIndex triggerIndex) {
+        if (!triggerIndex.hasTriggers()) {
+            return triggerIndex.findTriggeredRules(null);
+        }
+        return triggerIndex.findTriggeredRules(listFileNames(detectorEvaluationTree.getDirectory()));
+    }
+
+    @Nullable
+    private String[] listFileNames(final File directory) {
+        if (directoryListingCache == null) {
+            return directory.list();
         }
+        final File[] files = directoryListingCache.listFiles(directory);
+        if (files == null) {
+            return null;
+        }
+        final String[] fileNames = new String[files.length];
+        for (int i = 0; i < files.length; i++) {
+            fileNames[i] = files[i].getName();
+        }
+        return fileNames;
     }
 
     public void extractableEvaluation(final DetectorEvaluationTree detectorEvaluationTree) {
+        extractableDirectory(detectorEvaluationTree);
+
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            extractableEvaluation(childDetectorEvaluationTree);
+        }
+    }
+
+    private void extractableDirectory(final DetectorEvaluationTree detectorEvaluationTree) {
         logger.trace("Determining extractable detectors in the directory: " + detectorEvaluationTree.getDirectory().toString());
         for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
             if (detectorEvaluation.isSearchable() && detectorEvaluation.isApplicable()) {
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractableStarted(detectorEvaluation));
+                notifyListener(DetectorEvaluatorListener::extractableStarted, detectorEvaluation);
 
                 logger.trace("Detector was searchable and applicable, will check extractable: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
 
@@ -135,13 +217,9 @@ public class DetectorEvaluator {
                     logger.trace("Extractable did not pass: " + detectorEvaluation.getExtractabilityMessage());
                 }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractableEnded(detectorEvaluation));
+                notifyListener(DetectorEvaluatorListener::extractableEnded, detectorEvaluation);
             }
         }
-
-        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            extractableEvaluation(childDetectorEvaluationTree);
-        }
     }
 
     private DetectableResult getDetectableExtractableResult(DetectorEvaluationTree detectorEvaluationTree, DetectorEvaluation detectorEvaluation) {
@@ -179,84 +257,144 @@ public class DetectorEvaluator {
     }
 
     public void setupDiscoveryAndExtractions(final DetectorEvaluationTree detectorEvaluationTree, final Function<DetectorEvaluation, ExtractionEnvironment> extractionEnvironmentProvider) {
+        setupDiscoveryAndExtractionsDirectory(detectorEvaluationTree, extractionEnvironmentProvider);
+
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            setupDiscoveryAndExtractions(childDetectorEvaluationTree, extractionEnvironmentProvider);
+        }
+    }
+
+    private void setupDiscoveryAndExtractionsDirectory(final DetectorEvaluationTree detectorEvaluationTree, final Function<DetectorEvaluation, ExtractionEnvironment> extractionEnvironmentProvider) {
         for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
             if (detectorEvaluation.isExtractable()) {
                 final ExtractionEnvironment extractionEnvironment = extractionEnvironmentProvider.apply(detectorEvaluation);
                 detectorEvaluation.setExtractionEnvironment(extractionEnvironment);
             }
         }
-
-        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            setupDiscoveryAndExtractions(childDetectorEvaluationTree, extractionEnvironmentProvider);
-        }
     }
 
     public void discoveryEvaluation(final DetectorEvaluationTree detectorEvaluationTree, final DiscoveryFilter discoveryFilter) {
         logger.trace("Project discovery started.");
 
+        discoveryDirectory(detectorEvaluationTree, discoveryFilter);
+
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            discoveryEvaluation(childDetectorEvaluationTree, discoveryFilter);
+        }
+    }
+
+    private void discoveryDirectory(final DetectorEvaluationTree detectorEvaluationTree, final DiscoveryFilter discoveryFilter) {
         logger.trace("Determining discoverable detectors in the directory: " + detectorEvaluationTree.getDirectory().toString());
         for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
             if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
+                discover(detectorEvaluation, discoveryFilter);
+            }
+        }
+    }
 
-                logger.trace("Detector was searchable, applicable and extractable, will perform project discovery: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
-                final Detectable detectable = detectorEvaluation.getDetectable();
-
-                getDetectorEvaluatorListener().ifPresent(it -> it.discoveryStarted(detectorEvaluation));
-
-                if (discoveryFilter.shouldDiscover(detectorEvaluation)) {
-                    try {
-                        final Discovery discovery = detectable.discover(detectorEvaluation.getExtractionEnvironment());
-                        detectorEvaluation.setDiscovery(discovery);
-                    } catch (final Exception e) {
-                        detectorEvaluation.setDiscovery(new Discovery.Builder().exception(e).build());
-                    }
-                } else {
-                    logger.debug("Project discovery already found information, this detector will be skipped.");
-                    detectorEvaluation.setDiscovery(new Discovery.Builder().skipped().build());
-                }
+    private void discover(final DetectorEvaluation detectorEvaluation, final DiscoveryFilter discoveryFilter) {
+        logger.trace("Detector was searchable, applicable and extractable, will perform project discovery: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
+        final Detectable detectable = detectorEvaluation.getDetectable();
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.discoveryEnded(detectorEvaluation));
+        notifyListener(DetectorEvaluatorListener::discoveryStarted, detectorEvaluation);
 
+        // The filter usually learns from the discoveryEnded notifications, so when discoveries run on several threads it is read under the same lock.
+        final boolean shouldDiscover;
+        synchronized (listenerLock) {
+            shouldDiscover = discoveryFilter.shouldDiscover(detectorEvaluation);
+        }
+        if (shouldDiscover) {
+            try {
+                final Discovery discovery = detectable.discover(detectorEvaluation.getExtractionEnvironment());
+                detectorEvaluation.setDiscovery(discovery);
+            } catch (final Exception e) {
+                detectorEvaluation.setDiscovery(new Discovery.Builder().exception(e).build());
             }
+        } else {
+            logger.debug("Project discovery already found information, this detector will be skipped.");
+            detectorEvaluation.setDiscovery(new Discovery.Builder().skipped().build());
         }
 
-        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            discoveryEvaluation(childDetectorEvaluationTree, discoveryFilter);
-        }
+        notifyListener(DetectorEvaluatorListener::discoveryEnded, detectorEvaluation);
+    }
+
+    // Discovery may run a full extraction, so the pipelined search hands both to the extraction scheduler, where they share the detector type's limit.
+    public void discoverAndExtract(final DetectorEvaluation detectorEvaluation, final DiscoveryFilter discoveryFilter) {
+        discover(detectorEvaluation, discoveryFilter);
+        extract(detectorEvaluation);
     }
 
     public void extractionEvaluation(final DetectorEvaluationTree detectorEvaluationTree) {
+        if (evaluationOptions.getExtractionThreads() > 1) {
+            final List<DetectorEvaluation> extractableEvaluations = detectorEvaluationTree.allDescendentEvaluations().stream()
+                                                                        .filter(it -> it.isExtractable() && it.getExtractionEnvironment() != null)
+                                                                        .collect(Collectors.toList());
+            final DetectorExtractionScheduler extractionScheduler = new DetectorExtractionScheduler(evaluationOptions.getExtractionThreads(), evaluationOptions.getExtractionLimits());
+            extractionScheduler.extractAll(extractableEvaluations, this::extract);
+            return;
+        }
+
         logger.trace("Extracting detectors in the directory: " + detectorEvaluationTree.getDirectory().toString());
         for (final DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
             if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
+                extract(detectorEvaluation);
+            }
+        }
 
-                logger.trace("Detector was searchable, applicable and extractable, will perform extraction: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
-                final Detectable detectable = detectorEvaluation.getDetectable();
+        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            extractionEvaluation(childDetectorEvaluationTree);
+        }
+    }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+    // Scheduler for extractions that are submitted as their directories are evaluated rather than after the whole tree has been evaluated.
+    public DetectorExtractionScheduler createExtractionScheduler() {
+        return new DetectorExtractionScheduler(Math.max(evaluationOptions.getExtractionThreads(), 1), evaluationOptions.getExtractionLimits());
+    }
 
-                final Discovery discovery = detectorEvaluation.getDiscovery();
-                if (discovery != null && discovery.getExtraction() != null) {
-                    logger.debug("Extraction already completed during project discovery.");
-                    detectorEvaluation.setExtraction(discovery.getExtraction());
-                } else {
-                    try {
-                        final Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
-                        detectorEvaluation.setExtraction(extraction);
-                    } catch (final Exception e) {
-                        detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
-                    }
+    public void extract(final DetectorEvaluation detectorEvaluation) {
+        logger.trace("Detector was searchable, applicable and extractable, will perform extraction: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
+        final Detectable detectable = detectorEvaluation.getDetectable();
+
+        notifyListener(DetectorEvaluatorListener::extractionStarted, detectorEvaluation);
+
+        final Discovery discovery = detectorEvaluation.getDiscovery();
+        if (discovery != null && discovery.getExtraction() != null) {
+            logger.debug("Extraction already completed during project discovery.");
+            detectorEvaluation.setExtraction(discovery.getExtraction());
+        } else {
+            final Optional<Extraction> previousExtraction = getPreviousExtractionProvider().flatMap(it -> it.findPreviousExtraction(detectorEvaluation));
+            if (previousExtraction.isPresent()) {
+                logger.debug("Nothing this detector depends on changed since the previous run, reusing its extraction.");
+                detectorEvaluation.setExtraction(previousExtraction.get());
+            } else {
+                try {
+                    final Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
+                    detectorEvaluation.setExtraction(extraction);
+                } catch (final Exception e) {
+                    detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
                 }
+            }
+        }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+        notifyListener(DetectorEvaluatorListener::extractionEnded, detectorEvaluation);
 
-                logger.trace("Extraction result: " + detectorEvaluation.wasExtractionSuccessful());
+        logger.trace("Extraction result: " + detectorEvaluation.wasExtractionSuccessful());
+    }
 
+    // Extractions may run on several threads, or alongside the search when pipelined, so listeners are only ever called by one of them at a time.
+    // Takes the evaluation separately so callers pass non-capturing method references instead of allocating a lambda per notification.
+    private void notifyListener(final BiConsumer<DetectorEvaluatorListener, DetectorEvaluation> notification, final DetectorEvaluation detectorEvaluation) {
+        synchronized (listenerLock) {
+            if (detectorEvaluatorListener != null) {
+                notification.accept(detectorEvaluatorListener, detectorEvaluation);
             }
         }
+    }
 
-        for (final DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            extractionEvaluation(childDetectorEvaluationTree);
+    // Runs a notification the caller publishes itself, such as a progress count, while no listener is being called from another thread.
+    public void runWithListenerLock(final Runnable notification) {
+        synchronized (listenerLock) {
+            notification.run();
         }
     }
 
@@ -267,4 +405,12 @@ public class DetectorEvaluator {
     public void setDetectorEvaluatorListener(final DetectorEvaluatorListener detectorEvaluatorListener) {
         this.detectorEvaluatorListener = detectorEvaluatorListener;
     }
+
+    public Optional<PreviousExtractionProvider> getPreviousExtractionProvider() {
+        return Optional.ofNullable(previousExtractionProvider);
+    }
+
+    public void setPreviousExtractionProvider(final PreviousExtractionProvider previousExtractionProvider) {
+        this.previousExtractionProvider = previousExtractionProvider;
+    }
 }
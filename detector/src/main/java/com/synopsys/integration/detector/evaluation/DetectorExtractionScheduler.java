@@ -0,0 +1,161 @@
+/**
+ * detector
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+
+// Runs extractions on a fixed number of threads, starting them in the order given while never running more of a detector type than its limit allows.
+// Extractions may be submitted all at once or as they become known, followed by a single wait for all of them to finish.
+public class DetectorExtractionScheduler {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final int threads;
+    private final Map<DetectorType, Integer> detectorTypeLimits;
+
+    private final Object lock = new Object();
+    private final List<DetectorEvaluation> pending = new ArrayList<>();
+    private final Map<DetectorType, Integer> running = new HashMap<>();
+    private int active = 0;
+    private RuntimeException failure = null;
+    private ExecutorService executorService = null;
+    private Consumer<DetectorEvaluation> extractor = null;
+
+    public DetectorExtractionScheduler(final int threads, final Map<DetectorType, Integer> detectorTypeLimits) {
+        this.threads = threads;
+        this.detectorTypeLimits = detectorTypeLimits;
+    }
+
+    public void extractAll(final List<DetectorEvaluation> evaluations, final Consumer<DetectorEvaluation> extractor) {
+        logger.debug("Scheduling " + evaluations.size() + " extractions on " + threads + " threads.");
+        start(extractor);
+        try {
+            evaluations.forEach(this::submit);
+            awaitCompletion();
+        } finally {
+            shutdown();
+        }
+    }
+
+    public void start(final Consumer<DetectorEvaluation> extractor) {
+        synchronized (lock) {
+            if (executorService != null) {
+                throw new IllegalStateException("The extraction scheduler has already been started.");
+            }
+            this.extractor = extractor;
+            this.failure = null;
+            this.executorService = Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    public void submit(final DetectorEvaluation detectorEvaluation) {
+        synchronized (lock) {
+            if (executorService == null) {
+                throw new IllegalStateException("The extraction scheduler must be started before extractions are submitted.");
+            }
+            pending.add(detectorEvaluation);
+            dispatch();
+        }
+    }
+
+    public void awaitCompletion() {
+        synchronized (lock) {
+            try {
+                while ((!pending.isEmpty() || active > 0) && failure == null) {
+                    lock.wait();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for extractions to finish.", e);
+            }
+            if (failure != null) {
+                throw new IllegalStateException("An extraction failed unexpectedly.", failure);
+            }
+        }
+    }
+
+    public void shutdown() {
+        synchronized (lock) {
+            if (executorService != null) {
+                executorService.shutdownNow();
+                executorService = null;
+            }
+            pending.clear();
+            running.clear();
+            active = 0;
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void dispatch() {
+        final Iterator<DetectorEvaluation> pendingIterator = pending.iterator();
+        while (active < threads && pendingIterator.hasNext()) {
+            final DetectorEvaluation detectorEvaluation = pendingIterator.next();
+            final DetectorType detectorType = detectorEvaluation.getDetectorRule().getDetectorType();
+            if (hasCapacity(detectorType)) {
+                pendingIterator.remove();
+                running.merge(detectorType, 1, Integer::sum);
+                active++;
+                executorService.execute(() -> run(detectorEvaluation, detectorType));
+            }
+        }
+    }
+
+    private void run(final DetectorEvaluation detectorEvaluation, final DetectorType detectorType) {
+        try {
+            extractor.accept(detectorEvaluation);
+        } catch (final RuntimeException e) {
+            synchronized (lock) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        } finally {
+            synchronized (lock) {
+                if (executorService != null) {
+                    running.merge(detectorType, -1, Integer::sum);
+                    active--;
+                    dispatch();
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private boolean hasCapacity(final DetectorType detectorType) {
+        final Integer limit = detectorTypeLimits.get(detectorType);
+        return limit == null || running.getOrDefault(detectorType, 0) < Math.max(limit, 1);
+    }
+}
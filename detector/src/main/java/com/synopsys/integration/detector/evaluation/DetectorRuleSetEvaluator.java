@@ -22,6 +22,7 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,9 +38,16 @@ import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
 public class DetectorRuleSetEvaluator {
+    // These results carry no state so every directory shares them.
+    private static final DetectorResult EXCLUDED = new ExcludedDetectorResult();
+    private static final DetectorResult FORCED_NESTED_PASSED = new ForcedNestedPassedDetectorResult();
+    private static final DetectorResult NOT_SELF_NESTABLE = new NotSelfNestableDetectorResult();
+    private static final DetectorResult NOT_NESTABLE = new NotNestableDetectorResult();
+    private static final DetectorResult PASSED = new PassedDetectorResult();
+
     public DetectorResult evaluateSearchable(final DetectorRuleSet detectorRuleSet, final DetectorRule detectorRule, final SearchEnvironment environment) {
         if (!environment.getDetectorFilter().test(detectorRule)) {
-            return new ExcludedDetectorResult();
+            return EXCLUDED;
         }
 
         final int maxDepth = detectorRule.getMaxDepth();
@@ -47,26 +55,28 @@ public class DetectorRuleSetEvaluator {
             return new MaxDepthExceededDetectorResult(environment.getDepth(), maxDepth);
         }
 
-        final Set<DetectorRule> yieldTo = environment.getAppliedSoFar().stream()
-                                              .filter(it -> detectorRuleSet.getYieldsTo(detectorRule).contains(it))
+        final int ordinal = detectorRuleSet.getOrdinal(detectorRule);
+        final BitSet yieldsTo = detectorRuleSet.getYieldsToOrdinals(ordinal);
+        if (environment.isAnyAppliedSoFar(yieldsTo)) {
+            final Set<String> yieldedTo = environment.findAppliedSoFar(yieldsTo).stream()
+                                              .mapToObj(detectorRuleSet::getRule)
+                                              .map(DetectorRule::getName)
                                               .collect(Collectors.toSet());
-
-        if (yieldTo.size() > 0) {
-            return new YieldedDetectorResult(yieldTo.stream().map(DetectorRule::getName).collect(Collectors.toSet()));
+            return new YieldedDetectorResult(yieldedTo);
         }
 
         final boolean nestable = detectorRule.isNestable();
         final boolean selfNestable = detectorRule.isSelfNestable();
         if (environment.isForceNestedSearch()) {
-            return new ForcedNestedPassedDetectorResult();
+            return FORCED_NESTED_PASSED;
         } else if (nestable) {
-            if (!selfNestable && environment.getAppliedToParent().stream().anyMatch(parentApplied -> parentApplied.equals(detectorRule))) {
-                return new NotSelfNestableDetectorResult();
+            if (!selfNestable && environment.isAppliedToParent(ordinal)) {
+                return NOT_SELF_NESTABLE;
             }
-        } else if (environment.getAppliedToParent().stream().anyMatch(it -> !it.isNestInvisible())) {
-            return new NotNestableDetectorResult();
+        } else if (environment.isAnyAppliedToParent(detectorRuleSet.getNestVisibleOrdinals())) {
+            return NOT_NESTABLE;
         }
 
-        return new PassedDetectorResult();
+        return PASSED;
     }
 }
@@ -22,25 +22,26 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Predicate;
 
 import com.synopsys.integration.detector.rule.DetectorRule;
 
+// Shared by every evaluation in a directory. Rules are tracked by their ordinal in the directory's rule set.
 public class SearchEnvironment {
     private final int depth;
     private final Predicate<DetectorRule> detectorFilter;
     private final boolean forceNestedSearch;
-    private final Set<DetectorRule> appliedToParent;
-    private final Set<DetectorRule> appliedSoFar;
+    private final BitSet appliedToParent;
+    // Only allocated once a rule applies in this directory, which most directories never do.
+    private BitSet appliedSoFar;
 
-    public SearchEnvironment(final int depth, final Predicate<DetectorRule> detectorFilter, final boolean forceNestedSearch, final Set<DetectorRule> appliedToParent,
-        final Set<DetectorRule> appliedSoFar) {
+    // The applied to parent bit set is shared between sibling directories and is never modified.
+    public SearchEnvironment(final int depth, final Predicate<DetectorRule> detectorFilter, final boolean forceNestedSearch, final BitSet appliedToParent) {
         this.depth = depth;
         this.detectorFilter = detectorFilter;
         this.forceNestedSearch = forceNestedSearch;
         this.appliedToParent = appliedToParent;
-        this.appliedSoFar = appliedSoFar;
     }
 
     public int getDepth() {
@@ -55,11 +56,45 @@ public class SearchEnvironment {
         return forceNestedSearch;
     }
 
-    public Set<DetectorRule> getAppliedToParent() {
-        return appliedToParent;
+    public boolean isAppliedToParent(final int ordinal) {
+        return appliedToParent.get(ordinal);
     }
 
-    public Set<DetectorRule> getAppliedSoFar() {
-        return appliedSoFar;
+    public boolean isAnyAppliedToParent(final BitSet ordinals) {
+        return appliedToParent.intersects(ordinals);
+    }
+
+    public boolean isAnyAppliedSoFar(final BitSet ordinals) {
+        return appliedSoFar != null && appliedSoFar.intersects(ordinals);
+    }
+
+    public BitSet findAppliedSoFar(final BitSet ordinals) {
+        final BitSet applied = new BitSet();
+        if (appliedSoFar != null) {
+            applied.or(appliedSoFar);
+            applied.and(ordinals);
+        }
+        return applied;
+    }
+
+    public int getAppliedSoFarCount() {
+        return appliedSoFar == null ? 0 : appliedSoFar.cardinality();
+    }
+
+    public void markApplied(final int ordinal) {
+        if (appliedSoFar == null) {
+            appliedSoFar = new BitSet();
+        }
+        appliedSoFar.set(ordinal);
+    }
+
+    // What the children of this directory consider applied in their parent, reusing the parent's bit set when nothing applied here.
+    public BitSet getAppliedToChildren() {
+        if (appliedSoFar == null) {
+            return appliedToParent;
+        }
+        final BitSet appliedToChildren = (BitSet) appliedToParent.clone();
+        appliedToChildren.or(appliedSoFar);
+        return appliedToChildren;
     }
 }
@@ -26,17 +26,23 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
@@ -44,48 +50,156 @@ import com.synopsys.integration.detector.rule.DetectorRuleSet;
 public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    @Nullable
+    private final DirectoryListingCache directoryListingCache;
+
+    public DetectorFinder() {
+        this(null);
+    }
+
+    // When a cache is given, the full listing of every traversed directory is stored so detectables can search it without listing again.
+    public DetectorFinder(@Nullable final DirectoryListingCache directoryListingCache) {
+        this.directoryListingCache = directoryListingCache;
+    }
+
     public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
-        return findDetectors(initialDirectory, detectorRuleSet, 0, options);
+        if (options.getParallelism() > 1) {
+            return findDetectorsInParallel(initialDirectory, detectorRuleSet, options);
+        }
+        return findDetectors(initialDirectory, detectorRuleSet, 0, options, null, null);
     }
 
-    private Optional<DetectorEvaluationTree> findDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options)
+    // Traverses sequentially so the listener sees every directory in the same order the tree is evaluated, even when parallelism is configured.
+    public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options, final DetectorFinderDirectoryListener directoryListener)
         throws DetectorFinderDirectoryListException {
+        return findDetectors(initialDirectory, detectorRuleSet, 0, options, null, directoryListener);
+    }
+
+    private Optional<DetectorEvaluationTree> findDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options, @Nullable final DetectorEvaluationTree parentEvaluationTree,
+        @Nullable final DetectorFinderDirectoryListener directoryListener) throws DetectorFinderDirectoryListException {
+
+        if (!shouldTraverse(directory, depth, options)) {
+            return Optional.empty();
+        }
+
+        final List<File> subDirectories = findFilteredSubDirectories(directory, options.getFileFilter());
+
+        final Set<DetectorEvaluationTree> children = new LinkedHashSet<>();
+        final DetectorEvaluationTree evaluationTree = createEvaluationTree(directory, detectorRuleSet, depth, children);
+        if (directoryListener != null) {
+            directoryListener.directoryFound(evaluationTree, parentEvaluationTree);
+        }
+
+        for (final File subDirectory : subDirectories) {
+            final Optional<DetectorEvaluationTree> childEvaluationSet = findDetectors(subDirectory, detectorRuleSet, depth + 1, options, evaluationTree, directoryListener);
+            childEvaluationSet.ifPresent(children::add);
+        }
+
+        return Optional.of(evaluationTree);
+    }
+
+    private Optional<DetectorEvaluationTree> findDetectorsInParallel(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
+        logger.debug("Traversing directories using " + options.getParallelism() + " threads.");
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(options.getParallelism());
+        try {
+            return forkJoinPool.invoke(new DirectoryTraversalTask(initialDirectory, detectorRuleSet, 0, options));
+        } catch (final RuntimeException e) {
+            // The fork join pool may rethrow a copy of the task's exception, so search the cause chain for the original listing failure.
+            Throwable cause = e;
+            while (cause != null) {
+                if (cause instanceof DetectorFinderDirectoryListException) {
+                    throw (DetectorFinderDirectoryListException) cause;
+                }
+                cause = cause.getCause();
+            }
+            throw e;
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
 
+    private boolean shouldTraverse(final File directory, final int depth, final DetectorFinderOptions options) {
         if (depth > options.getMaximumDepth()) {
             logger.trace("Skipping directory as it exceeds max depth: " + directory.toString());
-            return Optional.empty();
+            return false;
         }
 
         if (null == directory || Files.isSymbolicLink(directory.toPath()) || !directory.isDirectory()) {
             final String directoryString = Optional.ofNullable(directory).map(File::toString).orElse("null");
             logger.trace("Skipping file as it is not a directory: " + directoryString);
-            return Optional.empty();
+            return false;
         }
 
         logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
+        return true;
+    }
+
+    private DetectorEvaluationTree createEvaluationTree(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final Set<DetectorEvaluationTree> children) {
         final List<DetectorEvaluation> evaluations = detectorRuleSet.getOrderedDetectorRules().stream()
                                                          .map(DetectorEvaluation::new)
                                                          .collect(Collectors.toList());
 
-        final Set<DetectorEvaluationTree> children = new HashSet<>();
-
-        final List<File> subDirectories = findFilteredSubDirectories(directory, options.getFileFilter());
-        for (final File subDirectory : subDirectories) {
-            final Optional<DetectorEvaluationTree> childEvaluationSet = findDetectors(subDirectory, detectorRuleSet, depth + 1, options);
-            childEvaluationSet.ifPresent(children::add);
-        }
-
-        return Optional.of(new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children));
+        return new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children);
     }
 
+    // Sub directories are sorted by name so the resulting tree is the same regardless of how it was traversed.
     private List<File> findFilteredSubDirectories(final File directory, final Predicate<File> filePredicate) throws DetectorFinderDirectoryListException {
+        final File[] allFiles;
         try (final Stream<Path> pathStream = Files.list(directory.toPath())) {
-            return pathStream.map(Path::toFile)
-                       .filter(File::isDirectory)
-                       .filter(filePredicate)
-                       .collect(Collectors.toList());
+            allFiles = pathStream.map(Path::toFile).toArray(File[]::new);
         } catch (final IOException e) {
             throw new DetectorFinderDirectoryListException(String.format("Could not get the subdirectories for %s. %s", directory.getAbsolutePath(), e.getMessage()), e);
         }
+
+        if (directoryListingCache != null) {
+            directoryListingCache.put(directory, allFiles);
+        }
+
+        return Arrays.stream(allFiles)
+                   .filter(File::isDirectory)
+                   .filter(filePredicate)
+                   .sorted(Comparator.comparing(File::getName))
+                   .collect(Collectors.toList());
+    }
+
+    private class DirectoryTraversalTask extends RecursiveTask<Optional<DetectorEvaluationTree>> {
+        private final File directory;
+        private final DetectorRuleSet detectorRuleSet;
+        private final int depth;
+        private final DetectorFinderOptions options;
+
+        public DirectoryTraversalTask(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options) {
+            this.directory = directory;
+            this.detectorRuleSet = detectorRuleSet;
+            this.depth = depth;
+            this.options = options;
+        }
+
+        @Override
+        protected Optional<DetectorEvaluationTree> compute() {
+            if (!shouldTraverse(directory, depth, options)) {
+                return Optional.empty();
+            }
+
+            final List<File> subDirectories;
+            try {
+                subDirectories = findFilteredSubDirectories(directory, options.getFileFilter());
+            } catch (final DetectorFinderDirectoryListException e) {
+                throw new IllegalStateException(e);
+            }
+
+            final List<DirectoryTraversalTask> childTasks = subDirectories.stream()
+                                                                .map(subDirectory -> new DirectoryTraversalTask(subDirectory, detectorRuleSet, depth + 1, options))
+                                                                .collect(Collectors.toList());
+            invokeAll(childTasks);
+
+            // Children are joined in the order they were listed to keep the tree deterministic.
+            final Set<DetectorEvaluationTree> children = new LinkedHashSet<>();
+            for (final DirectoryTraversalTask childTask : childTasks) {
+                childTask.join().ifPresent(children::add);
+            }
+
+            return Optional.of(createEvaluationTree(directory, detectorRuleSet, depth, children));
+        }
     }
 }
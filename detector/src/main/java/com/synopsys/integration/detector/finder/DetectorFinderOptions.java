@@ -28,10 +28,16 @@ import java.util.function.Predicate;
 public class DetectorFinderOptions {
     private final Predicate<File> fileFilter;
     private final int maximumDepth;
+    private final int parallelism;
 
     public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth) {
+        this(fileFilter, maximumDepth, 1);
+    }
+
+    public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth, final int parallelism) {
         this.fileFilter = fileFilter;
         this.maximumDepth = maximumDepth;
+        this.parallelism = parallelism;
     }
 
     public Predicate<File> getFileFilter() {
@@ -41,4 +47,9 @@ public class DetectorFinderOptions {
     public int getMaximumDepth() {
         return maximumDepth;
     }
+
+    // When greater than one, sibling directories are traversed concurrently on a fork join pool of this size.
+    public int getParallelism() {
+        return parallelism;
+    }
 }
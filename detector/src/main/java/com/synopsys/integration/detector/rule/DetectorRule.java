@@ -22,6 +22,9 @@
  */
 package com.synopsys.integration.detector.rule;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detector.base.DetectableCreatable;
@@ -37,9 +40,15 @@ public class DetectorRule<T extends Detectable> {
     private final DetectorType detectorType;
     private final String name;
     private final boolean nestInvisible;
+    private final List<String> triggerFilePatterns;
 
     public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
         boolean nestInvisible) {
+        this(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, Collections.emptyList());
+    }
+
+    public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
+        boolean nestInvisible, List<String> triggerFilePatterns) {
         this.detectableCreatable = detectableCreatable;
         this.detectableClass = detectableClass;
         this.maxDepth = maxDepth;
@@ -48,6 +57,7 @@ public class DetectorRule<T extends Detectable> {
         this.detectorType = detectorType;
         this.name = name;
         this.nestInvisible = nestInvisible;
+        this.triggerFilePatterns = triggerFilePatterns;
     }
 
     public DetectableCreatable getDetectableCreatable() {
@@ -89,4 +99,9 @@ public class DetectorRule<T extends Detectable> {
     public Class<T> getDetectableClass() {
         return detectableClass;
     }
+
+    // The detectable can only apply when one of these file name patterns is in the directory. When empty, the detectable must always be asked.
+    public List<String> getTriggerFilePatterns() {
+        return triggerFilePatterns;
+    }
 }
@@ -22,6 +22,10 @@
  */
 package com.synopsys.integration.detector.rule;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detector.base.DetectableCreatable;
 import com.synopsys.integration.detector.base.DetectorType;
@@ -33,6 +37,7 @@ public class DetectorRuleBuilder<T extends Detectable> {
     private boolean nestable;
     private boolean selfNestable = false;
     private boolean nestInvisible = false;
+    private final List<String> triggerFilePatterns = new ArrayList<>();
 
     private final String name;
     private final DetectorType detectorType;
@@ -102,8 +107,17 @@ public class DetectorRuleBuilder<T extends Detectable> {
         return isSelfNestable(false);
     }
 
+    public DetectorRuleBuilder triggeredBy(final String... filePatterns) {
+        return triggeredBy(Arrays.asList(filePatterns));
+    }
+
+    public DetectorRuleBuilder triggeredBy(final List<String> filePatterns) {
+        this.triggerFilePatterns.addAll(filePatterns);
+        return this;
+    }
+
     public DetectorRule build() {
-        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible);
+        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, new ArrayList<>(triggerFilePatterns));
         if (detectorRuleSetBuilder != null) {
             detectorRuleSetBuilder.add(rule);
         }
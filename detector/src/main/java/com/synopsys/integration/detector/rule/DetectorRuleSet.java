@@ -22,9 +22,13 @@
  */
 package com.synopsys.integration.detector.rule;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,24 +36,71 @@ public class DetectorRuleSet {
     private final List<DetectorRule> orderedRules;
     private final Map<DetectorRule, Set<DetectorRule>> yieldsToRules;
     private final Map<DetectorRule, DetectorRule> fallbackRules;
+    private final DetectorRuleTriggerIndex triggerIndex;
+
+    // The search tracks rules by their position in the ordered rules so it can use bit sets instead of collections of rules.
+    private final Map<DetectorRule, Integer> ordinals = new HashMap<>();
+    private final List<BitSet> yieldsToOrdinals = new ArrayList<>();
+    private final BitSet nestVisibleOrdinals = new BitSet();
 
     public DetectorRuleSet(final List<DetectorRule> orderedRules, Map<DetectorRule, Set<DetectorRule>> yieldsToRules,
         final Map<DetectorRule, DetectorRule> fallbackRules) {
         this.orderedRules = orderedRules;
         this.yieldsToRules = yieldsToRules;
         this.fallbackRules = fallbackRules;
+        this.triggerIndex = new DetectorRuleTriggerIndex(orderedRules);
+
+        for (int ordinal = 0; ordinal < orderedRules.size(); ordinal++) {
+            ordinals.put(orderedRules.get(ordinal), ordinal);
+        }
+        for (final DetectorRule rule : orderedRules) {
+            final BitSet yieldsTo = new BitSet();
+            getYieldsTo(rule).stream()
+                .map(ordinals::get)
+                .filter(Objects::nonNull)
+                .forEach(yieldsTo::set);
+            yieldsToOrdinals.add(yieldsTo);
+            if (!rule.isNestInvisible()) {
+                nestVisibleOrdinals.set(getOrdinal(rule));
+            }
+        }
     }
 
     public List<DetectorRule> getOrderedDetectorRules() {
         return orderedRules;
     }
 
+    public DetectorRuleTriggerIndex getTriggerIndex() {
+        return triggerIndex;
+    }
+
     public Set<DetectorRule> getYieldsTo(DetectorRule rule) {
         if (yieldsToRules.containsKey(rule))
             return yieldsToRules.get(rule);
         return new HashSet<>();
     }
 
+    public int getOrdinal(final DetectorRule rule) {
+        final Integer ordinal = ordinals.get(rule);
+        if (ordinal == null) {
+            throw new IllegalArgumentException("The detector rule " + rule.getDescriptiveName() + " is not part of this rule set.");
+        }
+        return ordinal;
+    }
+
+    public DetectorRule getRule(final int ordinal) {
+        return orderedRules.get(ordinal);
+    }
+
+    // The returned bit sets are shared and must not be modified.
+    public BitSet getYieldsToOrdinals(final int ordinal) {
+        return yieldsToOrdinals.get(ordinal);
+    }
+
+    public BitSet getNestVisibleOrdinals() {
+        return nestVisibleOrdinals;
+    }
+
     public Optional<DetectorRule> getFallbackTo(DetectorRule rule) {
         if (fallbackRules.containsKey(rule))
             return Optional.of(fallbackRules.get(rule));
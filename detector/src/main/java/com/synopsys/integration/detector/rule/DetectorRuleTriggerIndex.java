@@ -0,0 +1,102 @@
+/**
+ * detector
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detector.rule;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+
+// Answers which rules could apply to a directory from its file names alone, matching patterns case sensitively like the WildcardFileFinder.
+// Rules are identified by their position in the list the index was created with.
+public class DetectorRuleTriggerIndex {
+    // Shared result for directories that trigger nothing, callers must not modify it.
+    private static final BitSet NONE_TRIGGERED = new BitSet(0);
+
+    private final Map<String, BitSet> rulesByFileName = new HashMap<>();
+    private final Map<String, BitSet> rulesByExtension = new HashMap<>();
+    private final Map<String, BitSet> rulesByWildcard = new HashMap<>();
+    private final BitSet rulesWithTriggers = new BitSet();
+
+    public DetectorRuleTriggerIndex(final List<DetectorRule> rules) {
+        for (int ordinal = 0; ordinal < rules.size(); ordinal++) {
+            final List<String> patterns = rules.get(ordinal).getTriggerFilePatterns();
+            for (final String pattern : patterns) {
+                if (!hasWildcard(pattern)) {
+                    rulesByFileName.computeIfAbsent(pattern, key -> new BitSet()).set(ordinal);
+                } else if (pattern.startsWith("*.") && pattern.lastIndexOf('.') == 1 && !hasWildcard(pattern.substring(1))) {
+                    rulesByExtension.computeIfAbsent(pattern.substring(1), key -> new BitSet()).set(ordinal);
+                } else {
+                    rulesByWildcard.computeIfAbsent(pattern, key -> new BitSet()).set(ordinal);
+                }
+                rulesWithTriggers.set(ordinal);
+            }
+        }
+    }
+
+    public boolean hasTriggers() {
+        return !rulesWithTriggers.isEmpty();
+    }
+
+    // Rules without trigger patterns are always considered triggered.
+    public boolean isTriggered(final int ordinal, final BitSet triggered) {
+        return !rulesWithTriggers.get(ordinal) || triggered.get(ordinal);
+    }
+
+    // Only allocates once a file name matches, most directories trigger nothing. The returned set must not be modified.
+    public BitSet findTriggeredRules(final String[] fileNames) {
+        if (fileNames == null) {
+            return NONE_TRIGGERED;
+        }
+        BitSet triggered = NONE_TRIGGERED;
+        for (final String fileName : fileNames) {
+            triggered = addTriggered(triggered, rulesByFileName.get(fileName));
+            final int extensionIndex = fileName.lastIndexOf('.');
+            if (extensionIndex >= 0 && !rulesByExtension.isEmpty()) {
+                triggered = addTriggered(triggered, rulesByExtension.get(fileName.substring(extensionIndex)));
+            }
+            for (final Map.Entry<String, BitSet> wildcard : rulesByWildcard.entrySet()) {
+                if (FilenameUtils.wildcardMatch(fileName, wildcard.getKey(), IOCase.SENSITIVE)) {
+                    triggered = addTriggered(triggered, wildcard.getValue());
+                }
+            }
+        }
+        return triggered;
+    }
+
+    private BitSet addTriggered(final BitSet triggered, final BitSet rules) {
+        if (rules == null) {
+            return triggered;
+        }
+        final BitSet result = triggered == NONE_TRIGGERED ? new BitSet() : triggered;
+        result.or(rules);
+        return result;
+    }
+
+    private boolean hasWildcard(final String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0;
+    }
+}
@@ -23,26 +23,33 @@
 package com.synopsys.integration.detector.evaluation;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.result.DetectorResult;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
+import com.synopsys.integration.detector.rule.DetectorRuleSetBuilder;
 
 public class DetectorEvaluatorTest {
 
@@ -52,8 +59,6 @@ public class DetectorEvaluatorTest {
         final DetectorEvaluator evaluator = new DetectorEvaluator(evaluationOptions);
         final DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
         Mockito.when(detectorEvaluationTree.getDirectory()).thenReturn(new File("."));
-        final Set<DetectorRule> appliedInParent = new HashSet<>();
-
         final DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
         Mockito.when(detectorEvaluation.isApplicable()).thenReturn(true);
         final List<DetectorEvaluation> detectorEvaluations = Collections.singletonList(detectorEvaluation);
@@ -65,6 +70,8 @@ public class DetectorEvaluatorTest {
         final DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
         Mockito.when(detectorRule.getDescriptiveName()).thenReturn("test rule");
         Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(Collections.singletonList(detectorRule), new HashMap<>(), new HashMap<>());
+        Mockito.when(detectorEvaluationTree.getDetectorRuleSet()).thenReturn(detectorRuleSet);
 
         Mockito.when(detectorEvaluationTree.getDepthFromRoot()).thenReturn(0);
         Mockito.when(evaluationOptions.isForceNested()).thenReturn(true);
@@ -76,7 +83,7 @@ public class DetectorEvaluatorTest {
         Mockito.when(detectorRule.createDetectable(Mockito.any(DetectableEnvironment.class))).thenReturn(detectable);
         Mockito.when(detectable.applicable()).thenReturn(new PassedDetectableResult());
 
-        evaluator.searchAndApplicableEvaluation(detectorEvaluationTree, appliedInParent);
+        evaluator.searchAndApplicableEvaluation(detectorEvaluationTree);
 
         Mockito.verify(detectorEvaluatorListener).applicableStarted(detectorEvaluation);
         Mockito.verify(detectorRule).createDetectable(Mockito.any(DetectableEnvironment.class));
@@ -129,4 +136,27 @@ public class DetectorEvaluatorTest {
         Mockito.verify(detectorEvaluation).setExtractable(Mockito.any(DetectorResult.class));
         Mockito.verify(detectorEvaluatorListener).extractableEnded(detectorEvaluation);
     }
+
+    @Test
+    public void testTriggersMatchedAgainstCachedListing(@TempDir final Path tempDirectory) throws IOException {
+        final File directory = tempDirectory.toFile();
+        Files.createFile(tempDirectory.resolve("pom.xml"));
+        // The cached listing wins over the directory on disk, so the rule is not triggered and its detectable is never created.
+        final DirectoryListingCache directoryListingCache = new DirectoryListingCache();
+        directoryListingCache.put(directory, new File[0]);
+
+        final DetectorRuleSetBuilder ruleSetBuilder = new DetectorRuleSetBuilder();
+        final DetectorRule detectorRule = ruleSetBuilder.addDetector(DetectorType.MAVEN, "Pom", Detectable.class, null).triggeredBy("pom.xml").defaults().build();
+        final DetectorRuleSet detectorRuleSet = ruleSetBuilder.build();
+        final DetectorEvaluation detectorEvaluation = new DetectorEvaluation(detectorRule);
+        final DetectorEvaluationTree detectorEvaluationTree = new DetectorEvaluationTree(directory, 0, detectorRuleSet, Collections.singletonList(detectorEvaluation), Collections.emptySet());
+
+        final DetectorEvaluator evaluator = new DetectorEvaluator(new DetectorEvaluationOptions(false, it -> true), directoryListingCache);
+        evaluator.searchAndApplicableEvaluation(detectorEvaluationTree);
+
+        Assertions.assertTrue(detectorEvaluation.isSearchable());
+        Assertions.assertFalse(detectorEvaluation.isApplicable());
+        Assertions.assertNull(detectorEvaluation.getDetectable());
+        Assertions.assertEquals(1, directoryListingCache.getHits());
+    }
 }
@@ -0,0 +1,135 @@
+/**
+ * detector
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.Discovery;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class DetectorExtractionSchedulerTest {
+    @Test
+    public void testLimitedTypeNeverOverlaps() {
+        final List<DetectorEvaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            evaluations.add(mockEvaluation(DetectorType.GRADLE));
+            evaluations.add(mockEvaluation(DetectorType.NPM));
+        }
+
+        final AtomicInteger runningGradle = new AtomicInteger();
+        final AtomicInteger maxRunningGradle = new AtomicInteger();
+        final Map<DetectorEvaluation, Boolean> extracted = new ConcurrentHashMap<>();
+
+        final DetectorExtractionScheduler scheduler = new DetectorExtractionScheduler(4, Collections.singletonMap(DetectorType.GRADLE, 1));
+        scheduler.extractAll(evaluations, evaluation -> {
+            final boolean isGradle = evaluation.getDetectorRule().getDetectorType() == DetectorType.GRADLE;
+            if (isGradle) {
+                maxRunningGradle.accumulateAndGet(runningGradle.incrementAndGet(), Math::max);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (isGradle) {
+                runningGradle.decrementAndGet();
+            }
+            extracted.put(evaluation, true);
+        });
+
+        assertEquals(evaluations.size(), extracted.size());
+        assertEquals(1, maxRunningGradle.get());
+        assertTrue(evaluations.stream().allMatch(extracted::containsKey));
+    }
+
+    @Test
+    public void testSubmittedWhileRunning() {
+        final List<DetectorEvaluation> extracted = Collections.synchronizedList(new ArrayList<>());
+        final DetectorExtractionScheduler scheduler = new DetectorExtractionScheduler(2, Collections.emptyMap());
+        scheduler.start(extracted::add);
+        try {
+            final List<DetectorEvaluation> evaluations = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                final DetectorEvaluation evaluation = mockEvaluation(DetectorType.NPM);
+                evaluations.add(evaluation);
+                scheduler.submit(evaluation);
+            }
+            scheduler.awaitCompletion();
+
+            assertEquals(evaluations.size(), extracted.size());
+            assertTrue(extracted.containsAll(evaluations));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testDiscoveryShareTheTypeLimit() {
+        final AtomicInteger runningGradle = new AtomicInteger();
+        final AtomicInteger maxRunningGradle = new AtomicInteger();
+        final List<DetectorEvaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final DetectorEvaluation evaluation = mockEvaluation(DetectorType.GRADLE);
+            final Detectable detectable = Mockito.mock(Detectable.class);
+            // Like the default discovery, a gradle discovery is a full build.
+            Mockito.when(detectable.discover(Mockito.nullable(ExtractionEnvironment.class))).thenAnswer(invocation -> {
+                maxRunningGradle.accumulateAndGet(runningGradle.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                runningGradle.decrementAndGet();
+                return new Discovery.Builder().skipped().build();
+            });
+            Mockito.when(evaluation.getDetectable()).thenReturn(detectable);
+            evaluations.add(evaluation);
+        }
+
+        final DetectorEvaluator detectorEvaluator = new DetectorEvaluator(new DetectorEvaluationOptions(false, rule -> true));
+        final DetectorExtractionScheduler scheduler = new DetectorExtractionScheduler(4, Collections.singletonMap(DetectorType.GRADLE, 1));
+        scheduler.extractAll(evaluations, evaluation -> detectorEvaluator.discoverAndExtract(evaluation, it -> true));
+
+        assertEquals(1, maxRunningGradle.get());
+        evaluations.forEach(evaluation -> Mockito.verify(evaluation).setDiscovery(Mockito.any(Discovery.class)));
+    }
+
+    private DetectorEvaluation mockEvaluation(final DetectorType detectorType) {
+        final DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDetectorType()).thenReturn(detectorType);
+        final DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        return detectorEvaluation;
+    }
+}
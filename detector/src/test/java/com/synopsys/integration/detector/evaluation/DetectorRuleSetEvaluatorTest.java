@@ -22,34 +22,42 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.result.DetectorResult;
+import com.synopsys.integration.detector.result.NotNestableDetectorResult;
+import com.synopsys.integration.detector.result.NotSelfNestableDetectorResult;
+import com.synopsys.integration.detector.result.YieldedDetectorResult;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
+import com.synopsys.integration.detector.rule.DetectorRuleSetBuilder;
 
 public class DetectorRuleSetEvaluatorTest {
 
     @Test
     public void test() {
 
-        final DetectorRuleSet detectorRuleSet = Mockito.mock(DetectorRuleSet.class);
         final DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(Collections.singletonList(detectorRule), new HashMap<>(), new HashMap<>());
         final SearchEnvironment environment = Mockito.mock(SearchEnvironment.class);
 
         final Predicate<DetectorRule> rulePredicate = it -> true;
         Mockito.when(environment.getDetectorFilter()).thenReturn(rulePredicate);
         Mockito.when(detectorRule.getMaxDepth()).thenReturn(1);
         Mockito.when(environment.getDepth()).thenReturn(0);
-        final Set<DetectorRule> appliedSoFar = new HashSet<>();
-        Mockito.when(environment.getAppliedSoFar()).thenReturn(appliedSoFar);
+        Mockito.when(environment.isAnyAppliedSoFar(Mockito.any(BitSet.class))).thenReturn(false);
         Mockito.when(detectorRule.isNestable()).thenReturn(true);
         Mockito.when(environment.isForceNestedSearch()).thenReturn(false);
 
@@ -58,4 +66,42 @@ public class DetectorRuleSetEvaluatorTest {
 
         assertTrue(result.getPassed());
     }
+
+    @Test
+    public void testYieldsToRuleAppliedInSameDirectory() {
+        final DetectorRuleSetBuilder ruleSetBuilder = new DetectorRuleSetBuilder();
+        final DetectorRule preferred = ruleSetBuilder.addDetector(DetectorType.NPM, "Preferred", Detectable.class, null).defaults().build();
+        final DetectorRule yielding = ruleSetBuilder.addDetector(DetectorType.NPM, "Yielding", Detectable.class, null).defaults().build();
+        ruleSetBuilder.yield(yielding).to(preferred);
+        final DetectorRuleSet detectorRuleSet = ruleSetBuilder.build();
+
+        final SearchEnvironment environment = new SearchEnvironment(0, it -> true, false, new BitSet());
+        final DetectorRuleSetEvaluator evaluator = new DetectorRuleSetEvaluator();
+        assertTrue(evaluator.evaluateSearchable(detectorRuleSet, yielding, environment).getPassed());
+
+        environment.markApplied(detectorRuleSet.getOrdinal(preferred));
+        final DetectorResult result = evaluator.evaluateSearchable(detectorRuleSet, yielding, environment);
+        assertFalse(result.getPassed());
+        assertEquals(YieldedDetectorResult.class, result.getClass());
+    }
+
+    @Test
+    public void testNestingAgainstParent() {
+        final DetectorRuleSetBuilder ruleSetBuilder = new DetectorRuleSetBuilder();
+        final DetectorRule notSelfNestable = ruleSetBuilder.addDetector(DetectorType.NPM, "Not Self Nestable", Detectable.class, null).defaults().build();
+        final DetectorRule notNestable = ruleSetBuilder.addDetector(DetectorType.GIT, "Not Nestable", Detectable.class, null).noMaxDepth().notNestable().build();
+        final DetectorRule invisible = ruleSetBuilder.addDetector(DetectorType.GIT, "Invisible", Detectable.class, null).defaults().invisibleToNesting().build();
+        final DetectorRuleSet detectorRuleSet = ruleSetBuilder.build();
+        final DetectorRuleSetEvaluator evaluator = new DetectorRuleSetEvaluator();
+
+        final SearchEnvironment parent = new SearchEnvironment(0, it -> true, false, new BitSet());
+        parent.markApplied(detectorRuleSet.getOrdinal(invisible));
+        final SearchEnvironment belowInvisible = new SearchEnvironment(1, it -> true, false, parent.getAppliedToChildren());
+        assertTrue(evaluator.evaluateSearchable(detectorRuleSet, notNestable, belowInvisible).getPassed());
+
+        belowInvisible.markApplied(detectorRuleSet.getOrdinal(notSelfNestable));
+        final SearchEnvironment child = new SearchEnvironment(2, it -> true, false, belowInvisible.getAppliedToChildren());
+        assertEquals(NotSelfNestableDetectorResult.class, evaluator.evaluateSearchable(detectorRuleSet, notSelfNestable, child).getClass());
+        assertEquals(NotNestableDetectorResult.class, evaluator.evaluateSearchable(detectorRuleSet, notNestable, child).getClass());
+    }
 }
@@ -32,9 +32,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -145,4 +147,58 @@ public class DetectorFinderTest {
         assertEquals("regularDir", subDirContentsName);
     }
 
+    @Test
+    @DisabledOnOs(WINDOWS) //TODO: See if we can fix on windows.
+    public void testParallelMatchesSequential() throws DetectorFinderDirectoryListException {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final File initialDirectory = initialDirectoryPath.toFile();
+        final File subDir = new File(initialDirectory, "testParallel");
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                new File(subDir, "dir" + i + File.separator + "dir" + j).mkdirs();
+            }
+        }
+
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0), new HashMap<>(0));
+        final Predicate<File> fileFilter = f -> true;
+        final int maximumDepth = 10;
+
+        final DetectorFinder finder = new DetectorFinder();
+        final Optional<DetectorEvaluationTree> sequentialTree = finder.findDetectors(subDir, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 1));
+        final Optional<DetectorEvaluationTree> parallelTree = finder.findDetectors(subDir, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 4));
+
+        final List<File> sequentialDirectories = sequentialTree.get().asFlatList().stream().map(DetectorEvaluationTree::getDirectory).collect(Collectors.toList());
+        final List<File> parallelDirectories = parallelTree.get().asFlatList().stream().map(DetectorEvaluationTree::getDirectory).collect(Collectors.toList());
+
+        assertEquals(31, sequentialDirectories.size());
+        assertEquals(sequentialDirectories, parallelDirectories);
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS) //TODO: See if we can fix on windows.
+    public void testListenerFindsParentsFirst() throws DetectorFinderDirectoryListException {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final File initialDirectory = initialDirectoryPath.toFile();
+        final File subDir = new File(initialDirectory, "testListener");
+        new File(subDir, "dir1" + File.separator + "dir2").mkdirs();
+        new File(subDir, "dir3").mkdirs();
+
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0), new HashMap<>(0));
+        final DetectorFinderOptions options = new DetectorFinderOptions(f -> true, 10);
+
+        final List<DetectorEvaluationTree> found = new ArrayList<>();
+        final DetectorFinder finder = new DetectorFinder();
+        final Optional<DetectorEvaluationTree> tree = finder.findDetectors(subDir, detectorRuleSet, options, (evaluationTree, parentEvaluationTree) -> {
+            if (parentEvaluationTree == null) {
+                assertTrue(found.isEmpty());
+            } else {
+                assertTrue(found.contains(parentEvaluationTree));
+            }
+            found.add(evaluationTree);
+        });
+
+        assertEquals(tree.get().asFlatList(), found);
+    }
 }
@@ -0,0 +1,69 @@
+/**
+ * detector
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detector.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class DetectorRuleTriggerIndexTest {
+    @Test
+    public void testMatchesNamesExtensionsAndWildcards() {
+        final DetectorRule pom = mockRule("pom.xml");
+        final DetectorRule solution = mockRule("*.sln");
+        final DetectorRule gemspec = mockRule("some*.gemspec");
+        final DetectorRule untriggered = mockRule();
+
+        final DetectorRuleTriggerIndex index = new DetectorRuleTriggerIndex(Arrays.asList(pom, solution, gemspec, untriggered));
+        assertTrue(index.hasTriggers());
+
+        final BitSet triggered = index.findTriggeredRules(new String[] { "pom.xml", "project.sln", "other.gemspec" });
+        assertEquals(2, triggered.cardinality());
+        assertTrue(index.isTriggered(0, triggered));
+        assertTrue(index.isTriggered(1, triggered));
+        assertFalse(index.isTriggered(2, triggered));
+        assertTrue(index.isTriggered(3, triggered));
+
+        assertTrue(index.findTriggeredRules(new String[] { "POM.XML", "project.sln.bak" }).isEmpty());
+        assertTrue(index.findTriggeredRules(null).isEmpty());
+    }
+
+    @Test
+    public void testNoTriggers() {
+        final DetectorRuleTriggerIndex index = new DetectorRuleTriggerIndex(Collections.singletonList(mockRule()));
+        assertFalse(index.hasTriggers());
+    }
+
+    private DetectorRule mockRule(final String... patterns) {
+        final DetectorRule rule = Mockito.mock(DetectorRule.class);
+        Mockito.when(rule.getTriggerFilePatterns()).thenReturn(Arrays.asList(patterns));
+        return rule;
+    }
+}
@@ -44,10 +44,14 @@ import com.synopsys.integration.detect.configuration.DetectUserFriendlyException
 import com.synopsys.integration.detect.configuration.DetectableOptionFactory;
 import com.synopsys.integration.detect.configuration.connection.ConnectionFactory;
 import com.synopsys.integration.detect.tool.detector.DetectDetectableFactory;
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableResolver;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableRunner;
 import com.synopsys.integration.detect.tool.detector.executable.DirectoryExecutableFinder;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableCacheOptions;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableTimeoutPolicy;
 import com.synopsys.integration.detect.tool.detector.executable.SystemPathExecutableFinder;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.detector.inspectors.ArtifactoryDockerInspectorResolver;
 import com.synopsys.integration.detect.tool.detector.inspectors.ArtifactoryGradleInspectorResolver;
 import com.synopsys.integration.detect.tool.detector.inspectors.DockerInspectorInstaller;
@@ -74,7 +78,11 @@ import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameGen
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detectable.detectable.executable.CacheableExecutables;
+import com.synopsys.integration.detectable.detectable.executable.CachingExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.DiskExecutableOutputCache;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 import com.synopsys.integration.detectable.detectable.inspector.GradleInspectorResolver;
@@ -82,12 +90,17 @@ import com.synopsys.integration.detectable.detectable.inspector.PipInspectorReso
 import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorResolver;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResolver;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptCreator;
+import com.synopsys.integration.detectable.extraction.cache.DiskExtractionCache;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detectable.extraction.cache.NoExtractionCache;
 import com.synopsys.integration.detectable.factory.DetectableFactory;
 
 import freemarker.template.Configuration;
 
 @org.springframework.context.annotation.Configuration
 public class RunBeanConfiguration {
+    private static final int EXECUTABLE_CACHE_MAX_ENTRIES = 1000;
+
     @Autowired
     public DetectRun detectRun;
     @Autowired
@@ -103,6 +116,8 @@ public class RunBeanConfiguration {
     @Autowired
     public Gson gson;
     @Autowired
+    public DetectorThreadContext detectorThreadContext;
+    @Autowired
     public Configuration configuration;
     @Autowired
     public DocumentBuilder documentBuilder;
@@ -119,10 +134,16 @@ public class RunBeanConfiguration {
         return new WildcardFileFinder();
     }
 
+    //Shared between the detector search and the filtered file finder so detectables can answer from the listings taken during the search.
+    @Bean
+    public DirectoryListingCache directoryListingCache() {
+        return new DirectoryListingCache();
+    }
+
     //Be mindful of using this file finder, it filters based on detector exclusions, it's VERY DIFFERENT from the FULL file finder above.
     @Bean
     public FileFinder filteredFileFinder() {
-        return detectConfigurationFactory.createFilteredFileFinder(directoryManager.getSourceDirectory().toPath());
+        return detectConfigurationFactory.createFilteredFileFinder(directoryManager.getSourceDirectory().toPath(), directoryListingCache());
     }
 
     @Bean
@@ -168,8 +189,22 @@ public class RunBeanConfiguration {
     }
 
     @Bean
-    public ExecutableRunner executableRunner() {
-        return DetectExecutableRunner.newDebug(eventSystem);
+    public ExecutableTimeoutPolicy executableTimeoutPolicy() throws DetectUserFriendlyException {
+        return new ExecutableTimeoutPolicy(detectConfigurationFactory.createExecutableTimeoutOptions(), detectorThreadContext);
+    }
+
+    @Bean
+    public ExecutableRunner executableRunner() throws DetectUserFriendlyException {
+        final DetectExecutableRunner detectExecutableRunner = DetectExecutableRunner.newDebug(eventSystem, executableTimeoutPolicy(), detectorThreadContext);
+        final ExecutableCacheOptions executableCacheOptions = detectConfigurationFactory.createExecutableCacheOptions();
+        if (!executableCacheOptions.isEnabled()) {
+            return detectExecutableRunner;
+        }
+        DiskExecutableOutputCache diskExecutableOutputCache = null;
+        if (executableCacheOptions.isPersistent()) {
+            diskExecutableOutputCache = new DiskExecutableOutputCache(directoryManager.getPermanentDirectory("executable-cache"), EXECUTABLE_CACHE_MAX_ENTRIES, gson);
+        }
+        return new CachingExecutableRunner(detectExecutableRunner, CacheableExecutables.standard(), diskExecutableOutputCache);
     }
 
     @Bean
@@ -230,13 +265,22 @@ public class RunBeanConfiguration {
     }
 
     @Bean()
-    public DetectableFactory detectableFactory() {
-        return new DetectableFactory(filteredFileFinder(), executableRunner(), externalIdFactory(), gson);
+    public ExtractionCache extractionCache() {
+        ExtractionCacheOptions extractionCacheOptions = detectConfigurationFactory.createExtractionCacheOptions();
+        if (extractionCacheOptions.isEnabled()) {
+            return new DiskExtractionCache(directoryManager.getPermanentDirectory("extraction-cache"), extractionCacheOptions.getMaxEntries(), detectInfo.getDetectVersion(), gson);
+        }
+        return new NoExtractionCache();
+    }
+
+    @Bean()
+    public DetectableFactory detectableFactory() throws DetectUserFriendlyException {
+        return new DetectableFactory(filteredFileFinder(), executableRunner(), externalIdFactory(), gson, extractionCache());
     }
 
     @Bean()
     public DetectDetectableFactory detectDetectableFactory() throws DetectUserFriendlyException {
-        return new DetectDetectableFactory(detectableFactory(), detectableOptionFactory, detectExecutableResolver(), dockerInspectorResolver(), gradleInspectorResolver(), nugetInspectorResolver(), pipInspectorResolver());
+        return new DetectDetectableFactory(detectableFactory(), detectableOptionFactory, detectExecutableResolver(), dockerInspectorResolver(), gradleInspectorResolver(), nugetInspectorResolver(), pipInspectorResolver(), eventSystem);
     }
 
     //#endregion Detectables
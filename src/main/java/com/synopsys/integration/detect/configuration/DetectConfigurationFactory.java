@@ -29,10 +29,15 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -48,6 +53,8 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.SnippetMatching;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfigBuilder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
+import com.synopsys.integration.configuration.property.Property;
+import com.synopsys.integration.configuration.property.PropertyGroupInfo;
 import com.synopsys.integration.configuration.property.base.NullableProperty;
 import com.synopsys.integration.configuration.property.base.ValuedProperty;
 import com.synopsys.integration.configuration.property.types.enumextended.ExtendedEnumValue;
@@ -56,6 +63,8 @@ import com.synopsys.integration.configuration.property.types.enumfilterable.Filt
 import com.synopsys.integration.configuration.property.types.path.NullablePathProperty;
 import com.synopsys.integration.configuration.property.types.path.PathResolver;
 import com.synopsys.integration.configuration.property.types.path.PathValue;
+import com.synopsys.integration.configuration.property.types.string.StringListProperty;
+import com.synopsys.integration.configuration.util.Group;
 import com.synopsys.integration.detect.PropertyConfigUtils;
 import com.synopsys.integration.detect.configuration.connection.BlackDuckConnectionDetails;
 import com.synopsys.integration.detect.configuration.connection.ConnectionDetails;
@@ -67,8 +76,13 @@ import com.synopsys.integration.detect.lifecycle.boot.product.ProductBootOptions
 import com.synopsys.integration.detect.lifecycle.run.RunOptions;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanOptions;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableOptions;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableCacheOptions;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableTimeoutOptions;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableTimeoutPolicy;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.detector.file.DetectDetectorFileFilter;
 import com.synopsys.integration.detect.tool.detector.file.FilteredFileFinder;
+import com.synopsys.integration.detect.tool.detector.snapshot.DetectorSnapshotOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedIndividualFileMatchingMode;
@@ -83,7 +97,9 @@ import com.synopsys.integration.detect.workflow.blackduck.DetectProjectServiceOp
 import com.synopsys.integration.detect.workflow.file.DirectoryOptions;
 import com.synopsys.integration.detect.workflow.phonehome.PhoneHomeOptions;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionOptions;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.util.DigestUtil;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
@@ -301,8 +317,12 @@ public class DetectConfigurationFactory {
     }
 
     public FileFinder createFilteredFileFinder(Path sourcePath) {
+        return createFilteredFileFinder(sourcePath, null);
+    }
+
+    public FileFinder createFilteredFileFinder(Path sourcePath, @Nullable DirectoryListingCache directoryListingCache) {
         List<String> userProvidedExcludedFiles = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_EXCLUSION_FILES);
-        return new FilteredFileFinder(userProvidedExcludedFiles);
+        return new FilteredFileFinder(userProvidedExcludedFiles, directoryListingCache);
     }
 
     public DetectorFinderOptions createSearchOptions(Path sourcePath) {
@@ -325,7 +345,7 @@ public class DetectConfigurationFactory {
 
         DetectDetectorFileFilter fileFilter = new DetectDetectorFileFilter(sourcePath, excludedDirectories, excludedDirectoryPaths, excludedDirectoryPatterns);
 
-        return new DetectorFinderOptions(fileFilter, maxDepth);
+        return new DetectorFinderOptions(fileFilter, maxDepth, findParallelProcessors());
     }
 
     public DetectorEvaluationOptions createDetectorEvaluationOptions() {
@@ -336,7 +356,51 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<DetectorType>> included = getValue(DetectProperties.DETECT_INCLUDED_DETECTOR_TYPES);
         ExcludeIncludeEnumFilter detectorFilter = new ExcludeIncludeEnumFilter(excluded, included);
 
-        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())));
+        //Extraction
+        Integer extractionThreads = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_THREADS);
+        if (extractionThreads <= 0) {
+            extractionThreads = findRuntimeProcessors();
+        }
+        List<DetectorType> exclusiveTypes = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_EXCLUSIVE_TYPES);
+        Map<DetectorType, Integer> extractionLimits = exclusiveTypes.stream()
+                                                          .collect(Collectors.toMap(Function.identity(), type -> 1, (first, second) -> first));
+        Boolean pipelined = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_PIPELINED);
+
+        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())), extractionThreads, extractionLimits, pipelined);
+    }
+
+    public ExtractionCacheOptions createExtractionCacheOptions() {
+        Boolean enabled = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_CACHE);
+        Integer maxEntries = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_CACHE_SIZE);
+        return new ExtractionCacheOptions(enabled, maxEntries);
+    }
+
+    public DetectorSnapshotOptions createDetectorSnapshotOptions() throws DetectUserFriendlyException {
+        Boolean incremental = getValue(DetectProperties.DETECT_DETECTOR_INCREMENTAL);
+        if (!incremental) {
+            return new DetectorSnapshotOptions(false, "");
+        }
+
+        Set<String> detectorKeys;
+        try {
+            detectorKeys = DetectProperties.allProperties().stream()
+                               .filter(this::isDetectorProperty)
+                               .map(Property::getKey)
+                               .collect(Collectors.toSet());
+        } catch (IllegalAccessException e) {
+            throw new DetectUserFriendlyException("Unable to determine the detector properties for the detector snapshot.", e, ExitCodeType.FAILURE_CONFIGURATION);
+        }
+        String detectorConfiguration = new TreeMap<>(detectConfiguration.getRaw(detectorKeys)).toString();
+        return new DetectorSnapshotOptions(true, DigestUtil.sha256(detectorConfiguration));
+    }
+
+    private boolean isDetectorProperty(Property property) {
+        PropertyGroupInfo groupInfo = property.getPropertyGroupInfo();
+        if (groupInfo == null) {
+            return false;
+        }
+        Group primaryGroup = groupInfo.getPrimaryGroup();
+        return primaryGroup == DetectGroup.DETECTOR || primaryGroup.getSuperGroup().filter(DetectGroup.DETECTORS::equals).isPresent();
     }
 
     public BdioOptions createBdioOptions() {
@@ -492,10 +556,48 @@ public class DetectConfigurationFactory {
             getPathOrNull(DetectProperties.DETECT_GIT_PATH.getProperty()),
             getPathOrNull(DetectProperties.DETECT_GO_PATH.getProperty()),
             getPathOrNull(DetectProperties.DETECT_SWIFT_PATH.getProperty()),
-            getPathOrNull(DetectProperties.DETECT_LERNA_PATH.getProperty())
+            getPathOrNull(DetectProperties.DETECT_LERNA_PATH.getProperty()),
+            getValue(DetectProperties.DETECT_MAVEN_DAEMON)
         );
     }
 
+    public ExecutableCacheOptions createExecutableCacheOptions() {
+        Boolean enabled = getValue(DetectProperties.DETECT_EXECUTABLE_CACHE);
+        Boolean persistent = getValue(DetectProperties.DETECT_EXECUTABLE_CACHE_PERSISTENT);
+        return new ExecutableCacheOptions(enabled, enabled && persistent);
+    }
+
+    public ExecutableTimeoutOptions createExecutableTimeoutOptions() throws DetectUserFriendlyException {
+        Long defaultTimeoutSeconds = getValue(DetectProperties.DETECT_EXECUTABLE_TIMEOUT);
+        Map<String, Long> executableTimeoutSeconds = new HashMap<>();
+        for (Map.Entry<String, Long> entry : parseTimeouts(DetectProperties.DETECT_EXECUTABLE_TIMEOUTS).entrySet()) {
+            executableTimeoutSeconds.put(ExecutableTimeoutPolicy.toExecutableName(entry.getKey()), entry.getValue());
+        }
+        Map<DetectorType, Long> detectorTimeoutSeconds = new EnumMap<>(DetectorType.class);
+        for (Map.Entry<String, Long> entry : parseTimeouts(DetectProperties.DETECT_DETECTOR_EXECUTABLE_TIMEOUTS).entrySet()) {
+            try {
+                detectorTimeoutSeconds.put(DetectorType.valueOf(entry.getKey().toUpperCase(Locale.ROOT)), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new DetectUserFriendlyException(String.format("Unknown detector type '%s' in %s.", entry.getKey(), DetectProperties.DETECT_DETECTOR_EXECUTABLE_TIMEOUTS.getProperty().getKey()), e, ExitCodeType.FAILURE_CONFIGURATION);
+            }
+        }
+        return new ExecutableTimeoutOptions(defaultTimeoutSeconds, executableTimeoutSeconds, detectorTimeoutSeconds);
+    }
+
+    // Reads name=seconds pairs.
+    private Map<String, Long> parseTimeouts(DetectProperty<StringListProperty> detectProperty) throws DetectUserFriendlyException {
+        Map<String, Long> timeouts = new HashMap<>();
+        for (String entry : getValue(detectProperty)) {
+            String name = StringUtils.substringBefore(entry, "=").trim();
+            String seconds = StringUtils.substringAfter(entry, "=").trim();
+            if (StringUtils.isBlank(name) || !NumberUtils.isDigits(seconds)) {
+                throw new DetectUserFriendlyException(String.format("Expected name=seconds but found '%s' in %s.", entry, detectProperty.getProperty().getKey()), ExitCodeType.FAILURE_CONFIGURATION);
+            }
+            timeouts.put(name, Long.parseLong(seconds));
+        }
+        return timeouts;
+    }
+
     private Path getPathOrNull(NullablePathProperty property) {
         return detectConfiguration.getValue(property).map(path -> path.resolvePath(pathResolver)).orElse(null);
     }
@@ -378,6 +378,22 @@ public class DetectProperties {
             .setHelp("If set to true, only Detector's capable of running without a build will be run.")
             .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_OWNERSHIP_QUERY_BATCH_SIZE =
+        new DetectProperty<>(new IntegerProperty("detect.clang.ownership.query.batch.size", 200))
+            .setInfo("Clang Ownership Query Batch Size", "6.7.0")
+            .setHelp("The number of dependency files named in each query of the Linux package manager for the package that owns them.",
+                "Querying many files at once avoids running the package manager once per header. Set to 1 to query each file on its own.")
+            .setGroups(DetectGroup.CLANG, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_OWNERSHIP_QUERY_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.clang.ownership.query.threads", 1))
+            .setInfo("Clang Ownership Query Threads", "6.7.0")
+            .setHelp("The number of package manager queries the Clang detector may run at once.",
+                "Each thread runs one batch of ownership and version queries. The default of 1 runs the queries one after another.")
+            .setGroups(DetectGroup.CLANG, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_CLEANUP =
         new DetectProperty<>(new BooleanProperty("detect.cleanup", true))
             .setInfo("Cleanup Output", "3.2.0")
@@ -450,6 +466,66 @@ public class DetectProperties {
             .setGroups(DetectGroup.PROJECT, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<StringListProperty> DETECT_DETECTOR_EXECUTABLE_TIMEOUTS =
+        new DetectProperty<>(new StringListProperty("detect.detector.executable.timeouts", emptyList()))
+            .setInfo("Detector Executable Timeouts", "6.7.0")
+            .setHelp("A comma-separated list of detector type=seconds pairs, such as GRADLE=3600, that override detect.executable.timeout for the executables run by detectors of that type.",
+                "A value of 0 lets that detector's executables run for as long as they need.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_EXTRACTION_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.detector.extraction.threads", 1))
+            .setInfo("Detector Extraction Threads", "6.7.0")
+            .setHelp("The number of detector extractions to run at the same time, defaults to 1. If you specify less than or equal to 0, the number of processors on the machine will be used.",
+                "Extractions start in the order they would run serially. Detector types listed in detect.detector.extraction.exclusive.types never run more than one extraction at a time, regardless of this value."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<EnumListProperty<DetectorType>> DETECT_DETECTOR_EXTRACTION_EXCLUSIVE_TYPES =
+        new DetectProperty<>(new EnumListProperty<>("detect.detector.extraction.exclusive.types", Arrays.asList(DetectorType.BITBAKE, DetectorType.GRADLE, DetectorType.MAVEN, DetectorType.SBT), DetectorType.class))
+            .setInfo("Detector Extraction Exclusive Types", "6.7.0")
+            .setHelp("The detector types that may only run one extraction at a time when detect.detector.extraction.threads is greater than 1.",
+                "Use this for build tools that share a daemon, lock or cache between builds on the same machine."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_DETECTOR_EXTRACTION_PIPELINED =
+        new DetectProperty<>(new BooleanProperty("detect.detector.extraction.pipelined", false))
+            .setInfo("Detector Extraction Pipelined", "6.7.0")
+            .setHelp("If true, detectors found in a directory start extracting as soon as the directory has been searched instead of after the whole source directory has been searched.",
+                "The search itself runs on a single thread so applicable detectors, nesting and project discovery are decided exactly as they would be otherwise. Extractions run on detect.detector.extraction.threads threads while the search continues."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_DETECTOR_EXTRACTION_CACHE =
+        new DetectProperty<>(new BooleanProperty("detect.detector.extraction.cache", false))
+            .setInfo("Detector Extraction Cache", "6.7.0")
+            .setHelp("If true, the results of lock file detectors are cached in the tools directory by the contents of their lock files so identical lock files are only parsed once.",
+                "Applies to the npm package lock, npm shrinkwrap, Yarn, Cargo, Poetry, Podlock and Gemlock detectors. The cache is shared by every run that uses the same tools directory and the least recently used entries are removed once it holds more than detect.detector.extraction.cache.size entries."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_EXTRACTION_CACHE_SIZE =
+        new DetectProperty<>(new IntegerProperty("detect.detector.extraction.cache.size", 1000))
+            .setInfo("Detector Extraction Cache Size", "6.7.0")
+            .setHelp("The maximum number of extractions kept by the detector extraction cache.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_DETECTOR_INCREMENTAL =
+        new DetectProperty<>(new BooleanProperty("detect.detector.incremental", false))
+            .setInfo("Detector Incremental", "6.7.0")
+            .setHelp("If true, successful detector extractions are saved in the tools directory and reused by later runs on the same source path when none of the detector's relevant files changed.",
+                "Only detectors that report the files they depend on are reused, all others are always extracted. The saved extractions are discarded when the version of Detect or any detector property changes."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_SEARCH_DEPTH =
         new DetectProperty<>(new IntegerProperty("detect.detector.search.depth", 0))
             .setInfo("Detector Search Depth", "3.2.0")
@@ -626,6 +702,38 @@ public class DetectProperties {
             .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<BooleanProperty> DETECT_EXECUTABLE_CACHE =
+        new DetectProperty<>(new BooleanProperty("detect.executable.cache", true))
+            .setInfo("Executable Cache", "6.7.0")
+            .setHelp("If true, read-only queries that Detect runs more than once with the same arguments in the same directory, such as version checks, git queries and go list -m, only run once.",
+                "Only successful runs are reused, and only for the rest of the run.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_EXECUTABLE_CACHE_PERSISTENT =
+        new DetectProperty<>(new BooleanProperty("detect.executable.cache.persistent", false))
+            .setInfo("Persistent Executable Cache", "6.7.0")
+            .setHelp("If true, the output of queries that depend only on the executable, such as --version and dotnet --list-runtimes, is kept in the tools directory and reused by later runs.",
+                "Entries are keyed on the executable's path, size and modification time, so they are not reused once the executable changes. Requires detect.executable.cache.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<LongProperty> DETECT_EXECUTABLE_TIMEOUT =
+        new DetectProperty<>(new LongProperty("detect.executable.timeout", 0L))
+            .setInfo("Executable Timeout", "6.7.0")
+            .setHelp("The number of seconds any executable Detect runs may take before it and every process it started are stopped. A value of 0 (the default) lets executables run for as long as they need.",
+                "Use detect.executable.timeouts and detect.detector.executable.timeouts to give particular executables or detectors a different limit.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<StringListProperty> DETECT_EXECUTABLE_TIMEOUTS =
+        new DetectProperty<>(new StringListProperty("detect.executable.timeouts", emptyList()))
+            .setInfo("Executable Timeouts", "6.7.0")
+            .setHelp("A comma-separated list of executable=seconds pairs, such as gradlew=3600,bazel=1800, that override detect.executable.timeout for those executables.",
+                "Executables are matched by file name without its extension, ignoring case. These limits win over detect.detector.executable.timeouts. A value of 0 lets that executable run for as long as it needs.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_FORCE_SUCCESS =
         new DetectProperty<>(new BooleanProperty("detect.force.success", false))
             .setInfo("Force Success", "3.0.0")
@@ -654,6 +762,14 @@ public class DetectProperties {
             )
             .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<BooleanProperty> DETECT_GRADLE_DAEMON_REUSE =
+        new DetectProperty<>(new BooleanProperty("detect.gradle.daemon.reuse", false))
+            .setInfo("Gradle Daemon Reuse", "6.7.0")
+            .setHelp("If true, Detect runs Gradle with --daemon and runs projects that share a Gradle distribution one at a time, so they all use one warm Gradle daemon.",
+                "Without this, each Gradle project in the source may start its own Gradle daemon, paying JVM and build warm-up each time. The daemon stays running after Detect finishes, until Gradle's idle timeout stops it.")
+            .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<CaseSensitiveStringListProperty> DETECT_GRADLE_EXCLUDED_CONFIGURATIONS =
         new DetectProperty<>(new CaseSensitiveStringListProperty("detect.gradle.excluded.configurations"))
             .setInfo("Gradle Exclude Configurations", "3.0.0")
@@ -765,6 +881,14 @@ public class DetectProperties {
                 "By default, Detect runs the mvn (or mvnw) command with one argument: dependency:tree. You can use this property to insert one or more additional mvn command line arguments (goals, etc.) before the dependency:tree argument. For example: suppose you are running in bash on Linux, and want to point maven to your settings file (maven_dev_settings.xml in your home directory) and assign the value 'other' to property 'reason'. You could do this with: --detect.maven.build.command='--settings \\${HOME}/maven_dev_settings.xml --define reason=other'")
             .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<BooleanProperty> DETECT_MAVEN_DAEMON =
+        new DetectProperty<>(new BooleanProperty("detect.maven.daemon", false))
+            .setInfo("Maven Daemon", "6.7.0")
+            .setHelp("If true and the Maven Daemon (mvnd) is on the PATH, Detect runs mvnd instead of mvn for projects that do not have a Maven wrapper (mvnw).",
+                "The Maven Daemon keeps warm JVMs and resolved artifact metadata between builds, so each pom root after the first skips JVM start-up and repeated dependency resolution. The daemons stay running after Detect finishes, until their idle timeout stops them. A project's mvnw is still used, since it pins the project's Maven version, and detect.maven.path still takes precedence.")
+            .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<CaseSensitiveStringListProperty> DETECT_MAVEN_EXCLUDED_MODULES =
         new DetectProperty<>(new CaseSensitiveStringListProperty("detect.maven.excluded.modules"))
             .setInfo("Maven Modules Excluded", "3.0.0")
@@ -105,7 +105,9 @@ public class DetectableOptionFactory {
 
     public ClangDetectableOptions createClangDetectableOptions() {
         Boolean cleanup = getValue(DetectProperties.DETECT_CLEANUP);
-        return new ClangDetectableOptions(cleanup);
+        Integer ownershipQueryBatchSize = getValue(DetectProperties.DETECT_CLANG_OWNERSHIP_QUERY_BATCH_SIZE);
+        Integer ownershipQueryThreads = getValue(DetectProperties.DETECT_CLANG_OWNERSHIP_QUERY_THREADS);
+        return new ClangDetectableOptions(cleanup, ownershipQueryBatchSize, ownershipQueryThreads);
     }
 
     public ComposerLockDetectableOptions createComposerLockDetectableOptions() {
@@ -161,7 +163,8 @@ public class DetectableOptionFactory {
         String onlineInspectorVersion = getNullableValue(DetectProperties.DETECT_GRADLE_INSPECTOR_VERSION);
         GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
         String gradleBuildCommand = getNullableValue(DetectProperties.DETECT_GRADLE_BUILD_COMMAND);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
+        Boolean reuseDaemon = getValue(DetectProperties.DETECT_GRADLE_DAEMON_REUSE);
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo, reuseDaemon);
     }
 
     public LernaOptions createLernaOptions() {
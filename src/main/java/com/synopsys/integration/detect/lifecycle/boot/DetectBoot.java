@@ -86,6 +86,7 @@ import com.synopsys.integration.detect.lifecycle.run.data.ProductRunData;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
 import com.synopsys.integration.detect.tool.detector.DetectDetectableFactory;
 import com.synopsys.integration.detect.tool.detector.DetectorRuleFactory;
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableResolver;
 import com.synopsys.integration.detect.tool.detector.executable.DirectoryExecutableFinder;
 import com.synopsys.integration.detect.tool.detector.executable.ProcessBuilderExecutableRunner;
@@ -243,11 +244,13 @@ public class DetectBoot {
         }
 
         DetectableOptionFactory detectableOptionFactory = new DetectableOptionFactory(detectConfiguration, diagnosticSystem, pathResolver, detectableProxyInfo);
-        DetectorProfiler profiler = new DetectorProfiler(eventSystem);
+        DetectorThreadContext detectorThreadContext = new DetectorThreadContext(eventSystem);
+        DetectorProfiler profiler = new DetectorProfiler(eventSystem, detectorThreadContext);
 
         //Finished, populate the detect context
         detectContext.registerBean(detectRun);
         detectContext.registerBean(eventSystem);
+        detectContext.registerBean(detectorThreadContext);
         detectContext.registerBean(profiler);
 
         detectContext.registerBean(detectConfiguration);
@@ -273,7 +276,7 @@ public class DetectBoot {
     private void printHelpJsonDocument(List<Property> properties, DetectInfo detectInfo, Gson gson) {
         DetectorRuleFactory ruleFactory = new DetectorRuleFactory();
         // TODO: Is there a better way to build a fake set of rules?
-        DetectDetectableFactory mockFactory = new DetectDetectableFactory(null, null, null, null, null, null, null);
+        DetectDetectableFactory mockFactory = new DetectDetectableFactory(null, null, null, null, null, null, null, null);
         DetectorRuleSet build = ruleFactory.createRules(mockFactory, false);
         DetectorRuleSet buildless = ruleFactory.createRules(mockFactory, true);
         List<HelpJsonDetector> buildDetectors = build.getOrderedDetectorRules().stream().map(detectorRule -> convertDetectorRule(detectorRule, build)).collect(Collectors.toList());
@@ -22,6 +22,7 @@
  */
 package com.synopsys.integration.detect.lifecycle.run;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -35,6 +36,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionView;
@@ -69,7 +71,11 @@ import com.synopsys.integration.detect.tool.detector.DetectorRuleFactory;
 import com.synopsys.integration.detect.tool.detector.DetectorTool;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableRunner;
+import com.synopsys.integration.detect.tool.detector.executable.ExecutableTimings;
+import com.synopsys.integration.detect.tool.detector.executable.ProcessBuilderExecutableRunner;
 import com.synopsys.integration.detect.tool.detector.extraction.ExtractionEnvironmentProvider;
+import com.synopsys.integration.detect.tool.detector.snapshot.DetectorSnapshotManager;
+import com.synopsys.integration.detect.tool.detector.snapshot.DetectorSnapshotOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.BlackDuckImpactAnalysisTool;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisToolResult;
@@ -108,7 +114,9 @@ import com.synopsys.integration.detect.workflow.status.DetectIssue;
 import com.synopsys.integration.detect.workflow.status.DetectIssueType;
 import com.synopsys.integration.detect.workflow.status.Status;
 import com.synopsys.integration.detect.workflow.status.StatusType;
+import com.synopsys.integration.detectable.detectable.executable.CachingExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
@@ -246,9 +254,28 @@ public class RunManager {
             DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions();
 
             DetectorIssuePublisher detectorIssuePublisher = new DetectorIssuePublisher();
-            DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher);
+            DirectoryListingCache directoryListingCache = detectContext.getBean(DirectoryListingCache.class);
+            DetectorSnapshotOptions detectorSnapshotOptions = detectConfigurationFactory.createDetectorSnapshotOptions();
+            DetectorSnapshotManager detectorSnapshotManager = null;
+            if (detectorSnapshotOptions.isEnabled()) {
+                File snapshotFile = DetectorSnapshotManager.findSnapshotFile(directoryManager.getPermanentDirectory(), directoryManager.getSourceDirectory());
+                String runKey = detectContext.getBean(DetectInfo.class).getDetectVersion() + ":" + detectorSnapshotOptions.getConfigurationKey();
+                detectorSnapshotManager = new DetectorSnapshotManager(snapshotFile, runKey, detectContext.getBean(Gson.class));
+                detectorSnapshotManager.load();
+            }
+
+            DetectorTool detectorTool = new DetectorTool(new DetectorFinder(directoryListingCache), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, detectorSnapshotManager, directoryListingCache);
             DetectorToolResult detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors);
 
+            if (detectorSnapshotManager != null) {
+                logger.debug(String.format("Reused %d detector extractions from the previous run.", detectorSnapshotManager.getReusedCount()));
+                detectorToolResult.getRootDetectorEvaluationTree().ifPresent(detectorSnapshotManager::save);
+            }
+
+            logger.debug(String.format("Directory listing cache held %d directories with %d hits and %d misses.", directoryListingCache.getDirectoryCount(), directoryListingCache.getHits(), directoryListingCache.getMisses()));
+            directoryListingCache.clear();
+            logExecutableTimings(detectContext.getBean(ExecutableRunner.class));
+
             detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> runResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
             runResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
 
@@ -455,4 +482,20 @@ public class RunManager {
         return new HashSet<>();
     }
 
+    private void logExecutableTimings(ExecutableRunner executableRunner) {
+        if (executableRunner instanceof CachingExecutableRunner) {
+            CachingExecutableRunner cachingExecutableRunner = (CachingExecutableRunner) executableRunner;
+            logger.debug(String.format("Reused the output of %d executable runs, %d cacheable runs were not reused.", cachingExecutableRunner.getHits(), cachingExecutableRunner.getMisses()));
+            logExecutableTimings(cachingExecutableRunner.getExecutableRunner());
+            return;
+        }
+        if (!(executableRunner instanceof ProcessBuilderExecutableRunner)) {
+            return;
+        }
+        ExecutableTimings executableTimings = ((ProcessBuilderExecutableRunner) executableRunner).getExecutableTimings();
+        logger.debug(String.format("Ran %d executables in %d ms.", executableTimings.getExecutionCount(), executableTimings.getTotalMillis()));
+        for (ExecutableTimings.ExecutableTiming timing : executableTimings.getTimings()) {
+            logger.debug(String.format("Executable %s ran %d times in %d ms, at most %d ms.", timing.getExecutableName(), timing.getCount(), timing.getTotalMillis(), timing.getMaximumMillis()));
+        }
+    }
 }
@@ -24,6 +24,8 @@ package com.synopsys.integration.detect.tool.detector;
 
 import com.synopsys.integration.detect.configuration.DetectableOptionFactory;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableResolver;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.detectable.inspector.GradleInspectorResolver;
 import com.synopsys.integration.detectable.detectable.inspector.PipInspectorResolver;
@@ -79,10 +81,11 @@ public class DetectDetectableFactory {
     private final GradleInspectorResolver gradleInspectorResolver;
     private final NugetInspectorResolver nugetInspectorResolver;
     private final PipInspectorResolver pipInspectorResolver;
+    private final EventSystem eventSystem;
 
     public DetectDetectableFactory(DetectableFactory detectableFactory, DetectableOptionFactory detectableOptionFactory, DetectExecutableResolver detectExecutableResolver,
         DockerInspectorResolver dockerInspectorResolver, GradleInspectorResolver gradleInspectorResolver, NugetInspectorResolver nugetInspectorResolver,
-        PipInspectorResolver pipInspectorResolver) {
+        PipInspectorResolver pipInspectorResolver, EventSystem eventSystem) {
         this.detectableFactory = detectableFactory;
         this.detectableOptionFactory = detectableOptionFactory;
         this.detectExecutableResolver = detectExecutableResolver;
@@ -90,6 +93,7 @@ public class DetectDetectableFactory {
         this.gradleInspectorResolver = gradleInspectorResolver;
         this.nugetInspectorResolver = nugetInspectorResolver;
         this.pipInspectorResolver = pipInspectorResolver;
+        this.eventSystem = eventSystem;
     }
 
     public DockerDetectable createDockerDetectable(DetectableEnvironment environment) {
@@ -109,7 +113,7 @@ public class DetectDetectableFactory {
     }
 
     public ClangDetectable createClangDetectable(DetectableEnvironment environment) {
-        return detectableFactory.createClangDetectable(environment, detectableOptionFactory.createClangDetectableOptions());
+        return detectableFactory.createClangDetectable(environment, detectableOptionFactory.createClangDetectableOptions(), progress -> eventSystem.publishEvent(Event.ClangPackageResolutionProgress, progress));
     }
 
     public ComposerLockDetectable createComposerDetectable(DetectableEnvironment environment) {
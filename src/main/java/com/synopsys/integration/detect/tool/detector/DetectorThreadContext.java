@@ -0,0 +1,78 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+
+// Tracks the detector each thread is evaluating from the evaluation events, so the executables it runs can be attributed to it.
+// Work a detector hands to its own threads must be wrapped with propagate to stay attributed to that detector.
+public class DetectorThreadContext {
+    private final ThreadLocal<DetectorEvaluation> currentEvaluation = new ThreadLocal<>();
+
+    public DetectorThreadContext(final EventSystem eventSystem) {
+        eventSystem.registerListener(Event.ExtractableStarted, this::detectorStarted);
+        eventSystem.registerListener(Event.ExtractableEnded, this::detectorEnded);
+        eventSystem.registerListener(Event.DiscoveryStarted, this::detectorStarted);
+        eventSystem.registerListener(Event.DiscoveryEnded, this::detectorEnded);
+        eventSystem.registerListener(Event.ExtractionStarted, this::detectorStarted);
+        eventSystem.registerListener(Event.ExtractionEnded, this::detectorEnded);
+    }
+
+    private void detectorStarted(final DetectorEvaluation evaluation) {
+        currentEvaluation.set(evaluation);
+    }
+
+    private void detectorEnded(final DetectorEvaluation evaluation) {
+        currentEvaluation.remove();
+    }
+
+    public Optional<DetectorEvaluation> getCurrentEvaluation() {
+        return Optional.ofNullable(currentEvaluation.get());
+    }
+
+    // Captures the calling thread's detector now and makes it current on whichever thread runs the task, restoring that thread's own detector afterwards.
+    public <T> Callable<T> propagate(final Callable<T> task) {
+        final DetectorEvaluation evaluation = currentEvaluation.get();
+        if (evaluation == null) {
+            return task;
+        }
+        return () -> {
+            final DetectorEvaluation previousEvaluation = currentEvaluation.get();
+            currentEvaluation.set(evaluation);
+            try {
+                return task.call();
+            } finally {
+                if (previousEvaluation == null) {
+                    currentEvaluation.remove();
+                } else {
+                    currentEvaluation.set(previousEvaluation);
+                }
+            }
+        };
+    }
+}
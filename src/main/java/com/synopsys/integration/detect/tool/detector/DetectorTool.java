@@ -23,9 +23,12 @@
 package com.synopsys.integration.detect.tool.detector;
 
 import java.io.File;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -35,6 +38,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,13 +55,18 @@ import com.synopsys.integration.detect.workflow.status.DetectorStatus;
 import com.synopsys.integration.detect.workflow.status.StatusType;
 import com.synopsys.integration.detect.workflow.status.UnrecognizedPaths;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluator;
+import com.synopsys.integration.detector.evaluation.DetectorExtractionScheduler;
+import com.synopsys.integration.detector.evaluation.PreviousExtractionProvider;
 import com.synopsys.integration.detector.finder.DetectorFinder;
 import com.synopsys.integration.detector.finder.DetectorFinderDirectoryListException;
+import com.synopsys.integration.detector.finder.DetectorFinderDirectoryListener;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
@@ -69,20 +78,50 @@ public class DetectorTool {
     private final EventSystem eventSystem;
     private final CodeLocationConverter codeLocationConverter;
     private final DetectorIssuePublisher detectorIssuePublisher;
+    @Nullable
+    private final PreviousExtractionProvider previousExtractionProvider;
+    @Nullable
+    private final DirectoryListingCache directoryListingCache;
 
     public DetectorTool(final DetectorFinder detectorFinder, final ExtractionEnvironmentProvider extractionEnvironmentProvider, final EventSystem eventSystem, final CodeLocationConverter codeLocationConverter,
         final DetectorIssuePublisher detectorIssuePublisher) {
+        this(detectorFinder, extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, null);
+    }
+
+    public DetectorTool(final DetectorFinder detectorFinder, final ExtractionEnvironmentProvider extractionEnvironmentProvider, final EventSystem eventSystem, final CodeLocationConverter codeLocationConverter,
+        final DetectorIssuePublisher detectorIssuePublisher, @Nullable final PreviousExtractionProvider previousExtractionProvider) {
+        this(detectorFinder, extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, previousExtractionProvider, null);
+    }
+
+    // The directory listing cache should be the one the detector finder fills, so the evaluator can match rule triggers against it.
+    public DetectorTool(final DetectorFinder detectorFinder, final ExtractionEnvironmentProvider extractionEnvironmentProvider, final EventSystem eventSystem, final CodeLocationConverter codeLocationConverter,
+        final DetectorIssuePublisher detectorIssuePublisher, @Nullable final PreviousExtractionProvider previousExtractionProvider, @Nullable final DirectoryListingCache directoryListingCache) {
         this.detectorFinder = detectorFinder;
         this.extractionEnvironmentProvider = extractionEnvironmentProvider;
         this.eventSystem = eventSystem;
         this.codeLocationConverter = codeLocationConverter;
         this.detectorIssuePublisher = detectorIssuePublisher;
+        this.previousExtractionProvider = previousExtractionProvider;
+        this.directoryListingCache = directoryListingCache;
     }
 
     public DetectorToolResult performDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions detectorFinderOptions, final DetectorEvaluationOptions evaluationOptions, final String projectDetector,
         final List<DetectorType> requiredDetectors)
         throws DetectUserFriendlyException {
         logger.debug("Initializing detector system.");
+
+        logger.trace("Setting up detector events.");
+        final DetectorEvaluatorBroadcaster eventBroadcaster = new DetectorEvaluatorBroadcaster(eventSystem);
+        final DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions, directoryListingCache);
+        detectorEvaluator.setDetectorEvaluatorListener(eventBroadcaster);
+        detectorEvaluator.setPreviousExtractionProvider(previousExtractionProvider);
+
+        final DetectorNameVersionHandler detectorNameVersionHandler = createNameVersionHandler(projectDetector);
+
+        if (evaluationOptions.isPipelined()) {
+            return performPipelinedDetectors(directory, detectorRuleSet, detectorFinderOptions, detectorEvaluator, detectorNameVersionHandler, requiredDetectors);
+        }
+
         final Optional<DetectorEvaluationTree> possibleRootEvaluation;
         try {
             logger.debug("Starting detector file system traversal.");
@@ -93,28 +132,16 @@ public class DetectorTool {
         }
 
         if (!possibleRootEvaluation.isPresent()) {
-            logger.error("The source directory could not be searched for detectors - detector tool failed.");
-            logger.error("Please ensure the provided source path is a directory and detect has access.");
-            eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_CONFIGURATION, "Detector tool failed to run on the configured source path."));
-            return new DetectorToolResult();
+            return failedToSearch();
         }
 
         final DetectorEvaluationTree rootEvaluation = possibleRootEvaluation.get();
         final List<DetectorEvaluation> detectorEvaluations = rootEvaluation.allDescendentEvaluations();
 
-        logger.trace("Setting up detector events.");
-        final DetectorEvaluatorBroadcaster eventBroadcaster = new DetectorEvaluatorBroadcaster(eventSystem);
-        final DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions);
-        detectorEvaluator.setDetectorEvaluatorListener(eventBroadcaster);
-
         logger.info("Searching for detectors. This may take a while.");
-        detectorEvaluator.searchAndApplicableEvaluation(rootEvaluation, new HashSet<>());
+        detectorEvaluator.searchAndApplicableEvaluation(rootEvaluation);
 
-        final Set<DetectorType> applicable = detectorEvaluations.stream()
-                                                 .filter(DetectorEvaluation::isApplicable)
-                                                 .map(DetectorEvaluation::getDetectorRule)
-                                                 .map(DetectorRule::getDetectorType)
-                                                 .collect(Collectors.toSet());
+        final Set<DetectorType> applicable = findApplicableTypes(detectorEvaluations);
 
         eventSystem.publishEvent(Event.ApplicableCompleted, applicable);
         eventSystem.publishEvent(Event.SearchCompleted, rootEvaluation);
@@ -138,24 +165,93 @@ public class DetectorTool {
         logger.debug("Total number of detectors: " + extractionCount);
 
         logger.debug("Starting detector project discovery.");
+        stopServingDirectoryListings();
+        detectorEvaluator.discoveryEvaluation(rootEvaluation, new DetectDiscoveryFilter(eventSystem, detectorNameVersionHandler));
+        eventSystem.publishEvent(Event.DiscoveriesCompleted, rootEvaluation);
+
+        logger.debug("Starting detector extraction.");
+        detectorEvaluator.extractionEvaluation(rootEvaluation);
+        eventSystem.publishEvent(Event.ExtractionsCompleted, rootEvaluation);
+
+        return completeDetectors(directory, rootEvaluation, applicable, detectorNameVersionHandler, requiredDetectors);
+    }
+
+    // Evaluates each directory as soon as the traversal finds it and hands its extractions to the scheduler, so slow extractions overlap the rest of the search.
+    private DetectorToolResult performPipelinedDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions detectorFinderOptions, final DetectorEvaluator detectorEvaluator,
+        final DetectorNameVersionHandler detectorNameVersionHandler, final List<DetectorType> requiredDetectors) throws DetectUserFriendlyException {
+        final DetectDiscoveryFilter discoveryFilter = new DetectDiscoveryFilter(eventSystem, detectorNameVersionHandler);
+        final DetectorExtractionScheduler extractionScheduler = detectorEvaluator.createExtractionScheduler();
+        extractionScheduler.start(detectorEvaluation -> detectorEvaluator.discoverAndExtract(detectorEvaluation, discoveryFilter));
+        try {
+            final PipelinedDirectoryListener directoryListener = new PipelinedDirectoryListener(detectorEvaluator, extractionScheduler);
+            final Optional<DetectorEvaluationTree> possibleRootEvaluation;
+            try {
+                logger.info("Searching for detectors and starting their extractions as they are found. This may take a while.");
+                possibleRootEvaluation = detectorFinder.findDetectors(directory, detectorRuleSet, detectorFinderOptions, directoryListener);
+            } catch (final DetectorFinderDirectoryListException e) {
+                throw new DetectUserFriendlyException("Detect was unable to list a directory while searching for detectors.", e, ExitCodeType.FAILURE_DETECTOR);
+            }
+
+            if (!possibleRootEvaluation.isPresent()) {
+                return failedToSearch();
+            }
+
+            final DetectorEvaluationTree rootEvaluation = possibleRootEvaluation.get();
+            final Set<DetectorType> applicable = findApplicableTypes(rootEvaluation.allDescendentEvaluations());
+
+            eventSystem.publishEvent(Event.ApplicableCompleted, applicable);
+            eventSystem.publishEvent(Event.SearchCompleted, rootEvaluation);
+            eventSystem.publishEvent(Event.PreparationsCompleted, rootEvaluation);
+            logger.debug("Total number of detectors: " + directoryListener.getExtractionCount());
+
+            logger.debug("Waiting for the remaining detector discoveries and extractions.");
+            extractionScheduler.awaitCompletion();
+            eventSystem.publishEvent(Event.DiscoveriesCompleted, rootEvaluation);
+            eventSystem.publishEvent(Event.ExtractionsCompleted, rootEvaluation);
+
+            return completeDetectors(directory, rootEvaluation, applicable, detectorNameVersionHandler, requiredDetectors);
+        } finally {
+            extractionScheduler.shutdown();
+        }
+    }
+
+    private void stopServingDirectoryListings() {
+        if (directoryListingCache != null) {
+            directoryListingCache.stopServing();
+        }
+    }
+
+    private DetectorToolResult failedToSearch() {
+        logger.error("The source directory could not be searched for detectors - detector tool failed.");
+        logger.error("Please ensure the provided source path is a directory and detect has access.");
+        eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_CONFIGURATION, "Detector tool failed to run on the configured source path."));
+        return new DetectorToolResult();
+    }
+
+    private DetectorNameVersionHandler createNameVersionHandler(final String projectDetector) {
         Optional<DetectorType> preferredProjectDetector = Optional.empty();
         if (StringUtils.isNotBlank(projectDetector)) {
             preferredProjectDetector = preferredDetectorTypeFromString(projectDetector);
         }
 
-        final DetectorNameVersionHandler detectorNameVersionHandler;
         if (preferredProjectDetector.isPresent()) {
-            detectorNameVersionHandler = new PreferredDetectorNameVersionHandler(preferredProjectDetector.get());
+            return new PreferredDetectorNameVersionHandler(preferredProjectDetector.get());
         } else {
-            detectorNameVersionHandler = new DetectorNameVersionHandler(Collections.singletonList(DetectorType.GIT));
+            return new DetectorNameVersionHandler(Collections.singletonList(DetectorType.GIT));
         }
+    }
 
-        detectorEvaluator.discoveryEvaluation(rootEvaluation, new DetectDiscoveryFilter(eventSystem, detectorNameVersionHandler));
-        eventSystem.publishEvent(Event.DiscoveriesCompleted, rootEvaluation);
+    private Set<DetectorType> findApplicableTypes(final List<DetectorEvaluation> detectorEvaluations) {
+        return detectorEvaluations.stream()
+                   .filter(DetectorEvaluation::isApplicable)
+                   .map(DetectorEvaluation::getDetectorRule)
+                   .map(DetectorRule::getDetectorType)
+                   .collect(Collectors.toSet());
+    }
 
-        logger.debug("Starting detector extraction.");
-        detectorEvaluator.extractionEvaluation(rootEvaluation);
-        eventSystem.publishEvent(Event.ExtractionsCompleted, rootEvaluation);
+    private DetectorToolResult completeDetectors(final File directory, final DetectorEvaluationTree rootEvaluation, final Set<DetectorType> applicable, final DetectorNameVersionHandler detectorNameVersionHandler,
+        final List<DetectorType> requiredDetectors) {
+        final List<DetectorEvaluation> detectorEvaluations = rootEvaluation.allDescendentEvaluations();
 
         logger.debug("Finished detectors.");
         final Map<DetectorType, StatusType> statusMap = extractStatus(detectorEvaluations);
@@ -263,4 +359,53 @@ public class DetectorTool {
         }
         return Optional.empty();
     }
+
+    private class PipelinedDirectoryListener implements DetectorFinderDirectoryListener {
+        private final DetectorEvaluator detectorEvaluator;
+        private final DetectorExtractionScheduler extractionScheduler;
+        // The traversal is depth first, so only the directories on the path to the current one are kept; a directory is dropped once a sibling or one of its parent's siblings is found.
+        private final Deque<DetectorEvaluationTree> openDirectories = new ArrayDeque<>();
+        private final Deque<BitSet> appliedInOpenDirectories = new ArrayDeque<>();
+        private int extractionCount = 0;
+
+        public PipelinedDirectoryListener(final DetectorEvaluator detectorEvaluator, final DetectorExtractionScheduler extractionScheduler) {
+            this.detectorEvaluator = detectorEvaluator;
+            this.extractionScheduler = extractionScheduler;
+        }
+
+        @Override
+        public void directoryFound(final DetectorEvaluationTree evaluationTree, @Nullable final DetectorEvaluationTree parentEvaluationTree) {
+            while (!openDirectories.isEmpty() && openDirectories.peek() != parentEvaluationTree) {
+                openDirectories.pop();
+                appliedInOpenDirectories.pop();
+            }
+            final BitSet appliedInParent = parentEvaluationTree == null ? new BitSet() : appliedInOpenDirectories.peek();
+            final BitSet appliedInDirectory = detectorEvaluator.evaluateDirectory(evaluationTree, appliedInParent, this::createCountedExtractionEnvironment);
+            openDirectories.push(evaluationTree);
+            appliedInOpenDirectories.push(appliedInDirectory);
+
+            final List<DetectorEvaluation> extractable = evaluationTree.getOrderedEvaluations().stream()
+                                                             .filter(it -> it.isExtractable() && it.getExtractionEnvironment() != null)
+                                                             .collect(Collectors.toList());
+            extractable.forEach(extractionScheduler::submit);
+        }
+
+        // The total is not known until the traversal finishes, so progress is reported against the extractions found so far.
+        // Each count is published before its evaluation's discovery, and under the evaluator's listener lock so it never changes while another thread logs progress.
+        private ExtractionEnvironment createCountedExtractionEnvironment(final DetectorEvaluation detectorEvaluation) {
+            // This evaluation's discovery may start as soon as it is submitted, so the rest of the search lists directories from disk.
+            stopServingDirectoryListings();
+            final ExtractionEnvironment extractionEnvironment = extractionEnvironmentProvider.createExtractionEnvironment(detectorEvaluation);
+            detectorEvaluator.runWithListenerLock(() -> {
+                extractionCount++;
+                eventSystem.publishEvent(Event.ExtractionCount, extractionCount);
+                eventSystem.publishEvent(Event.DiscoveryCount, extractionCount);
+            });
+            return extractionEnvironment;
+        }
+
+        public int getExtractionCount() {
+            return extractionCount;
+        }
+    }
 }
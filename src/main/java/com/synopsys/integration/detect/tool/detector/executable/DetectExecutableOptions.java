@@ -44,10 +44,12 @@ public class DetectExecutableOptions {
     private final Path goUserPath;
     private final Path swiftUserPath;
     private final Path lernaUserPath;
+    private final boolean mavenDaemonPreferred;
 
     public DetectExecutableOptions(final Path bashUserPath, final Path bazelUserPath, final Path condaUserPath, final Path cpanUserPath, final Path cpanmUserPath, final Path gradleUserPath, final Path mavenUserPath,
         final Path npmUserPath, final Path pearUserPath, final Path pipenvUserPath, final Path pythonUserPath, final Path rebarUserPath, final Path javaUserPath, final Path dockerUserPath, final Path dotnetUserPath,
-        final Path gitUserPath, final Path goUserPath, final Path swiftUserPath, final Path lernaUserPath) {
+        final Path gitUserPath, final Path goUserPath, final Path swiftUserPath, final Path lernaUserPath,
+        final boolean mavenDaemonPreferred) {
         this.bashUserPath = bashUserPath;
         this.bazelUserPath = bazelUserPath;
         this.condaUserPath = condaUserPath;
@@ -67,6 +69,7 @@ public class DetectExecutableOptions {
         this.goUserPath = goUserPath;
         this.swiftUserPath = swiftUserPath;
         this.lernaUserPath = lernaUserPath;
+        this.mavenDaemonPreferred = mavenDaemonPreferred;
     }
 
     public Path getBashUserPath() {
@@ -97,6 +100,10 @@ public class DetectExecutableOptions {
         return mavenUserPath;
     }
 
+    public boolean isMavenDaemonPreferred() {
+        return mavenDaemonPreferred;
+    }
+
     public Path getNpmUserPath() {
         return npmUserPath;
     }
@@ -26,9 +26,10 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -63,7 +64,9 @@ public class DetectExecutableResolver
     private final SystemPathExecutableFinder systemPathExecutableFinder;
     private final DetectExecutableOptions detectExecutableOptions;
 
-    private final Map<String, File> cachedExecutables = new HashMap<>();
+    // Detectors evaluate and extract in parallel, so both caches must be safe to share between threads.
+    private final Map<String, Optional<File>> cachedExecutables = new ConcurrentHashMap<>();
+    private final Map<File, Optional<File>> cachedDirectoryExecutables = new ConcurrentHashMap<>();
 
     public DetectExecutableResolver(final DirectoryExecutableFinder directoryExecutableFinder, final SystemPathExecutableFinder systemPathExecutableFinder,
         final DetectExecutableOptions detectExecutableOptions) {
@@ -73,8 +76,11 @@ public class DetectExecutableResolver
     }
 
     private File resolve(String executableName, boolean cache, ExecutableResolverFunction... resolvers) throws DetectableException {
-        if (cache && cachedExecutables.containsKey(executableName)) {
-            return cachedExecutables.get(executableName);
+        if (cache) {
+            Optional<File> cached = cachedExecutables.get(executableName);
+            if (cached != null) {
+                return cached.orElse(null);
+            }
         }
         File resolved = null;
         for (ExecutableResolverFunction resolver : resolvers) {
@@ -83,11 +89,23 @@ public class DetectExecutableResolver
                 break;
         }
         if (cache) {
-            cachedExecutables.put(executableName, resolved);
+            // Two threads may race to resolve the same executable; they find the same file, so either result is kept.
+            cachedExecutables.putIfAbsent(executableName, Optional.ofNullable(resolved));
         }
         return resolved;
     }
 
+    @Nullable
+    private File resolveDirectoryExecutable(String executableName, File directory) {
+        File key = new File(directory.getAbsoluteFile(), executableName);
+        Optional<File> cached = cachedDirectoryExecutables.get(key);
+        if (cached == null) {
+            cached = Optional.ofNullable(directoryExecutableFinder.findExecutable(executableName, directory));
+            cachedDirectoryExecutables.putIfAbsent(key, cached);
+        }
+        return cached.orElse(null);
+    }
+
     private File resolveWithOverride(String executableName, boolean cache, @Nullable Path override, ExecutableResolverFunction... resolvers) throws DetectableException {
         List<ExecutableResolverFunction> modifiedResolvers = new ArrayList<>();
         if (override != null) {
@@ -118,7 +136,12 @@ public class DetectExecutableResolver
     }
 
     private File resolveLocalNonCachedExecutable(String executableName, final DetectableEnvironment environment, Path override) throws DetectableException {
-        return resolveWithOverride(executableName, false, override, systemPathExecutableFinder::findExecutable, exe -> directoryExecutableFinder.findExecutable(exe, environment.getDirectory()));
+        return resolveWithOverride(executableName, false, override, systemPathExecutableFinder::findExecutable, exe -> resolveDirectoryExecutable(exe, environment.getDirectory()));
+    }
+
+    // A wrapper such as gradlew or mvnw in the source directory is preferred over the build tool found on the system path.
+    private File resolveLocalWrapperExecutable(String wrapperName, String executableName, final DetectableEnvironment environment, Path override) throws DetectableException {
+        return resolveWithOverride(executableName, false, override, exe -> resolveDirectoryExecutable(wrapperName, environment.getDirectory()), systemPathExecutableFinder::findExecutable);
     }
 
     @Override
@@ -148,12 +171,19 @@ public class DetectExecutableResolver
 
     @Override
     public File resolveGradle(final DetectableEnvironment environment) throws DetectableException {
-        return resolveLocalNonCachedExecutable("gradle", environment, detectExecutableOptions.getGradleUserPath());
+        return resolveLocalWrapperExecutable("gradlew", "gradle", environment, detectExecutableOptions.getGradleUserPath());
     }
 
     @Override
     public File resolveMaven(final DetectableEnvironment environment) throws DetectableException {
-        return resolveLocalNonCachedExecutable("maven", environment, detectExecutableOptions.getMavenUserPath());
+        // The project's own mvnw pins its Maven version, so the daemon is only used for projects without one.
+        if (detectExecutableOptions.getMavenUserPath() == null && detectExecutableOptions.isMavenDaemonPreferred() && resolveDirectoryExecutable("mvnw", environment.getDirectory()) == null) {
+            File mavenDaemon = resolveCachedSystemExecutable("mvnd", null);
+            if (mavenDaemon != null) {
+                return mavenDaemon;
+            }
+        }
+        return resolveLocalWrapperExecutable("mvnw", "mvn", environment, detectExecutableOptions.getMavenUserPath());
     }
 
     @Override
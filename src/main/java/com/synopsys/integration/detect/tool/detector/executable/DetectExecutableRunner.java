@@ -22,33 +22,49 @@
  */
 package com.synopsys.integration.detect.tool.detector.executable;
 
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detectable.detectable.executable.Executable;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableTimeoutException;
 
 public class DetectExecutableRunner extends ProcessBuilderExecutableRunner {
     private final EventSystem eventSystem;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final boolean shouldLogOutput;
+    @Nullable
+    private final DetectorThreadContext detectorThreadContext;
 
     public DetectExecutableRunner(final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput) {
-        super(outputConsumer, traceConsumer);
+        this(outputConsumer, traceConsumer, eventSystem, shouldLogOutput, ExecutableTimeoutPolicy.none(), null);
+    }
+
+    public DetectExecutableRunner(final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput, ExecutableTimeoutPolicy timeoutPolicy,
+        @Nullable DetectorThreadContext detectorThreadContext) {
+        super(outputConsumer, traceConsumer, timeoutPolicy);
         this.eventSystem = eventSystem;
         this.shouldLogOutput = shouldLogOutput;
+        this.detectorThreadContext = detectorThreadContext;
     }
 
     public static DetectExecutableRunner newDebug(EventSystem eventSystem) {
+        return newDebug(eventSystem, ExecutableTimeoutPolicy.none(), null);
+    }
+
+    public static DetectExecutableRunner newDebug(EventSystem eventSystem, ExecutableTimeoutPolicy timeoutPolicy, @Nullable DetectorThreadContext detectorThreadContext) {
         Logger logger = LoggerFactory.getLogger(ProcessBuilderExecutableRunner.class);
-        return new DetectExecutableRunner(logger::debug, logger::trace, eventSystem, true);
+        return new DetectExecutableRunner(logger::debug, logger::trace, eventSystem, true, timeoutPolicy, detectorThreadContext);
     }
 
     public static DetectExecutableRunner newInfo(EventSystem eventSystem) {
@@ -59,7 +75,38 @@ public class DetectExecutableRunner extends ProcessBuilderExecutableRunner {
     @NotNull
     @Override
     public ExecutableOutput execute(final Executable executable) throws ExecutableRunnerException {
-        final ExecutableOutput output = super.execute(executable);
+        final ExecutableOutput output;
+        try {
+            output = super.execute(executable);
+        } catch (final ExecutableTimeoutException e) {
+            publishAndLogOutput(e.getExecutableOutput());
+            throw e;
+        }
+        publishAndLogOutput(output);
+        return output;
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        final ExecutableOutput output;
+        try {
+            output = super.execute(executable, standardOutputConsumer);
+        } catch (final ExecutableTimeoutException e) {
+            publishAndLogOutput(e.getExecutableOutput());
+            throw e;
+        }
+        publishAndLogOutput(output);
+        return output;
+    }
+
+    @NotNull
+    @Override
+    public <T> Callable<T> propagateContext(final Callable<T> task) {
+        return detectorThreadContext != null ? detectorThreadContext.propagate(task) : task;
+    }
+
+    private void publishAndLogOutput(final ExecutableOutput output) {
         eventSystem.publishEvent(Event.Executable, output);
         if (output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled()) {
             if (StringUtils.isNotBlank(output.getStandardOutput())) {
@@ -72,6 +119,5 @@ public class DetectExecutableRunner extends ProcessBuilderExecutableRunner {
                 logger.info(output.getErrorOutput());
             }
         }
-        return output;
     }
 }
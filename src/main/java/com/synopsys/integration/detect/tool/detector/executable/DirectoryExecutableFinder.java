@@ -55,7 +55,7 @@ public class DirectoryExecutableFinder {
         this.fileFinder = fileFinder;
     }
 
-    private List<String> executablesFromName(final String name) {
+    List<String> executablesFromName(final String name) {
         if (extensions.isEmpty()) {
             return Collections.singletonList(name);
         } else {
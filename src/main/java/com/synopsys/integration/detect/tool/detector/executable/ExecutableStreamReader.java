@@ -0,0 +1,115 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+public class ExecutableStreamReader implements Runnable {
+    // Enough of a streamed output to show why an executable failed, such as maven's [ERROR] lines, without keeping all of it.
+    public static final int STREAMED_OUTPUT_TAIL_LINES = 200;
+
+    private final BufferedReader bufferedReader;
+    @Nullable
+    private final StringBuilder stringBuilder;
+    @Nullable
+    private final Consumer<String> lineConsumer;
+    private final Deque<String> tail = new ArrayDeque<>();
+    private final Consumer<String> outputLoggingMethod;
+    private final Consumer<String> traceLoggingMethod;
+
+    private String executableOutput;
+    private RuntimeException lineConsumerException;
+
+    public ExecutableStreamReader(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
+        this(executableStream, null, outputLoggingMethod, traceLoggingMethod);
+    }
+
+    // With a line consumer, lines are handed to it on the reading thread and only the last STREAMED_OUTPUT_TAIL_LINES are kept for getExecutableOutput.
+    public ExecutableStreamReader(final InputStream executableStream, @Nullable final Consumer<String> lineConsumer, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
+        this.lineConsumer = lineConsumer;
+        this.outputLoggingMethod = outputLoggingMethod;
+        this.traceLoggingMethod = traceLoggingMethod;
+        final InputStreamReader reader = new InputStreamReader(executableStream, StandardCharsets.UTF_8);
+        this.bufferedReader = new BufferedReader(reader);
+        this.stringBuilder = lineConsumer == null ? new StringBuilder() : null;
+    }
+
+    @Override
+    public void run() {
+        try {
+            String line;
+            final String separator = System.lineSeparator();
+            while ((line = bufferedReader.readLine()) != null) {
+                if (stringBuilder != null) {
+                    stringBuilder.append(line).append(separator);
+                } else {
+                    consumeLine(line);
+                    keepInTail(line);
+                }
+                outputLoggingMethod.accept(line);
+            }
+        } catch (final IOException e) {
+            // Ignore
+            traceLoggingMethod.accept(e.toString());
+        }
+        this.executableOutput = stringBuilder != null ? stringBuilder.toString() : String.join(System.lineSeparator(), tail);
+    }
+
+    private void keepInTail(final String line) {
+        if (tail.size() == STREAMED_OUTPUT_TAIL_LINES) {
+            tail.removeFirst();
+        }
+        tail.addLast(line);
+    }
+
+    // The stream is still drained after the consumer fails so the executable is never blocked on a full pipe.
+    private void consumeLine(final String line) {
+        if (lineConsumerException != null) {
+            return;
+        }
+        try {
+            lineConsumer.accept(line);
+        } catch (final RuntimeException e) {
+            lineConsumerException = e;
+        }
+    }
+
+    public String getExecutableOutput() {
+        return executableOutput;
+    }
+
+    public Optional<RuntimeException> getLineConsumerException() {
+        return Optional.ofNullable(lineConsumerException);
+    }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.util.Map;
+
+import com.synopsys.integration.detector.base.DetectorType;
+
+public class ExecutableTimeoutOptions {
+    private final long defaultTimeoutSeconds;
+    private final Map<String, Long> executableTimeoutSeconds;
+    private final Map<DetectorType, Long> detectorTimeoutSeconds;
+
+    // Executable names are lower case file names without their extension. A timeout of 0 or less means no limit.
+    public ExecutableTimeoutOptions(final long defaultTimeoutSeconds, final Map<String, Long> executableTimeoutSeconds, final Map<DetectorType, Long> detectorTimeoutSeconds) {
+        this.defaultTimeoutSeconds = defaultTimeoutSeconds;
+        this.executableTimeoutSeconds = executableTimeoutSeconds;
+        this.detectorTimeoutSeconds = detectorTimeoutSeconds;
+    }
+
+    public long getDefaultTimeoutSeconds() {
+        return defaultTimeoutSeconds;
+    }
+
+    public Map<String, Long> getExecutableTimeoutSeconds() {
+        return executableTimeoutSeconds;
+    }
+
+    public Map<DetectorType, Long> getDetectorTimeoutSeconds() {
+        return detectorTimeoutSeconds;
+    }
+}
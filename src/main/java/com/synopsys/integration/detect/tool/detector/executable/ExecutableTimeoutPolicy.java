@@ -0,0 +1,80 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.apache.commons.io.FilenameUtils;
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+
+// Decides how long an executable may run: a limit for its executable name wins over a limit for the detector running it, which wins over the default.
+// The detector running an executable is taken from the detector thread context, which follows work the detector hands to its own threads.
+public class ExecutableTimeoutPolicy {
+    private final ExecutableTimeoutOptions options;
+    @Nullable
+    private final DetectorThreadContext detectorThreadContext;
+
+    public static ExecutableTimeoutPolicy none() {
+        return new ExecutableTimeoutPolicy(new ExecutableTimeoutOptions(0, Collections.emptyMap(), Collections.emptyMap()), null);
+    }
+
+    public ExecutableTimeoutPolicy(final ExecutableTimeoutOptions options, @Nullable final DetectorThreadContext detectorThreadContext) {
+        this.options = options;
+        this.detectorThreadContext = detectorThreadContext;
+    }
+
+    public Optional<Long> findTimeoutSeconds(final Executable executable) {
+        Long timeoutSeconds = findExecutableName(executable)
+                                  .map(options.getExecutableTimeoutSeconds()::get)
+                                  .orElse(null);
+        if (timeoutSeconds == null && detectorThreadContext != null && !options.getDetectorTimeoutSeconds().isEmpty()) {
+            timeoutSeconds = detectorThreadContext.getCurrentEvaluation()
+                                 .map(evaluation -> evaluation.getDetectorRule().getDetectorType())
+                                 .map(options.getDetectorTimeoutSeconds()::get)
+                                 .orElse(null);
+        }
+        if (timeoutSeconds == null) {
+            timeoutSeconds = options.getDefaultTimeoutSeconds();
+        }
+        return timeoutSeconds > 0 ? Optional.of(timeoutSeconds) : Optional.empty();
+    }
+
+    public static String toExecutableName(final String executablePath) {
+        return FilenameUtils.getBaseName(new File(executablePath).getName()).toLowerCase(Locale.ROOT);
+    }
+
+    private Optional<String> findExecutableName(final Executable executable) {
+        final List<String> command = executable.getCommand();
+        if (command.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toExecutableName(command.get(0)));
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// How many times each executable ran and how long it took, collected across the run.
+public class ExecutableTimings {
+    private final Map<String, ExecutableTiming> timings = new ConcurrentHashMap<>();
+
+    public void record(final String executableName, final long durationMillis) {
+        timings.computeIfAbsent(executableName, ExecutableTiming::new).record(durationMillis);
+    }
+
+    public long getExecutionCount() {
+        return timings.values().stream().mapToLong(ExecutableTiming::getCount).sum();
+    }
+
+    public long getTotalMillis() {
+        return timings.values().stream().mapToLong(ExecutableTiming::getTotalMillis).sum();
+    }
+
+    // Longest total time first.
+    public List<ExecutableTiming> getTimings() {
+        final List<ExecutableTiming> sorted = new ArrayList<>(timings.values());
+        sorted.sort(Comparator.comparingLong(ExecutableTiming::getTotalMillis).reversed());
+        return sorted;
+    }
+
+    public static class ExecutableTiming {
+        private final String executableName;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maximumMillis = new AtomicLong();
+
+        private ExecutableTiming(final String executableName) {
+            this.executableName = executableName;
+        }
+
+        private void record(final long durationMillis) {
+            count.increment();
+            totalMillis.add(durationMillis);
+            maximumMillis.accumulateAndGet(durationMillis, Math::max);
+        }
+
+        public String getExecutableName() {
+            return executableName;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.sum();
+        }
+
+        public long getMaximumMillis() {
+            return maximumMillis.get();
+        }
+    }
+}
@@ -28,30 +28,45 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectable.executable.Executable;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableResourceUsage;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableTimeoutException;
 
 public class ProcessBuilderExecutableRunner implements ExecutableRunner {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final Consumer<String> outputConsumer;
     private final Consumer<String> traceConsumer;
+    private final ExecutableTimeoutPolicy timeoutPolicy;
+    private final ProcessTree processTree = new ProcessTree();
+    private final ExecutableTimings executableTimings = new ExecutableTimings();
 
     public ProcessBuilderExecutableRunner() {
         this.outputConsumer = logger::debug;
         this.traceConsumer = logger::trace;
+        this.timeoutPolicy = ExecutableTimeoutPolicy.none();
     }
 
     public ProcessBuilderExecutableRunner(final Consumer<String> outputConsumer, final Consumer<String> traceConsumer) {
+        this(outputConsumer, traceConsumer, ExecutableTimeoutPolicy.none());
+    }
+
+    public ProcessBuilderExecutableRunner(final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, final ExecutableTimeoutPolicy timeoutPolicy) {
         this.outputConsumer = outputConsumer;
         this.traceConsumer = traceConsumer;
+        this.timeoutPolicy = timeoutPolicy;
     }
 
     @NotNull
@@ -81,35 +96,70 @@ public class ProcessBuilderExecutableRunner implements ExecutableRunner {
     @NotNull
     @Override
     public ExecutableOutput execute(final Executable executable) throws ExecutableRunnerException {
+        return executeProcess(executable, null);
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return executeProcess(executable, standardOutputConsumer);
+    }
+
+    private ExecutableOutput executeProcess(final Executable executable, @Nullable final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
         logger.info(String.format("Running executable >%s", executable.getMaskedExecutableDescription()));
         try {
+            final Optional<Long> timeoutSeconds = timeoutPolicy.findTimeoutSeconds(executable);
             final ProcessBuilder processBuilder = executable.createProcessBuilder();
             final Process process = processBuilder.start();
+            final ProcessMonitor processMonitor = ProcessMonitor.start(process, processTree, timeoutSeconds.orElse(null));
 
             try (final InputStream standardOutputStream = process.getInputStream(); final InputStream standardErrorStream = process.getErrorStream()) {
-                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, outputConsumer, traceConsumer);
-                standardOutputThread.start();
+                final ExecutableStreamReader errorOutputReader = new ExecutableStreamReader(standardErrorStream, outputConsumer, traceConsumer);
+                final Future<?> errorOutputFuture = ExecutableStreamPool.submit(errorOutputReader);
 
-                final ExecutableStreamThread errorOutputThread = new ExecutableStreamThread(standardErrorStream, outputConsumer, traceConsumer);
-                errorOutputThread.start();
+                // Standard output is read on this thread, which would otherwise just be waiting for the process.
+                final ExecutableStreamReader standardOutputReader = new ExecutableStreamReader(standardOutputStream, standardOutputConsumer, outputConsumer, traceConsumer);
+                standardOutputReader.run();
 
                 final int returnCode = process.waitFor();
                 logger.info("Executable finished: " + returnCode);
 
-                standardOutputThread.join();
-                errorOutputThread.join();
+                errorOutputFuture.get();
+
+                final ExecutableResourceUsage resourceUsage = processMonitor.stop();
+                executableTimings.record(getExecutableName(executable), resourceUsage.getWallTimeMillis());
+                logger.debug(String.format("Executable took %d ms.", resourceUsage.getWallTimeMillis()));
 
-                final String standardOutput = standardOutputThread.getExecutableOutput().trim();
-                final String errorOutput = errorOutputThread.getExecutableOutput().trim();
+                final Optional<RuntimeException> lineConsumerException = standardOutputReader.getLineConsumerException();
+                if (lineConsumerException.isPresent()) {
+                    throw new ExecutableRunnerException(executable.getMaskedExecutableDescription(), lineConsumerException.get());
+                }
 
-                final ExecutableOutput output = new ExecutableOutput(executable.getMaskedExecutableDescription(), returnCode, standardOutput, errorOutput);
+                final String standardOutput = standardOutputReader.getExecutableOutput().trim();
+                final String errorOutput = errorOutputReader.getExecutableOutput().trim();
+
+                final ExecutableOutput output = new ExecutableOutput(executable.getMaskedExecutableDescription(), returnCode, standardOutput, errorOutput, resourceUsage);
+                if (resourceUsage.isTimedOut()) {
+                    throw new ExecutableTimeoutException(output, timeoutSeconds.orElse(0L));
+                }
                 return output;
+            } finally {
+                processMonitor.stop();
             }
-        } catch (final IOException | InterruptedException e) {
+        } catch (final IOException | InterruptedException | ExecutionException e) {
             throw new ExecutableRunnerException(executable.getMaskedExecutableDescription(), e);
         }
     }
 
+    private String getExecutableName(final Executable executable) {
+        final List<String> command = executable.getCommand();
+        return command.isEmpty() ? "" : new File(command.get(0)).getName();
+    }
+
+    public ExecutableTimings getExecutableTimings() {
+        return executableTimings;
+    }
+
     @Override
     public @NotNull Executable translate(final File workingDirectory, final File exeFile, final List<String> args) {
         return new Executable(workingDirectory, new HashMap<>(), exeFile.getAbsolutePath(), args);
@@ -0,0 +1,130 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectable.executable.ExecutableResourceUsage;
+
+// Watches one running process: samples the CPU time and resident set size of its process tree, and kills the tree if it runs past its time limit.
+// Every monitor shares one daemon thread, so sampling and killing must stay short.
+public class ProcessMonitor {
+    private static final long SAMPLE_INTERVAL_MILLIS = 1000;
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Executable_Monitor_Thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Process process;
+    private final ProcessTree processTree;
+    private final long startNanos;
+    @Nullable
+    private final Long pid;
+    @Nullable
+    private final ScheduledFuture<?> sampleFuture;
+    @Nullable
+    private final ScheduledFuture<?> timeoutFuture;
+
+    // Guarded by this. CPU time is kept per process because a process's own CPU time only grows while it runs.
+    private final Map<Long, Long> cpuTimeMillisByPid = new HashMap<>();
+    private long peakResidentSetKilobytes = 0;
+    private boolean sampled = false;
+    private boolean timedOut = false;
+    @Nullable
+    private ExecutableResourceUsage resourceUsage = null;
+
+    public static ProcessMonitor start(final Process process, final ProcessTree processTree, @Nullable final Long timeoutSeconds) {
+        return new ProcessMonitor(process, processTree, timeoutSeconds);
+    }
+
+    private ProcessMonitor(final Process process, final ProcessTree processTree, @Nullable final Long timeoutSeconds) {
+        this.process = process;
+        this.processTree = processTree;
+        this.startNanos = System.nanoTime();
+        this.pid = processTree.isAvailable() ? ProcessTree.findPid(process).orElse(null) : null;
+        this.sampleFuture = pid != null ? scheduler.scheduleWithFixedDelay(this::sample, SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS) : null;
+        this.timeoutFuture = timeoutSeconds != null ? scheduler.schedule(this::timeout, timeoutSeconds, TimeUnit.SECONDS) : null;
+    }
+
+    private synchronized void sample() {
+        if (pid == null || resourceUsage != null) {
+            return;
+        }
+        final List<Long> tree = processTree.findTree(pid);
+        long residentSetKilobytes = 0;
+        for (final Long treePid : tree) {
+            final Optional<ProcessTree.ProcessSample> processSample = processTree.sample(treePid);
+            if (processSample.isPresent()) {
+                cpuTimeMillisByPid.merge(treePid, processSample.get().getCpuTimeMillis(), Math::max);
+                residentSetKilobytes += processSample.get().getResidentSetKilobytes();
+                sampled = true;
+            }
+        }
+        peakResidentSetKilobytes = Math.max(peakResidentSetKilobytes, residentSetKilobytes);
+    }
+
+    // Kills while holding the lock so a process that was already stopped, whose pid may be reused, is never killed.
+    private synchronized void timeout() {
+        if (resourceUsage != null) {
+            return;
+        }
+        timedOut = true;
+        sample();
+        logger.warn(String.format("An executable ran past its time limit, stopping it and every process it started (pid %s).", pid != null ? pid : "unknown"));
+        processTree.kill(process);
+    }
+
+    // Stops watching and returns what the process used. Safe to call more than once.
+    public synchronized ExecutableResourceUsage stop() {
+        if (resourceUsage == null) {
+            if (sampleFuture != null) {
+                sampleFuture.cancel(false);
+            }
+            if (timeoutFuture != null) {
+                timeoutFuture.cancel(false);
+            }
+            final long wallTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            final Long cpuTimeMillis = sampled ? cpuTimeMillisByPid.values().stream().mapToLong(Long::longValue).sum() : null;
+            final Long residentSetKilobytes = sampled ? peakResidentSetKilobytes : null;
+            resourceUsage = new ExecutableResourceUsage(wallTimeMillis, cpuTimeMillis, residentSetKilobytes, timedOut);
+        }
+        return resourceUsage;
+    }
+
+    public synchronized boolean isTimedOut() {
+        return timedOut;
+    }
+}
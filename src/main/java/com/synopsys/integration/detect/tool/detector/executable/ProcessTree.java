@@ -0,0 +1,205 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Finds, measures and kills the processes an executable started by reading the Linux /proc file system.
+// Where there is no /proc nothing is found, and callers fall back to what java.lang.Process can do on its own.
+public class ProcessTree {
+    // /proc reports CPU time in USER_HZ ticks, which Linux fixes at 100 per second for user space regardless of the kernel tick rate.
+    private static final long CLOCK_TICKS_PER_SECOND = 100;
+    private static final long KILL_WAIT_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Path procDirectory;
+
+    public ProcessTree() {
+        this(Paths.get("/proc"));
+    }
+
+    public ProcessTree(final Path procDirectory) {
+        this.procDirectory = procDirectory;
+    }
+
+    public boolean isAvailable() {
+        return Files.isDirectory(procDirectory);
+    }
+
+    // Java 8 has no public way to get a process id, so this uses Process.pid() where it exists and otherwise the pid field of the unix process class.
+    public static Optional<Long> findPid(final Process process) {
+        try {
+            final Method pidMethod = Process.class.getMethod("pid");
+            return Optional.of(((Number) pidMethod.invoke(process)).longValue());
+        } catch (final ReflectiveOperationException ignored) {
+            // Fall through to the java 8 field.
+        }
+        try {
+            final Field pidField = process.getClass().getDeclaredField("pid");
+            pidField.setAccessible(true);
+            return Optional.of(((Number) pidField.get(process)).longValue());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // The process and every process below it, parents before their children.
+    public List<Long> findTree(final long rootPid) {
+        final Map<Long, List<Long>> childrenByParent = readChildrenByParent();
+        final Set<Long> tree = new LinkedHashSet<>();
+        final Deque<Long> pending = new ArrayDeque<>();
+        pending.add(rootPid);
+        while (!pending.isEmpty()) {
+            final Long pid = pending.poll();
+            if (tree.add(pid)) {
+                pending.addAll(childrenByParent.getOrDefault(pid, new ArrayList<>()));
+            }
+        }
+        return new ArrayList<>(tree);
+    }
+
+    private Map<Long, List<Long>> readChildrenByParent() {
+        final Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        try (final DirectoryStream<Path> processDirectories = Files.newDirectoryStream(procDirectory, path -> NumberUtils.isDigits(path.getFileName().toString()))) {
+            for (final Path processDirectory : processDirectories) {
+                final long pid = Long.parseLong(processDirectory.getFileName().toString());
+                readStatFields(pid).ifPresent(statFields -> childrenByParent.computeIfAbsent(Long.parseLong(statFields[1]), parent -> new ArrayList<>()).add(pid));
+            }
+        } catch (final IOException e) {
+            logger.trace("Unable to list processes.", e);
+        }
+        return childrenByParent;
+    }
+
+    public Optional<ProcessSample> sample(final long pid) {
+        final Optional<String[]> statFields = readStatFields(pid);
+        if (!statFields.isPresent()) {
+            return Optional.empty();
+        }
+        final long cpuTicks = Long.parseLong(statFields.get()[11]) + Long.parseLong(statFields.get()[12]);
+        final long cpuTimeMillis = TimeUnit.SECONDS.toMillis(cpuTicks) / CLOCK_TICKS_PER_SECOND;
+        return Optional.of(new ProcessSample(cpuTimeMillis, readResidentSetKilobytes(pid)));
+    }
+
+    // The fields after the command name, which is in parentheses and may itself contain spaces and parentheses. Index 0 is the state.
+    private Optional<String[]> readStatFields(final long pid) {
+        final String stat = readProcFile(pid, "stat");
+        final int commandEnd = stat.lastIndexOf(')');
+        if (commandEnd < 0) {
+            return Optional.empty();
+        }
+        final String[] fields = StringUtils.split(stat.substring(commandEnd + 1));
+        if (fields.length < 13 || !NumberUtils.isDigits(fields[1]) || !NumberUtils.isDigits(fields[11]) || !NumberUtils.isDigits(fields[12])) {
+            return Optional.empty();
+        }
+        return Optional.of(fields);
+    }
+
+    private long readResidentSetKilobytes(final long pid) {
+        for (final String line : StringUtils.split(readProcFile(pid, "status"), '\n')) {
+            if (line.startsWith("VmRSS:")) {
+                final String kilobytes = StringUtils.removeEnd(line.substring("VmRSS:".length()).trim(), "kB").trim();
+                return NumberUtils.toLong(kilobytes);
+            }
+        }
+        return 0;
+    }
+
+    // Processes come and go while they are read, so a missing file just means the process is gone.
+    private String readProcFile(final long pid, final String fileName) {
+        try {
+            return new String(Files.readAllBytes(procDirectory.resolve(Long.toString(pid)).resolve(fileName)), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            return "";
+        }
+    }
+
+    // Stops the whole tree before killing it so no process can start another after the tree was read. Always kills the process itself as well.
+    public void kill(final Process process) {
+        final Optional<Long> pid = findPid(process);
+        if (pid.isPresent() && isAvailable()) {
+            final List<Long> stoppedTree = findTree(pid.get());
+            signal("-STOP", stoppedTree);
+            signal("-KILL", findTree(pid.get()));
+        }
+        process.destroyForcibly();
+    }
+
+    private void signal(final String signal, final List<Long> pids) {
+        final List<String> command = new ArrayList<>();
+        command.add("kill");
+        command.add(signal);
+        pids.forEach(pid -> command.add(Long.toString(pid)));
+        try {
+            final Process killProcess = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.PIPE).start();
+            killProcess.getInputStream().close();
+            if (!killProcess.waitFor(KILL_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                killProcess.destroyForcibly();
+            }
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to send %s to processes %s: %s", signal, pids, e.getMessage()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class ProcessSample {
+        private final long cpuTimeMillis;
+        private final long residentSetKilobytes;
+
+        public ProcessSample(final long cpuTimeMillis, final long residentSetKilobytes) {
+            this.cpuTimeMillis = cpuTimeMillis;
+            this.residentSetKilobytes = residentSetKilobytes;
+        }
+
+        public long getCpuTimeMillis() {
+            return cpuTimeMillis;
+        }
+
+        public long getResidentSetKilobytes() {
+            return residentSetKilobytes;
+        }
+    }
+}
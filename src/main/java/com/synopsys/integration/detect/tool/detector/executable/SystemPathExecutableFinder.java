@@ -23,33 +23,117 @@
 package com.synopsys.integration.detect.tool.detector.executable;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // Finds an executable on the system path.
+// The path is split and every location listed once, the first time an executable is requested, so lookups no longer probe each location.
 public class SystemPathExecutableFinder {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final DirectoryExecutableFinder executableFinder;
+    private final String systemPath;
+
+    private volatile SystemPathIndex systemPathIndex;
 
     public SystemPathExecutableFinder(DirectoryExecutableFinder executableFinder) {
+        this(executableFinder, System.getenv("PATH"));
+    }
+
+    public SystemPathExecutableFinder(DirectoryExecutableFinder executableFinder, @Nullable String systemPath) {
         this.executableFinder = executableFinder;
+        this.systemPath = StringUtils.defaultString(systemPath);
     }
 
+    @Nullable
     public File findExecutable(final String executable) {
-        final String systemPath = System.getenv("PATH");
-        List<File> systemPathLocations = Arrays.stream(systemPath.split(File.pathSeparator))
-                                             .map(File::new)
-                                             .collect(Collectors.toList());
+        SystemPathIndex index = getSystemPathIndex();
+
+        // Keep the precedence of searching each location in turn: the earliest location wins, then the earliest extension within it.
+        File found = null;
+        int foundLocation = Integer.MAX_VALUE;
+        for (String possibleExecutable : executableFinder.executablesFromName(executable)) {
+            for (Integer location : index.findLocations(possibleExecutable)) {
+                if (location >= foundLocation) {
+                    break;
+                }
+                File candidate = new File(index.getLocation(location), possibleExecutable);
+                if (candidate.exists() && candidate.canExecute()) {
+                    found = candidate;
+                    foundLocation = location;
+                    break;
+                }
+            }
+        }
 
-        File found = executableFinder.findExecutable(executable, systemPathLocations);
         if (found == null) {
             logger.debug(String.format("Could not find the executable: %s while searching through: %s", executable, systemPath));
         }
         return found;
     }
+
+    private SystemPathIndex getSystemPathIndex() {
+        SystemPathIndex index = systemPathIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = systemPathIndex;
+                if (index == null) {
+                    index = SystemPathIndex.build(systemPath);
+                    logger.debug(String.format("Indexed %d system path locations.", index.locations.size()));
+                    systemPathIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static class SystemPathIndex {
+        private final List<File> locations;
+        private final Map<String, List<Integer>> locationsByFileName;
+
+        private SystemPathIndex(List<File> locations, Map<String, List<Integer>> locationsByFileName) {
+            this.locations = locations;
+            this.locationsByFileName = locationsByFileName;
+        }
+
+        public static SystemPathIndex build(String systemPath) {
+            Set<File> uniqueLocations = Arrays.stream(systemPath.split(File.pathSeparator))
+                                            .filter(StringUtils::isNotBlank)
+                                            .map(File::new)
+                                            .collect(Collectors.toCollection(LinkedHashSet::new));
+            List<File> locations = new ArrayList<>(uniqueLocations);
+
+            Map<String, List<Integer>> locationsByFileName = new HashMap<>();
+            for (int location = 0; location < locations.size(); location++) {
+                String[] fileNames = locations.get(location).list();
+                if (fileNames == null) {
+                    continue;
+                }
+                for (String fileName : fileNames) {
+                    locationsByFileName.computeIfAbsent(fileName, key -> new ArrayList<>()).add(location);
+                }
+            }
+            return new SystemPathIndex(locations, locationsByFileName);
+        }
+
+        public List<Integer> findLocations(String fileName) {
+            return locationsByFileName.getOrDefault(fileName, Collections.emptyList());
+        }
+
+        public File getLocation(int location) {
+            return locations.get(location);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /**
- * detectable
+ * synopsys-detect
  *
  * Copyright (c) 2020 Synopsys, Inc.
  *
@@ -20,23 +20,22 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+package com.synopsys.integration.detect.tool.detector.extraction;
 
-import java.util.Map;
+public class ExtractionCacheOptions {
+    private final boolean enabled;
+    private final int maxEntries;
 
-import com.google.gson.annotations.SerializedName;
+    public ExtractionCacheOptions(final boolean enabled, final int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
 
-public class PackageLockDependency {
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dev")
-    public Boolean dev;
-
-    @SerializedName("requires")
-    public Map<String, String> requires;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
+    public boolean isEnabled() {
+        return enabled;
+    }
 
+    public int getMaxEntries() {
+        return maxEntries;
+    }
 }
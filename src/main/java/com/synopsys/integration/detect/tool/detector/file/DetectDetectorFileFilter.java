@@ -27,20 +27,24 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Predicate;
 
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
+import org.apache.commons.io.IOCase;
 
+// Exclusions are compiled once so the cost of testing a directory does not grow with the number of configured exclusions.
 public class DetectDetectorFileFilter implements Predicate<File> {
     private final Path sourcePath;
-    private final List<String> excludedDirectories;
-    private final List<String> excludedDirectoryPaths;
-    private final WildcardFileFilter fileFilter;
+    private final WildcardNameMatcher excludedDirectoryMatcher;
+    private final PathSuffixTrie excludedDirectoryPathTrie;
+    private final WildcardNameMatcher excludedDirectoryNamePatternMatcher;
 
     public DetectDetectorFileFilter(final Path sourcePath, final List<String> excludedDirectories, final List<String> excludedDirectoryPaths, final List<String> excludedDirectoryNamePatterns) {
         this.sourcePath = sourcePath;
-        this.excludedDirectories = excludedDirectories;
-        this.excludedDirectoryPaths = excludedDirectoryPaths;
-        fileFilter = new WildcardFileFilter(excludedDirectoryNamePatterns);
+        // Directory names match like FilenameUtils.wildcardMatchOnSystem and name patterns like a case sensitive WildcardFileFilter.
+        excludedDirectoryMatcher = new WildcardNameMatcher(excludedDirectories, IOCase.SYSTEM.isCaseSensitive());
+        excludedDirectoryNamePatternMatcher = new WildcardNameMatcher(excludedDirectoryNamePatterns, true);
+        excludedDirectoryPathTrie = new PathSuffixTrie(IOCase.SYSTEM.isCaseSensitive());
+        for (final String excludedDirectoryPath : excludedDirectoryPaths) {
+            excludedDirectoryPathTrie.add(new File(excludedDirectoryPath).toPath());
+        }
     }
 
     @Override
@@ -49,20 +53,18 @@ public class DetectDetectorFileFilter implements Predicate<File> {
     }
 
     public boolean isExcluded(final File file) {
-        for (final String excludedDirectory : excludedDirectories) {
-            if (FilenameUtils.wildcardMatchOnSystem(file.getName(), excludedDirectory)) {
-                return true;
-            }
+        final String fileName = file.getName();
+        if (excludedDirectoryMatcher.matches(fileName)) {
+            return true;
         }
 
-        for (final String excludedDirectory : excludedDirectoryPaths) {
-            final Path excludedDirectoryPath = new File(excludedDirectory).toPath();
+        if (!excludedDirectoryPathTrie.isEmpty()) {
             final Path relativeDirectoryPath = sourcePath.relativize(file.toPath());
-            if (relativeDirectoryPath.endsWith(excludedDirectoryPath)) {
+            if (excludedDirectoryPathTrie.isSuffixOf(relativeDirectoryPath)) {
                 return true;
             }
         }
 
-        return fileFilter.accept(file); //returns TRUE if it matches one of the file filters.
+        return excludedDirectoryNamePatternMatcher.matches(fileName);
     }
 }
@@ -27,13 +27,20 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.synopsys.integration.detectable.detectable.file.DirectoryListingCache;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 
 public class FilteredFileFinder extends WildcardFileFinder {
     private final List<String> excludedFileNames;
 
     public FilteredFileFinder(final List<String> excludedFileNames) {
+        this(excludedFileNames, null);
+    }
+
+    public FilteredFileFinder(final List<String> excludedFileNames, @Nullable final DirectoryListingCache directoryListingCache) {
+        super(directoryListingCache);
         this.excludedFileNames = excludedFileNames;
     }
 
@@ -0,0 +1,78 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.file;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// Answers whether a relative path ends with any of a set of paths by walking their names from the last one backwards.
+public class PathSuffixTrie {
+    private final boolean caseSensitive;
+    private final Node root = new Node();
+    private boolean empty = true;
+
+    public PathSuffixTrie(final boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    // An absolute path can never end a relative one, so those are not added.
+    public void add(final Path suffix) {
+        if (suffix.isAbsolute()) {
+            return;
+        }
+        Node node = root;
+        for (int i = suffix.getNameCount() - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(normalize(suffix.getName(i).toString()), it -> new Node());
+        }
+        node.terminal = true;
+        empty = false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean isSuffixOf(final Path path) {
+        Node node = root;
+        for (int i = path.getNameCount() - 1; i >= 0; i--) {
+            node = node.children.get(normalize(path.getName(i).toString()));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String normalize(final String name) {
+        return caseSensitive ? name : name.toLowerCase();
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
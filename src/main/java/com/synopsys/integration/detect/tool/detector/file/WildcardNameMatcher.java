@@ -0,0 +1,198 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.file;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Matches a name against many wildcard patterns ('*' and '?', as in FilenameUtils.wildcardMatch) at once.
+// Patterns without wildcards go in a hash set; the rest are compiled into one automaton whose deterministic states are built lazily and shared between names.
+public class WildcardNameMatcher {
+    private static final char ANY_SEQUENCE = '*';
+    private static final char ANY_CHARACTER = '?';
+    // Names are short, so this is only reached by pathological pattern sets; past it, transitions are computed without being kept.
+    private static final int MAXIMUM_DFA_STATES = 10000;
+
+    private final boolean caseSensitive;
+    private final Set<String> literals = new HashSet<>();
+    private final List<char[]> wildcardPatterns = new ArrayList<>();
+    private final int[] patternOffsets;
+    private final int nfaStateCount;
+
+    private final Map<BitSet, DfaState> dfaStates = new HashMap<>();
+    private final DfaState initialState;
+
+    public WildcardNameMatcher(final Collection<String> patterns, final boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        for (final String pattern : patterns) {
+            final String normalized = normalize(pattern);
+            if (normalized.indexOf(ANY_SEQUENCE) < 0 && normalized.indexOf(ANY_CHARACTER) < 0) {
+                literals.add(normalized);
+            } else {
+                wildcardPatterns.add(collapseSequences(normalized));
+            }
+        }
+
+        patternOffsets = new int[wildcardPatterns.size()];
+        int offset = 0;
+        for (int i = 0; i < wildcardPatterns.size(); i++) {
+            patternOffsets[i] = offset;
+            offset += wildcardPatterns.get(i).length + 1;
+        }
+        nfaStateCount = offset;
+
+        final BitSet start = new BitSet(nfaStateCount);
+        for (int i = 0; i < wildcardPatterns.size(); i++) {
+            addWithClosure(start, i, 0);
+        }
+        initialState = findOrCreateState(start);
+    }
+
+    public boolean isEmpty() {
+        return literals.isEmpty() && wildcardPatterns.isEmpty();
+    }
+
+    public boolean matches(final String name) {
+        final String normalized = normalize(name);
+        if (literals.contains(normalized)) {
+            return true;
+        }
+        if (wildcardPatterns.isEmpty()) {
+            return false;
+        }
+
+        DfaState state = initialState;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (state.dead) {
+                return false;
+            }
+            final char character = normalized.charAt(i);
+            DfaState next = state.transitions.get(character);
+            if (next == null) {
+                next = computeTransition(state, character);
+            }
+            state = next;
+        }
+        return state.accepting;
+    }
+
+    private synchronized DfaState computeTransition(final DfaState state, final char character) {
+        final DfaState existing = state.transitions.get(character);
+        if (existing != null) {
+            return existing;
+        }
+
+        final BitSet next = step(state.nfaStates, character);
+        if (dfaStates.size() >= MAXIMUM_DFA_STATES && !dfaStates.containsKey(next)) {
+            return new DfaState(next, isAccepting(next));
+        }
+        final DfaState nextState = findOrCreateState(next);
+        state.transitions.put(character, nextState);
+        return nextState;
+    }
+
+    private DfaState findOrCreateState(final BitSet nfaStates) {
+        return dfaStates.computeIfAbsent(nfaStates, it -> new DfaState(it, isAccepting(it)));
+    }
+
+    private BitSet step(final BitSet current, final char character) {
+        final BitSet next = new BitSet(nfaStateCount);
+        for (int patternIndex = 0; patternIndex < wildcardPatterns.size(); patternIndex++) {
+            final char[] pattern = wildcardPatterns.get(patternIndex);
+            final int offset = patternOffsets[patternIndex];
+            for (int position = current.nextSetBit(offset); position >= 0 && position < offset + pattern.length; position = current.nextSetBit(position + 1)) {
+                final int patternPosition = position - offset;
+                final char token = pattern[patternPosition];
+                if (token == ANY_SEQUENCE) {
+                    addWithClosure(next, patternIndex, patternPosition);
+                } else if (token == ANY_CHARACTER || token == character) {
+                    addWithClosure(next, patternIndex, patternPosition + 1);
+                }
+            }
+        }
+        return next;
+    }
+
+    // A '*' may match nothing, so reaching it also reaches the position after it.
+    private void addWithClosure(final BitSet states, final int patternIndex, final int patternPosition) {
+        final char[] pattern = wildcardPatterns.get(patternIndex);
+        final int offset = patternOffsets[patternIndex];
+        int position = patternPosition;
+        states.set(offset + position);
+        while (position < pattern.length && pattern[position] == ANY_SEQUENCE) {
+            position++;
+            states.set(offset + position);
+        }
+    }
+
+    private boolean isAccepting(final BitSet nfaStates) {
+        for (int i = 0; i < wildcardPatterns.size(); i++) {
+            if (nfaStates.get(patternOffsets[i] + wildcardPatterns.get(i).length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private char[] collapseSequences(final String pattern) {
+        final StringBuilder collapsed = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            final char character = pattern.charAt(i);
+            if (character != ANY_SEQUENCE || collapsed.length() == 0 || collapsed.charAt(collapsed.length() - 1) != ANY_SEQUENCE) {
+                collapsed.append(character);
+            }
+        }
+        return collapsed.toString().toCharArray();
+    }
+
+    private String normalize(final String value) {
+        if (caseSensitive) {
+            return value;
+        }
+        final char[] characters = value.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
+    }
+
+    private static class DfaState {
+        private final BitSet nfaStates;
+        private final boolean accepting;
+        private final boolean dead;
+        private final Map<Character, DfaState> transitions = new ConcurrentHashMap<>();
+
+        private DfaState(final BitSet nfaStates, final boolean accepting) {
+            this.nfaStates = nfaStates;
+            this.accepting = accepting;
+            this.dead = nfaStates.isEmpty();
+        }
+    }
+}
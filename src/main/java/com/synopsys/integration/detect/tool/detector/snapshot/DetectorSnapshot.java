@@ -0,0 +1,43 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.snapshot;
+
+import java.util.List;
+
+public class DetectorSnapshot {
+    private final String runKey;
+    private final List<DetectorSnapshotEntry> entries;
+
+    public DetectorSnapshot(final String runKey, final List<DetectorSnapshotEntry> entries) {
+        this.runKey = runKey;
+        this.entries = entries;
+    }
+
+    public String getRunKey() {
+        return runKey;
+    }
+
+    public List<DetectorSnapshotEntry> getEntries() {
+        return entries;
+    }
+}
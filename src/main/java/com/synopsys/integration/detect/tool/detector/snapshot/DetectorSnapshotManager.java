@@ -0,0 +1,195 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.snapshot.ExtractionSnapshotConverter;
+import com.synopsys.integration.detectable.util.DigestUtil;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.evaluation.PreviousExtractionProvider;
+
+// Remembers successful extractions between runs on the same source directory so detectors whose inputs did not change are not extracted again.
+// Only detectors whose extraction is determined by the files they report can be reused, not ones that run executables such as npm ls, which also depend on installed packages.
+// Their fingerprint covers the content of those files and the names in their directory.
+public class DetectorSnapshotManager implements PreviousExtractionProvider {
+    private static final String SNAPSHOT_DIRECTORY_NAME = "detector-snapshots";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File snapshotFile;
+    private final String runKey;
+    private final Gson gson;
+    private final ExtractionSnapshotConverter extractionSnapshotConverter = new ExtractionSnapshotConverter();
+
+    private final Map<String, DetectorSnapshotEntry> previousEntries = new HashMap<>();
+    private final Map<DetectorEvaluation, String> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicInteger reusedCount = new AtomicInteger();
+
+    public DetectorSnapshotManager(final File snapshotFile, final String runKey, final Gson gson) {
+        this.snapshotFile = snapshotFile;
+        this.runKey = runKey;
+        this.gson = gson;
+    }
+
+    public static File findSnapshotFile(final File permanentDirectory, final File sourceDirectory) {
+        return new File(new File(permanentDirectory, SNAPSHOT_DIRECTORY_NAME), DigestUtil.sha256(sourceDirectory.getAbsolutePath()) + ".json");
+    }
+
+    public void load() {
+        if (!snapshotFile.isFile()) {
+            logger.debug("No detector snapshot was found, every detector will be extracted: " + snapshotFile.getPath());
+            return;
+        }
+
+        try (final Reader reader = Files.newBufferedReader(snapshotFile.toPath(), StandardCharsets.UTF_8)) {
+            final DetectorSnapshot snapshot = gson.fromJson(reader, DetectorSnapshot.class);
+            if (snapshot == null || !runKey.equals(snapshot.getRunKey()) || snapshot.getEntries() == null) {
+                logger.debug("The detector snapshot was created by a different version of detect or detector configuration, every detector will be extracted.");
+                return;
+            }
+            for (final DetectorSnapshotEntry entry : snapshot.getEntries()) {
+                previousEntries.put(entryKey(entry.getDirectory(), entry.getDetectorName()), entry);
+            }
+            logger.debug(String.format("Loaded %d detector extractions from the detector snapshot.", previousEntries.size()));
+        } catch (final IOException | JsonParseException e) {
+            logger.warn("The detector snapshot could not be read, every detector will be extracted: " + e.getMessage());
+            previousEntries.clear();
+        }
+    }
+
+    @Override
+    public Optional<Extraction> findPreviousExtraction(final DetectorEvaluation detectorEvaluation) {
+        final Optional<String> fingerprint = createFingerprint(detectorEvaluation);
+        if (!fingerprint.isPresent()) {
+            return Optional.empty();
+        }
+        fingerprints.put(detectorEvaluation, fingerprint.get());
+
+        final DetectorSnapshotEntry entry = previousEntries.get(entryKey(directoryOf(detectorEvaluation), detectorEvaluation.getDetectorRule().getDescriptiveName()));
+        if (entry == null || !fingerprint.get().equals(entry.getFingerprint()) || entry.getExtraction() == null) {
+            return Optional.empty();
+        }
+
+        reusedCount.incrementAndGet();
+        return Optional.of(extractionSnapshotConverter.toExtraction(entry.getExtraction()));
+    }
+
+    // Replaces the snapshot with the successful extractions of this run, so detectors that no longer apply are forgotten.
+    public void save(final DetectorEvaluationTree rootEvaluation) {
+        final List<DetectorSnapshotEntry> entries = new ArrayList<>();
+        for (final DetectorEvaluation detectorEvaluation : rootEvaluation.allDescendentEvaluations()) {
+            final String fingerprint = fingerprints.get(detectorEvaluation);
+            if (fingerprint == null || detectorEvaluation.getExtraction() == null) {
+                continue;
+            }
+            extractionSnapshotConverter.toSnapshot(detectorEvaluation.getExtraction())
+                .map(extraction -> new DetectorSnapshotEntry(directoryOf(detectorEvaluation), detectorEvaluation.getDetectorRule().getDescriptiveName(), fingerprint, extraction))
+                .ifPresent(entries::add);
+        }
+
+        logger.debug(String.format("Reused %d detector extractions from the previous run, saving %d to the detector snapshot.", reusedCount.get(), entries.size()));
+        final Path snapshotPath = snapshotFile.toPath();
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            final Path temporaryPath = Files.createTempFile(snapshotPath.getParent(), snapshotFile.getName(), ".tmp");
+            try (final Writer writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+                gson.toJson(new DetectorSnapshot(runKey, entries), writer);
+            }
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            logger.warn("The detector snapshot could not be saved, the next run will extract every detector: " + e.getMessage());
+        }
+    }
+
+    public int getReusedCount() {
+        return reusedCount.get();
+    }
+
+    private Optional<String> createFingerprint(final DetectorEvaluation detectorEvaluation) {
+        final Detectable detectable = detectorEvaluation.getDetectable();
+        if (detectable == null || !detectable.isExtractionDeterminedByRelevantFiles() || detectable.getFoundRelevantFiles() == null || detectable.getFoundRelevantFiles().isEmpty()) {
+            return Optional.empty();
+        }
+
+        final File directory = new File(directoryOf(detectorEvaluation));
+        final String[] directoryEntries = directory.list();
+        if (directoryEntries == null) {
+            return Optional.empty();
+        }
+        Arrays.sort(directoryEntries);
+
+        final List<File> relevantFiles = new ArrayList<>(detectable.getFoundRelevantFiles());
+        relevantFiles.sort(Comparator.comparing(File::getAbsolutePath));
+
+        final MessageDigest digest = DigestUtil.createSha256();
+        DigestUtil.update(digest, directory.getAbsolutePath());
+        DigestUtil.update(digest, detectorEvaluation.getDetectorRule().getDescriptiveName());
+        // Entry names rather than modification times, so a fresh checkout of the same content still matches.
+        for (final String directoryEntry : directoryEntries) {
+            DigestUtil.update(digest, directoryEntry);
+        }
+        try {
+            for (final File relevantFile : relevantFiles) {
+                DigestUtil.update(digest, relevantFile.getAbsolutePath());
+                DigestUtil.update(digest, relevantFile);
+            }
+        } catch (final IOException e) {
+            logger.debug("A relevant file could not be read, the detector will be extracted: " + e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(DigestUtil.toHex(digest.digest()));
+    }
+
+    private String directoryOf(final DetectorEvaluation detectorEvaluation) {
+        return detectorEvaluation.getDetectableEnvironment().getDirectory().getAbsolutePath();
+    }
+
+    private String entryKey(final String directory, final String detectorName) {
+        return directory + "|" + detectorName;
+    }
+}
@@ -48,7 +48,8 @@ public class DiagnosticExecutableCapture {
         eventSystem.registerListener(Event.Executable, this::executableFinished);
     }
 
-    private void executableFinished(final ExecutableOutput executableOutput) {
+    // Synchronized because executables may finish on several threads at once.
+    private synchronized void executableFinished(final ExecutableOutput executableOutput) {
         final File errorOut = new File(executableDirectory, "EXE-" + executables + "-ERR.xout");
         final File standardOut = new File(executableDirectory, "EXE-" + executables + "-STD.xout");
         indexToCommand.put(executables, executableOutput.getCommandDescription());
@@ -22,13 +22,14 @@
  */
 package com.synopsys.integration.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+// Events may be published from extraction threads, so listeners can be looked up and registered concurrently.
 public class EventSystem {
-    private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    private final Map<EventType, List<EventListener>> eventListenerMap = new ConcurrentHashMap<>();
 
     public <T> void publishEvent(final EventType<T> event, final T payload) {
         for (final EventListener listener : safelyGetListeners(event)) {
@@ -45,13 +46,6 @@ public class EventSystem {
     }
 
     private List<EventListener> safelyGetListeners(final EventType event) {
-        final List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
-        }
-        return listeners;
+        return eventListenerMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>());
     }
 }
@@ -22,12 +22,16 @@
  */
 package com.synopsys.integration.detect.workflow.profiling;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorType;
 
@@ -36,11 +40,14 @@ public class DetectorProfiler {
     private final Timekeeper<DetectorEvaluation> extractableTimekeeper = new Timekeeper<>();
     private final Timekeeper<DetectorEvaluation> discoveryTimekeeper = new Timekeeper<>();
     private final Timekeeper<DetectorEvaluation> extractionTimekeeper = new Timekeeper<>();
+    private final List<ExecutableProfile> executableProfiles = new CopyOnWriteArrayList<>();
+    private final DetectorThreadContext detectorThreadContext;
 
     private final EventSystem eventSystem;
 
-    public DetectorProfiler(final EventSystem eventSystem) {
+    public DetectorProfiler(final EventSystem eventSystem, final DetectorThreadContext detectorThreadContext) {
         this.eventSystem = eventSystem;
+        this.detectorThreadContext = detectorThreadContext;
 
         eventSystem.registerListener(Event.ApplicableStarted, this::applicableStarted);
         eventSystem.registerListener(Event.ApplicableEnded, this::applicableEnded);
@@ -50,6 +57,7 @@ public class DetectorProfiler {
         eventSystem.registerListener(Event.DiscoveryEnded, this::discoveryEnded);
         eventSystem.registerListener(Event.ExtractionStarted, this::extractionStarted);
         eventSystem.registerListener(Event.ExtractionEnded, this::extractionEnded);
+        eventSystem.registerListener(Event.Executable, this::executableFinished);
         eventSystem.registerListener(Event.DetectorsComplete, event -> detectorsComplete());
     }
 
@@ -85,6 +93,11 @@ public class DetectorProfiler {
         extractionTimekeeper.ended(evaluation);
     }
 
+    private void executableFinished(final ExecutableOutput executableOutput) {
+        executableOutput.getResourceUsage()
+            .ifPresent(resourceUsage -> executableProfiles.add(new ExecutableProfile(detectorThreadContext.getCurrentEvaluation().orElse(null), executableOutput.getCommandDescription(), resourceUsage)));
+    }
+
     public List<Timing<DetectorEvaluation>> getApplicableTimings() {
         return applicableTimekeeper.getTimings();
     }
@@ -101,8 +114,13 @@ public class DetectorProfiler {
         return extractionTimekeeper.getTimings();
     }
 
+    public List<ExecutableProfile> getExecutableProfiles() {
+        return new ArrayList<>(executableProfiles);
+    }
+
     public void detectorsComplete() {
-        final DetectorTimings timings = new DetectorTimings(getAggregateDetectorGroupTimes(), getApplicableTimings(), getExtractableTimings(), getDiscoveryTimings(), getExtractionTimings());
+        final DetectorTimings timings = new DetectorTimings(getAggregateDetectorGroupTimes(), getApplicableTimings(), getExtractableTimings(), getDiscoveryTimings(), getExtractionTimings(),
+            getExecutableProfiles());
         eventSystem.publishEvent(Event.DetectorsProfiled, timings);
     }
 
@@ -34,15 +34,17 @@ public class DetectorTimings {
     private final List<Timing<DetectorEvaluation>> extractableTimings;
     private final List<Timing<DetectorEvaluation>> discoveryTimings;
     private final List<Timing<DetectorEvaluation>> extractionTimings;
+    private final List<ExecutableProfile> executableProfiles;
 
     public DetectorTimings(final Map<DetectorType, Long> aggregateTimings, final List<Timing<DetectorEvaluation>> applicableTimings,
         final List<Timing<DetectorEvaluation>> extractableTimings, final List<Timing<DetectorEvaluation>> discoveryTimings,
-        final List<Timing<DetectorEvaluation>> extractionTimings) {
+        final List<Timing<DetectorEvaluation>> extractionTimings, final List<ExecutableProfile> executableProfiles) {
         this.aggregateTimings = aggregateTimings;
         this.applicableTimings = applicableTimings;
         this.extractableTimings = extractableTimings;
         this.discoveryTimings = discoveryTimings;
         this.extractionTimings = extractionTimings;
+        this.executableProfiles = executableProfiles;
     }
 
     public Map<DetectorType, Long> getAggregateTimings() {
@@ -64,4 +66,8 @@ public class DetectorTimings {
     public List<Timing<DetectorEvaluation>> getDiscoveryTimings() {
         return discoveryTimings;
     }
+
+    public List<ExecutableProfile> getExecutableProfiles() {
+        return executableProfiles;
+    }
 }
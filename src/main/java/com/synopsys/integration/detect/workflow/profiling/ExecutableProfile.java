@@ -0,0 +1,56 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detectable.detectable.executable.ExecutableResourceUsage;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+
+public class ExecutableProfile {
+    @Nullable
+    private final DetectorEvaluation detectorEvaluation;
+    private final String commandDescription;
+    private final ExecutableResourceUsage resourceUsage;
+
+    public ExecutableProfile(@Nullable final DetectorEvaluation detectorEvaluation, final String commandDescription, final ExecutableResourceUsage resourceUsage) {
+        this.detectorEvaluation = detectorEvaluation;
+        this.commandDescription = commandDescription;
+        this.resourceUsage = resourceUsage;
+    }
+
+    // Empty when the executable was not run by a detector.
+    public Optional<DetectorEvaluation> getDetectorEvaluation() {
+        return Optional.ofNullable(detectorEvaluation);
+    }
+
+    public String getCommandDescription() {
+        return commandDescription;
+    }
+
+    public ExecutableResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+}
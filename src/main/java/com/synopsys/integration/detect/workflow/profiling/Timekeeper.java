@@ -29,11 +29,12 @@ import java.util.Map;
 
 import org.apache.commons.lang3.time.StopWatch;
 
+// Detectors may be evaluated and extracted on several threads, so the stop watches are only touched while holding this.
 public class Timekeeper<T> {
 
     private final Map<T, StopWatch> stopWatches = new HashMap<>();
 
-    private StopWatch getStopWatch(final T key) {
+    private synchronized StopWatch getStopWatch(final T key) {
         if (stopWatches.containsKey(key)) {
             return stopWatches.get(key);
         } else {
@@ -51,7 +52,7 @@ public class Timekeeper<T> {
         getStopWatch(key).stop();
     }
 
-    public List<Timing<T>> getTimings() {
+    public synchronized List<Timing<T>> getTimings() {
         final List<Timing<T>> bomToolTimings = new ArrayList<>();
         for (final T key : stopWatches.keySet()) {
             final StopWatch sw = stopWatches.get(key);
@@ -27,8 +27,10 @@ import java.util.List;
 import java.util.Map;
 
 import com.synopsys.integration.detect.workflow.profiling.DetectorTimings;
+import com.synopsys.integration.detect.workflow.profiling.ExecutableProfile;
 import com.synopsys.integration.detect.workflow.profiling.Timing;
 import com.synopsys.integration.detect.workflow.report.writer.ReportWriter;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableResourceUsage;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 
 public class ProfilingReporter {
@@ -48,6 +50,23 @@ public class ProfilingReporter {
         writer.writeLine("Extraction Times");
         writer.writeSeparator();
         writeReport(writer, detectorTimings.getExtractionTimings());
+        writer.writeSeparator();
+        writer.writeLine("Executable Times (wall ms, cpu ms, peak rss kB)");
+        writer.writeSeparator();
+        writeExecutableReport(writer, detectorTimings.getExecutableProfiles());
+    }
+
+    private void writeExecutableReport(final ReportWriter writer, final List<ExecutableProfile> executableProfiles) {
+        for (final ExecutableProfile executableProfile : executableProfiles) {
+            final String detectorName = executableProfile.getDetectorEvaluation()
+                                            .map(evaluation -> evaluation.getDetectorRule().getDescriptiveName())
+                                            .orElse("");
+            final ExecutableResourceUsage resourceUsage = executableProfile.getResourceUsage();
+            final String cpuTime = resourceUsage.getCpuTimeMillis().map(String::valueOf).orElse("?");
+            final String peakResidentSet = resourceUsage.getPeakResidentSetKilobytes().map(String::valueOf).orElse("?");
+            final String timedOut = resourceUsage.isTimedOut() ? "\tTIMED OUT" : "";
+            writer.writeLine("\t" + padToLength(detectorName, 30) + "\t" + resourceUsage.getWallTimeMillis() + "\t" + cpuTime + "\t" + peakResidentSet + timedOut + "\t" + executableProfile.getCommandDescription());
+        }
     }
 
     private void writeAggregateReport(final ReportWriter writer, final List<Timing<DetectorEvaluation>> timings) {
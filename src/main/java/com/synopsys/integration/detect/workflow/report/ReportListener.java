@@ -24,6 +24,9 @@ package com.synopsys.integration.detect.workflow.report;
 
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.synopsys.integration.detect.tool.detector.DetectorIssuePublisher;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
@@ -32,10 +35,13 @@ import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.report.writer.DebugLogReportWriter;
 import com.synopsys.integration.detect.workflow.report.writer.ReportWriter;
 import com.synopsys.integration.detect.workflow.report.writer.TraceLogReportWriter;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageResolutionProgress;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 
 public class ReportListener {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     // all entry points to reporting
     private final EventSystem eventSystem;
 
@@ -82,6 +88,8 @@ public class ReportListener {
         eventSystem.registerListener(Event.ExtractionStarted, this::exractionStarted);
         eventSystem.registerListener(Event.ExtractionEnded, this::exractionEnded);
 
+        eventSystem.registerListener(Event.ClangPackageResolutionProgress, this::clangPackageResolutionProgress);
+
     }
 
     // Reports
@@ -119,6 +127,10 @@ public class ReportListener {
         extractionLogger.extractionEnded(detectorEvaluation);
     }
 
+    public void clangPackageResolutionProgress(final ClangPackageResolutionProgress progress) {
+        logger.info(String.format("Found the packages of %d of %d dependency files.", progress.getResolvedFileCount(), progress.getTotalFileCount()));
+    }
+
     private DetectorToolResult detectorToolResult;
 
     public void bomToolsComplete(final DetectorToolResult detectorToolResult) {
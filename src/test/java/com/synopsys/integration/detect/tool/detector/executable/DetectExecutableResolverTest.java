@@ -0,0 +1,170 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+
+public class DetectExecutableResolverTest {
+    @Test
+    public void systemPathPrefersEarliestLocation(@TempDir final Path tempDirectory) throws IOException {
+        final File first = Files.createDirectory(tempDirectory.resolve("first")).toFile();
+        final File second = Files.createDirectory(tempDirectory.resolve("second")).toFile();
+        final File missing = tempDirectory.resolve("missing").toFile();
+        createExecutable(second, "git");
+        final File firstGit = createExecutable(first, "git");
+        final File secondJava = createExecutable(second, "java");
+
+        final String systemPath = String.join(File.pathSeparator, missing.getPath(), first.getPath(), second.getPath());
+        final SystemPathExecutableFinder finder = new SystemPathExecutableFinder(new DirectoryExecutableFinder(Collections.emptyList(), new WildcardFileFinder()), systemPath);
+
+        assertEquals(firstGit, finder.findExecutable("git"));
+        assertEquals(secondJava, finder.findExecutable("java"));
+        assertNull(finder.findExecutable("bash"));
+    }
+
+    @Test
+    public void systemPathPrefersLocationOverExtension(@TempDir final Path tempDirectory) throws IOException {
+        final File first = Files.createDirectory(tempDirectory.resolve("first")).toFile();
+        final File second = Files.createDirectory(tempDirectory.resolve("second")).toFile();
+        createExecutable(second, "npm.cmd");
+        final File firstNpm = createExecutable(first, "npm.exe");
+
+        final String systemPath = String.join(File.pathSeparator, first.getPath(), second.getPath());
+        final DirectoryExecutableFinder directoryExecutableFinder = new DirectoryExecutableFinder(Arrays.asList(".cmd", ".bat", ".exe"), new WildcardFileFinder());
+        final SystemPathExecutableFinder finder = new SystemPathExecutableFinder(directoryExecutableFinder, systemPath);
+
+        assertEquals(firstNpm, finder.findExecutable("npm"));
+    }
+
+    // Build tool resolution: a project's wrapper comes first, then the tool on the system path, and an explicit user path overrides both.
+    @Test
+    public void gradleWrapperPreferredOverSystemGradle(@TempDir final Path tempDirectory) throws IOException, DetectableException {
+        final File bin = Files.createDirectory(tempDirectory.resolve("bin")).toFile();
+        final File wrapped = Files.createDirectory(tempDirectory.resolve("wrapped")).toFile();
+        final File unwrapped = Files.createDirectory(tempDirectory.resolve("unwrapped")).toFile();
+        final File gradle = createExecutable(bin, "gradle");
+        final File gradlew = createExecutable(wrapped, "gradlew");
+
+        final DetectExecutableResolver resolver = createResolver(bin, Mockito.mock(DetectExecutableOptions.class));
+
+        assertEquals(gradlew, resolver.resolveGradle(new DetectableEnvironment(wrapped)));
+        assertEquals(gradle, resolver.resolveGradle(new DetectableEnvironment(unwrapped)));
+    }
+
+    @Test
+    public void mavenWrapperPreferredOverSystemMaven(@TempDir final Path tempDirectory) throws IOException, DetectableException {
+        final File bin = Files.createDirectory(tempDirectory.resolve("bin")).toFile();
+        final File wrapped = Files.createDirectory(tempDirectory.resolve("wrapped")).toFile();
+        final File unwrapped = Files.createDirectory(tempDirectory.resolve("unwrapped")).toFile();
+        final File mvn = createExecutable(bin, "mvn");
+        final File mvnw = createExecutable(wrapped, "mvnw");
+
+        final DetectExecutableResolver resolver = createResolver(bin, Mockito.mock(DetectExecutableOptions.class));
+
+        assertEquals(mvnw, resolver.resolveMaven(new DetectableEnvironment(wrapped)));
+        assertEquals(mvn, resolver.resolveMaven(new DetectableEnvironment(unwrapped)));
+    }
+
+    @Test
+    public void mavenExecutableIsMvn(@TempDir final Path tempDirectory) throws IOException, DetectableException {
+        final File bin = Files.createDirectory(tempDirectory.resolve("bin")).toFile();
+        final File project = Files.createDirectory(tempDirectory.resolve("project")).toFile();
+        createExecutable(bin, "maven");
+        createExecutable(project, "maven");
+
+        final DetectExecutableResolver resolver = createResolver(bin, Mockito.mock(DetectExecutableOptions.class));
+
+        assertNull(resolver.resolveMaven(new DetectableEnvironment(project)));
+    }
+
+    @Test
+    public void userPathPreferredOverWrapper(@TempDir final Path tempDirectory) throws IOException, DetectableException {
+        final File bin = Files.createDirectory(tempDirectory.resolve("bin")).toFile();
+        final File wrapped = Files.createDirectory(tempDirectory.resolve("wrapped")).toFile();
+        final File userGradle = createExecutable(bin, "user-gradle");
+        final File userMaven = createExecutable(bin, "user-maven");
+        createExecutable(wrapped, "gradlew");
+        createExecutable(wrapped, "mvnw");
+        final DetectExecutableOptions userPaths = Mockito.mock(DetectExecutableOptions.class);
+        Mockito.when(userPaths.getGradleUserPath()).thenReturn(userGradle.toPath());
+        Mockito.when(userPaths.getMavenUserPath()).thenReturn(userMaven.toPath());
+
+        final DetectExecutableResolver resolver = createResolver(bin, userPaths);
+
+        assertEquals(userGradle, resolver.resolveGradle(new DetectableEnvironment(wrapped)));
+        assertEquals(userMaven, resolver.resolveMaven(new DetectableEnvironment(wrapped)));
+    }
+
+    @Test
+    public void mavenDaemonPreferredOverSystemMavenWhenEnabled(@TempDir final Path tempDirectory) throws IOException, DetectableException {
+        final File bin = Files.createDirectory(tempDirectory.resolve("bin")).toFile();
+        final File wrapped = Files.createDirectory(tempDirectory.resolve("wrapped")).toFile();
+        final File unwrapped = Files.createDirectory(tempDirectory.resolve("unwrapped")).toFile();
+        final File mvn = createExecutable(bin, "mvn");
+        final File mvnd = createExecutable(bin, "mvnd");
+        final File mvnw = createExecutable(wrapped, "mvnw");
+
+        final DirectoryExecutableFinder directoryExecutableFinder = new DirectoryExecutableFinder(Collections.emptyList(), new WildcardFileFinder());
+        final SystemPathExecutableFinder systemPathExecutableFinder = new SystemPathExecutableFinder(directoryExecutableFinder, bin.getPath());
+        final DetectExecutableOptions daemonPreferred = Mockito.mock(DetectExecutableOptions.class);
+        Mockito.when(daemonPreferred.isMavenDaemonPreferred()).thenReturn(true);
+
+        final DetectExecutableResolver defaultResolver = new DetectExecutableResolver(directoryExecutableFinder, systemPathExecutableFinder, Mockito.mock(DetectExecutableOptions.class));
+        final DetectExecutableResolver daemonResolver = new DetectExecutableResolver(directoryExecutableFinder, systemPathExecutableFinder, daemonPreferred);
+
+        assertEquals(mvn, defaultResolver.resolveMaven(new DetectableEnvironment(unwrapped)));
+        assertEquals(mvnd, daemonResolver.resolveMaven(new DetectableEnvironment(unwrapped)));
+        assertEquals(mvnw, defaultResolver.resolveMaven(new DetectableEnvironment(wrapped)));
+        assertEquals(mvnw, daemonResolver.resolveMaven(new DetectableEnvironment(wrapped)));
+    }
+
+    private DetectExecutableResolver createResolver(final File systemPath, final DetectExecutableOptions detectExecutableOptions) {
+        final DirectoryExecutableFinder directoryExecutableFinder = new DirectoryExecutableFinder(Collections.emptyList(), new WildcardFileFinder());
+        final SystemPathExecutableFinder systemPathExecutableFinder = new SystemPathExecutableFinder(directoryExecutableFinder, systemPath.getPath());
+        return new DetectExecutableResolver(directoryExecutableFinder, systemPathExecutableFinder, detectExecutableOptions);
+    }
+
+    private File createExecutable(final File directory, final String name) throws IOException {
+        final File executable = new File(directory, name);
+        Files.write(executable.toPath(), Collections.singletonList("#!/bin/sh"));
+        Assumptions.assumeTrue(executable.setExecutable(true), "The executable bit could not be set.");
+        return executable;
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+
+@DisabledOnOs(OS.WINDOWS)
+public class DetectExecutableRunnerTest {
+    @Test
+    public void streamedOutputIsConsumedAndItsTailPublished() throws ExecutableRunnerException {
+        final EventSystem eventSystem = new EventSystem();
+        final List<ExecutableOutput> published = new ArrayList<>();
+        eventSystem.registerListener(Event.Executable, published::add);
+        final DetectExecutableRunner runner = DetectExecutableRunner.newDebug(eventSystem);
+
+        final List<String> consumed = new ArrayList<>();
+        final ExecutableOutput output = runner.execute(shell("echo first; echo '[ERROR] second'; exit 1"), consumed::add);
+
+        assertEquals(Arrays.asList("first", "[ERROR] second"), consumed);
+        assertEquals(1, output.getReturnCode());
+        assertTrue(output.getStandardOutput().contains("[ERROR] second"));
+        assertEquals(Collections.singletonList(output), published);
+    }
+
+    @Test
+    public void failingConsumerSurfacesAsRunnerException() {
+        final DetectExecutableRunner runner = DetectExecutableRunner.newDebug(new EventSystem());
+
+        final ExecutableRunnerException exception = assertThrows(ExecutableRunnerException.class, () -> runner.execute(shell("for i in 1 2 3; do echo line $i; done"), line -> {
+            throw new IllegalStateException("unparseable " + line);
+        }));
+
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    private Executable shell(final String script) {
+        return new Executable(new File("."), Collections.emptyMap(), "sh", Arrays.asList("-c", script));
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ExecutableStreamReaderTest {
+    @Test
+    public void streamedOutputKeepsOnlyItsTail() {
+        final int lineCount = ExecutableStreamReader.STREAMED_OUTPUT_TAIL_LINES + 50;
+        final List<String> consumed = new ArrayList<>();
+        final ExecutableStreamReader reader = new ExecutableStreamReader(stream(lineCount), consumed::add, line -> {}, line -> {});
+        reader.run();
+
+        assertEquals(lineCount, consumed.size());
+        final String[] kept = reader.getExecutableOutput().split(System.lineSeparator());
+        assertEquals(ExecutableStreamReader.STREAMED_OUTPUT_TAIL_LINES, kept.length);
+        assertEquals("line 50", kept[0]);
+        assertEquals("line " + (lineCount - 1), kept[kept.length - 1]);
+        assertFalse(reader.getLineConsumerException().isPresent());
+    }
+
+    @Test
+    public void failingConsumerStillDrainsTheStream() {
+        final List<String> logged = new ArrayList<>();
+        final RuntimeException failure = new IllegalStateException("bad line");
+        final ExecutableStreamReader reader = new ExecutableStreamReader(stream(10), line -> {
+            throw failure;
+        }, logged::add, line -> {});
+        reader.run();
+
+        assertEquals(10, logged.size());
+        assertTrue(reader.getLineConsumerException().isPresent());
+        assertEquals(failure, reader.getLineConsumerException().get());
+        assertTrue(reader.getExecutableOutput().endsWith("line 9"));
+    }
+
+    private ByteArrayInputStream stream(final int lineCount) {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        return new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detect.tool.detector.DetectorThreadContext;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class ExecutableTimeoutPolicyTest {
+    @Test
+    public void executableLimitWinsOverDetectorLimitWhichWinsOverDefault() {
+        final Map<String, Long> executableTimeouts = new HashMap<>();
+        executableTimeouts.put("gradlew", 60L);
+        executableTimeouts.put("git", 0L);
+        final Map<DetectorType, Long> detectorTimeouts = new EnumMap<>(DetectorType.class);
+        detectorTimeouts.put(DetectorType.GRADLE, 30L);
+        final EventSystem eventSystem = new EventSystem();
+        final ExecutableTimeoutPolicy policy = new ExecutableTimeoutPolicy(new ExecutableTimeoutOptions(10, executableTimeouts, detectorTimeouts), new DetectorThreadContext(eventSystem));
+
+        assertEquals(Optional.of(10L), policy.findTimeoutSeconds(executable("/usr/bin/java")));
+
+        final DetectorEvaluation gradleEvaluation = evaluation(DetectorType.GRADLE);
+        eventSystem.publishEvent(Event.ExtractionStarted, gradleEvaluation);
+        assertEquals(Optional.of(60L), policy.findTimeoutSeconds(executable("/project/gradlew.bat")));
+        assertEquals(Optional.of(30L), policy.findTimeoutSeconds(executable("/usr/bin/java")));
+        assertEquals(Optional.empty(), policy.findTimeoutSeconds(executable("/usr/bin/git")));
+        eventSystem.publishEvent(Event.ExtractionEnded, gradleEvaluation);
+
+        assertEquals(Optional.of(10L), policy.findTimeoutSeconds(executable("/usr/bin/java")));
+    }
+
+    @Test
+    public void detectorLimitFollowsPropagatedWorkToOtherThreads() throws Exception {
+        final Map<DetectorType, Long> detectorTimeouts = new EnumMap<>(DetectorType.class);
+        detectorTimeouts.put(DetectorType.CLANG, 30L);
+        final EventSystem eventSystem = new EventSystem();
+        final DetectorThreadContext detectorThreadContext = new DetectorThreadContext(eventSystem);
+        final ExecutableTimeoutPolicy policy = new ExecutableTimeoutPolicy(new ExecutableTimeoutOptions(10, Collections.emptyMap(), detectorTimeouts), detectorThreadContext);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final DetectorEvaluation clangEvaluation = evaluation(DetectorType.CLANG);
+            eventSystem.publishEvent(Event.ExtractionStarted, clangEvaluation);
+            final Callable<Optional<Long>> findTimeout = () -> policy.findTimeoutSeconds(executable("/usr/bin/dpkg"));
+            assertEquals(Optional.of(10L), executorService.submit(findTimeout).get());
+            assertEquals(Optional.of(30L), executorService.submit(detectorThreadContext.propagate(findTimeout)).get());
+            eventSystem.publishEvent(Event.ExtractionEnded, clangEvaluation);
+
+            assertEquals(Optional.of(10L), executorService.submit(findTimeout).get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void noneHasNoLimit() {
+        assertEquals(Optional.empty(), ExecutableTimeoutPolicy.none().findTimeoutSeconds(executable("/usr/bin/bazel")));
+    }
+
+    private Executable executable(final String path) {
+        return new Executable(new File("."), Collections.emptyMap(), path, Collections.emptyList());
+    }
+
+    private DetectorEvaluation evaluation(final DetectorType detectorType) {
+        final DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDetectorType()).thenReturn(detectorType);
+        final DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        return detectorEvaluation;
+    }
+}
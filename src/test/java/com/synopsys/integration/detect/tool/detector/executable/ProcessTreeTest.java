@@ -0,0 +1,77 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProcessTreeTest {
+    @Test
+    public void findsDescendantsParentsFirst(@TempDir final Path procDirectory) throws IOException {
+        writeProcess(procDirectory, 10, "(java)", 1, 0, 0, 0);
+        writeProcess(procDirectory, 11, "(gradle (daemon))", 10, 0, 0, 0);
+        writeProcess(procDirectory, 12, "(sh)", 11, 0, 0, 0);
+        writeProcess(procDirectory, 13, "(unrelated)", 1, 0, 0, 0);
+        Files.createDirectory(procDirectory.resolve("self"));
+
+        final ProcessTree processTree = new ProcessTree(procDirectory);
+
+        assertEquals(Arrays.asList(10L, 11L, 12L), processTree.findTree(10));
+        assertEquals(Arrays.asList(12L), processTree.findTree(12));
+    }
+
+    @Test
+    public void samplesCpuTimeAndResidentSet(@TempDir final Path procDirectory) throws IOException {
+        writeProcess(procDirectory, 20, "(a) b)", 1, 150, 50, 2048);
+
+        final Optional<ProcessTree.ProcessSample> sample = new ProcessTree(procDirectory).sample(20);
+
+        assertTrue(sample.isPresent());
+        assertEquals(2000, sample.get().getCpuTimeMillis());
+        assertEquals(2048, sample.get().getResidentSetKilobytes());
+    }
+
+    @Test
+    public void missingProcessHasNoSample(@TempDir final Path procDirectory) {
+        assertFalse(new ProcessTree(procDirectory).sample(30).isPresent());
+    }
+
+    private void writeProcess(final Path procDirectory, final long pid, final String command, final long parentPid, final long userTicks, final long systemTicks, final long residentSetKilobytes) throws IOException {
+        final Path processDirectory = Files.createDirectory(procDirectory.resolve(Long.toString(pid)));
+        final String stat = String.format("%d %s S %d %d %d 0 -1 4194304 81 0 0 0 %d %d 0 0 20 0 1 0 568753 2703360 286\n", pid, command, parentPid, pid, pid, userTicks, systemTicks);
+        Files.write(processDirectory.resolve("stat"), stat.getBytes(StandardCharsets.UTF_8));
+        final String status = String.format("Name:\t%s\nVmPeak:\t    9999 kB\nVmRSS:\t    %d kB\nThreads:\t1\n", command, residentSetKilobytes);
+        Files.write(processDirectory.resolve("status"), status.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detect.tool.detector.file.WildcardNameMatcher;
+
+class WildcardNameMatcherTest {
+    private static final List<String> PATTERNS = Arrays.asList("node_modules", "*.git", "build*", "te?t", "*a*b*", "**x", "?", "a*?c");
+    private static final List<String> NAMES = Arrays.asList("node_modules", "Node_Modules", "node_modules2", ".git", "repo.git", "git", "build", "buildSrc", "rebuild", "test", "text", "tet", "ab", "xaxxbx", "ba", "x", "xx", "y", "", "abc", "ac",
+        "aXc");
+
+    @Test
+    void testMatchesLikeWildcardMatch() {
+        assertMatchesLikeWildcardMatch(IOCase.SENSITIVE);
+        assertMatchesLikeWildcardMatch(IOCase.INSENSITIVE);
+    }
+
+    @Test
+    void testEachPatternAlone() {
+        for (final String pattern : PATTERNS) {
+            final WildcardNameMatcher matcher = new WildcardNameMatcher(Collections.singletonList(pattern), true);
+            for (final String name : NAMES) {
+                Assertions.assertEquals(FilenameUtils.wildcardMatch(name, pattern, IOCase.SENSITIVE), matcher.matches(name), pattern + " against " + name);
+            }
+        }
+    }
+
+    @Test
+    void testEmptyMatchesNothing() {
+        final WildcardNameMatcher matcher = new WildcardNameMatcher(Collections.emptyList(), true);
+
+        Assertions.assertTrue(matcher.isEmpty());
+        Assertions.assertFalse(matcher.matches("anything"));
+    }
+
+    private void assertMatchesLikeWildcardMatch(final IOCase ioCase) {
+        final WildcardNameMatcher matcher = new WildcardNameMatcher(PATTERNS, ioCase.isCaseSensitive());
+        // Asking twice exercises the cached transitions as well as the first construction.
+        for (int pass = 0; pass < 2; pass++) {
+            for (final String name : NAMES) {
+                final boolean expected = PATTERNS.stream().anyMatch(pattern -> FilenameUtils.wildcardMatch(name, pattern, ioCase));
+                Assertions.assertEquals(expected, matcher.matches(name), name);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.GemlockDetectable;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class DetectorSnapshotManagerTest {
+    private static final String RUN_KEY = "run-key";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void unchangedFilesReuseTheExtraction() throws IOException {
+        final File packageJson = writeRelevantFile("{ \"version\": \"1.0.0\" }");
+        saveSnapshot(evaluation(packageJson, true, extraction("project")));
+
+        final Optional<Extraction> reused = loadedManager().findPreviousExtraction(evaluation(packageJson, true, null));
+
+        assertTrue(reused.isPresent());
+        assertEquals("project", reused.get().getProjectName());
+    }
+
+    @Test
+    public void noSnapshotIsAMiss() throws IOException {
+        final File packageJson = writeRelevantFile("{ \"version\": \"1.0.0\" }");
+
+        final DetectorSnapshotManager manager = loadedManager();
+
+        assertFalse(manager.findPreviousExtraction(evaluation(packageJson, true, null)).isPresent());
+        assertEquals(0, manager.getReusedCount());
+    }
+
+    @Test
+    public void changedFileInvalidatesTheExtraction() throws IOException {
+        final File packageJson = writeRelevantFile("{ \"version\": \"1.0.0\" }");
+        saveSnapshot(evaluation(packageJson, true, extraction("project")));
+
+        writeRelevantFile("{ \"version\": \"2.0.0\" }");
+
+        assertFalse(loadedManager().findPreviousExtraction(evaluation(packageJson, true, null)).isPresent());
+    }
+
+    @Test
+    public void differentRunKeyInvalidatesTheSnapshot() throws IOException {
+        final File packageJson = writeRelevantFile("{ \"version\": \"1.0.0\" }");
+        saveSnapshot(evaluation(packageJson, true, extraction("project")));
+
+        final DetectorSnapshotManager manager = new DetectorSnapshotManager(snapshotFile(), "other-run-key", new Gson());
+        manager.load();
+
+        assertFalse(manager.findPreviousExtraction(evaluation(packageJson, true, null)).isPresent());
+    }
+
+    @Test
+    public void executableDetectablesAreNeverReused() throws IOException {
+        final File packageJson = writeRelevantFile("{ \"name\": \"project\" }");
+        saveSnapshot(evaluation(packageJson, false, extraction("project")));
+
+        assertFalse(loadedManager().findPreviousExtraction(evaluation(packageJson, false, null)).isPresent());
+    }
+
+    @Test
+    public void lockFileDetectablesReuseTheExtraction() throws IOException {
+        final File gemlock = writeSourceFile(GemlockDetectable.GEMFILE_LOCK_FILENAME, "GEM\n  specs:\n    rake (13.0.1)\n");
+        saveSnapshot(evaluation(applicableGemlock(gemlock), "RUBYGEMS - Gemlock", extraction("gems")));
+
+        final DetectorSnapshotManager manager = loadedManager();
+        final Optional<Extraction> reused = manager.findPreviousExtraction(evaluation(applicableGemlock(gemlock), "RUBYGEMS - Gemlock", null));
+
+        assertTrue(reused.isPresent());
+        assertEquals("gems", reused.get().getProjectName());
+        assertEquals(1, manager.getReusedCount());
+    }
+
+    private void saveSnapshot(final DetectorEvaluation evaluation) {
+        final DetectorSnapshotManager manager = loadedManager();
+        manager.findPreviousExtraction(evaluation);
+        manager.save(tree(evaluation));
+    }
+
+    private DetectorSnapshotManager loadedManager() {
+        final DetectorSnapshotManager manager = new DetectorSnapshotManager(snapshotFile(), RUN_KEY, new Gson());
+        manager.load();
+        return manager;
+    }
+
+    private File snapshotFile() {
+        return tempDir.resolve("snapshots").resolve("snapshot.json").toFile();
+    }
+
+    private File writeRelevantFile(final String content) throws IOException {
+        return writeSourceFile("package.json", content);
+    }
+
+    private File writeSourceFile(final String fileName, final String content) throws IOException {
+        final Path source = Files.createDirectories(tempDir.resolve("source"));
+        return Files.write(source.resolve(fileName), content.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+
+    private Detectable applicableGemlock(final File gemlock) {
+        final GemlockDetectable detectable = new GemlockDetectable(new DetectableEnvironment(gemlock.getParentFile()), new WildcardFileFinder(), null);
+        assertTrue(detectable.applicable().getPassed());
+        return detectable;
+    }
+
+    private Extraction extraction(final String projectName) {
+        return new Extraction.Builder().success().projectName(projectName).build();
+    }
+
+    private DetectorEvaluation evaluation(final File relevantFile, final boolean determinedByRelevantFiles, final Extraction extraction) {
+        final Detectable detectable = Mockito.mock(Detectable.class);
+        Mockito.when(detectable.getFoundRelevantFiles()).thenReturn(Collections.singletonList(relevantFile));
+        Mockito.when(detectable.isExtractionDeterminedByRelevantFiles()).thenReturn(determinedByRelevantFiles);
+        return evaluation(detectable, "NPM - Package Json Parse", extraction);
+    }
+
+    private DetectorEvaluation evaluation(final Detectable detectable, final String detectorName, final Extraction extraction) {
+        final File directory = detectable.getFoundRelevantFiles().get(0).getParentFile();
+        final DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn(detectorName);
+
+        final DetectorEvaluation evaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(evaluation.getDetectable()).thenReturn(detectable);
+        Mockito.when(evaluation.getDetectorRule()).thenReturn(detectorRule);
+        Mockito.when(evaluation.getDetectableEnvironment()).thenReturn(new DetectableEnvironment(directory));
+        Mockito.when(evaluation.getExtraction()).thenReturn(extraction);
+        return evaluation;
+    }
+
+    private DetectorEvaluationTree tree(final DetectorEvaluation evaluation) {
+        final DetectorEvaluationTree tree = Mockito.mock(DetectorEvaluationTree.class);
+        Mockito.when(tree.allDescendentEvaluations()).thenReturn(Collections.singletonList(evaluation));
+        return tree;
+    }
+}